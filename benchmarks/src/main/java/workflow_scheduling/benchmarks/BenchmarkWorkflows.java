@@ -0,0 +1,45 @@
+// File: workflow_scheduling/benchmarks/BenchmarkWorkflows.java
+package workflow_scheduling.benchmarks;
+
+import java.util.Random;
+
+import workflow_scheduling.generator.LayeredShape;
+import workflow_scheduling.generator.WorkflowGenerator;
+import workflow_scheduling.generator.WorkflowShapes;
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * Reproducible workflows shared by the benchmarks
+ * The same shape, size and connectivity always give the same workflow, so results of
+ * different runs are comparable. Connectivity only applies to the layered shape.
+ */
+final class BenchmarkWorkflows {
+    /** Seed of every generated workflow */
+    static final int SEED = 42;
+    /** Transfer rate used to build graphs */
+    static final double TRANSFER_RATE = 10.0;
+
+    static final int MIN_EXEC_TIME = 10;
+    static final int MAX_EXEC_TIME = 100;
+    static final int MIN_DATA_AMOUNT = 1;
+    static final int MAX_DATA_AMOUNT = 100;
+
+    private BenchmarkWorkflows() {
+    }
+
+    /**
+     * Generates the benchmark workflow for a shape, size and connectivity
+     *
+     * @param shape Name of the shape, see WorkflowShapes
+     * @param nodes Number of nodes
+     * @param connectivity Connectivity level (0.0-1.0) of the layered shape
+     * @return The generated workflow
+     */
+    static WorkflowJson generate(String shape, int nodes, double connectivity) {
+        if (!LayeredShape.NAME.equalsIgnoreCase(shape)) {
+            return WorkflowShapes.forName(shape).generate("bench-" + nodes, nodes, new Random(SEED));
+        }
+        return new WorkflowGenerator(SEED).generateWorkflow("bench-" + nodes, nodes,
+            MIN_EXEC_TIME, MAX_EXEC_TIME, connectivity, MIN_DATA_AMOUNT, MAX_DATA_AMOUNT);
+    }
+}
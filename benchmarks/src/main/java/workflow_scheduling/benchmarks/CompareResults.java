@@ -0,0 +1,123 @@
+// File: workflow_scheduling/benchmarks/CompareResults.java
+package workflow_scheduling.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files and reports regressions
+ *
+ * Usage: CompareResults baseline.json current.json [threshold]
+ *
+ * A benchmark regresses if its throughput drops, or its allocation per operation
+ * (gc.alloc.rate.norm, recorded with -prof gc) grows, by more than the threshold
+ * (default 0.10) beyond the error of both measurements. Exits with status 1 if any
+ * benchmark regressed. Benchmarks of the current run that have no baseline result are
+ * listed as such, so that a baseline that needs to be re-recorded does not go unnoticed.
+ */
+public class CompareResults {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults baseline.json current.json [threshold]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        Map<String, JsonNode> baseline = readResults(new File(args[0]));
+        Map<String, JsonNode> current = readResults(new File(args[1]));
+
+        int regressions = 0;
+        int unmatched = 0;
+        System.out.printf("%-80s %14s %14s %8s %14s %8s%n",
+            "Benchmark", "Baseline", "Current", "Change", "Alloc B/op", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                JsonNode afterAlloc = after.path("secondaryMetrics").get(ALLOCATION_METRIC);
+                System.out.printf("%-80s %14s %14.3f %8s %14s %8s  NO BASELINE%n",
+                    entry.getKey(),
+                    "-",
+                    after.get("primaryMetric").get("score").asDouble(),
+                    "-",
+                    afterAlloc != null ? String.format("%.0f", afterAlloc.get("score").asDouble()) : "-",
+                    "-");
+                unmatched++;
+                continue;
+            }
+
+            JsonNode beforeScore = before.get("primaryMetric");
+            JsonNode afterScore = after.get("primaryMetric");
+            double change = relativeChange(beforeScore, afterScore);
+            boolean slower = -change > threshold && !overlap(beforeScore, afterScore);
+
+            JsonNode beforeAlloc = before.path("secondaryMetrics").get(ALLOCATION_METRIC);
+            JsonNode afterAlloc = after.path("secondaryMetrics").get(ALLOCATION_METRIC);
+            double allocChange = beforeAlloc != null && afterAlloc != null ? relativeChange(beforeAlloc, afterAlloc) : 0;
+            boolean moreAlloc = allocChange > threshold && !overlap(beforeAlloc, afterAlloc);
+
+            System.out.printf("%-80s %14.3f %14.3f %+7.1f%% %14s %s%s%n",
+                entry.getKey(),
+                beforeScore.get("score").asDouble(),
+                afterScore.get("score").asDouble(),
+                change * 100,
+                afterAlloc != null ? String.format("%.0f", afterAlloc.get("score").asDouble()) : "-",
+                afterAlloc != null ? String.format("%+7.1f%%", allocChange * 100) : "       -",
+                slower || moreAlloc ? "  REGRESSION" : "");
+            if (slower || moreAlloc) {
+                regressions++;
+            }
+        }
+
+        if (unmatched > 0) {
+            System.out.println(unmatched + " benchmark(s) without baseline");
+        }
+        System.out.println(regressions + " regression(s)");
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads a JMH JSON result file, keyed by benchmark name and parameters
+     */
+    private static Map<String, JsonNode> readResults(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String name = result.get("benchmark").asText();
+            name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            results.put(name + (params.isEmpty() ? "" : " " + params), result);
+        }
+        return results;
+    }
+
+    private static double relativeChange(JsonNode before, JsonNode after) {
+        double base = before.get("score").asDouble();
+        return base == 0 ? 0 : (after.get("score").asDouble() - base) / base;
+    }
+
+    /**
+     * Checks whether the error intervals of two measurements overlap
+     */
+    private static boolean overlap(JsonNode before, JsonNode after) {
+        double a = before.get("score").asDouble();
+        double b = after.get("score").asDouble();
+        double errorA = error(before);
+        double errorB = error(after);
+        return Math.abs(a - b) <= errorA + errorB;
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
@@ -0,0 +1,95 @@
+// File: workflow_scheduling/benchmarks/CpmBenchmark.java
+package workflow_scheduling.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import workflow_scheduling.algoritms.CpmAnalyzer;
+import workflow_scheduling.algoritms.CpmResult;
+import workflow_scheduling.algoritms.DataTransferCPM;
+import workflow_scheduling.algoritms.RankedPath;
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.Node;
+import workflow_scheduling.utils.WorkflowLoader;
+
+/**
+ * Both CPM engines, the extraction of the ordered critical path and the enumeration of
+ * the longest paths
+ * The compact graph and its topological order are built once per trial, as they are
+ * cached on the graph in normal use; each invocation runs a full analysis on them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class CpmBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int nodes;
+
+    @Param({"0.2", "0.5", "0.8"})
+    public double connectivity;
+
+    @Param({"layered"})
+    public String shape;
+
+    private CompactGraph graph;
+    private CpmAnalyzer analyzed;
+    private DataTransferCPM analyzedWithTransfers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = WorkflowLoader.createGraph(BenchmarkWorkflows.generate(shape, nodes, connectivity),
+            BenchmarkWorkflows.TRANSFER_RATE).getCompactGraph();
+        graph.getTopologicalOrder();
+
+        analyzed = new CpmAnalyzer(graph);
+        analyzed.calculateCriticalPath();
+        analyzedWithTransfers = new DataTransferCPM(graph);
+        analyzedWithTransfers.calculateCriticalPath();
+    }
+
+    @Benchmark
+    public CpmResult executionOnlyCpm() {
+        return new CpmAnalyzer(graph).calculateCriticalPath();
+    }
+
+    @Benchmark
+    public CpmResult dataTransferCpm() {
+        return new DataTransferCPM(graph).calculateCriticalPath();
+    }
+
+    @Benchmark
+    public List<Node> orderedCriticalPath() {
+        return analyzed.getOrderedCriticalPath();
+    }
+
+    @Benchmark
+    public List<Node> dataTransferOrderedCriticalPath() {
+        return analyzedWithTransfers.getOrderedCriticalPath();
+    }
+
+    @Benchmark
+    public List<RankedPath> longestPaths() {
+        return analyzed.getLongestPaths(1000);
+    }
+
+    @Benchmark
+    public List<RankedPath> dataTransferLongestPaths() {
+        return analyzedWithTransfers.getLongestPaths(1000);
+    }
+}
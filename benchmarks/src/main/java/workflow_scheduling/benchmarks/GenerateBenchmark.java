@@ -0,0 +1,42 @@
+// File: workflow_scheduling/benchmarks/GenerateBenchmark.java
+package workflow_scheduling.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * Generation of a random workflow with WorkflowGenerator or one of the other workflow shapes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class GenerateBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int nodes;
+
+    @Param({"0.2", "0.5", "0.8"})
+    public double connectivity;
+
+    @Param({"layered"})
+    public String shape;
+
+    @Benchmark
+    public WorkflowJson generateWorkflow() {
+        return BenchmarkWorkflows.generate(shape, nodes, connectivity);
+    }
+}
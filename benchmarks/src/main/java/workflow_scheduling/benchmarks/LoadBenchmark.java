@@ -0,0 +1,77 @@
+// File: workflow_scheduling/benchmarks/LoadBenchmark.java
+package workflow_scheduling.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import workflow_scheduling.model.WorkflowGraph;
+import workflow_scheduling.model.WorkflowJson;
+import workflow_scheduling.utils.WorkflowLoader;
+
+/**
+ * Reading a workflow JSON file and building the operational graph from it
+ * loadGraph streams the file into a graph and is the combined cost of loadFromFile and
+ * createGraph on the old path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class LoadBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int nodes;
+
+    @Param({"0.2", "0.5", "0.8"})
+    public double connectivity;
+
+    @Param({"layered"})
+    public String shape;
+
+    private Path file;
+    private WorkflowJson workflow;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workflow = BenchmarkWorkflows.generate(shape, nodes, connectivity);
+        file = Files.createTempFile("bench-" + nodes + "-", ".json");
+        WorkflowLoader.saveToFile(workflow, file.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public WorkflowJson loadFromFile() throws IOException {
+        return WorkflowLoader.loadFromFile(file.toString());
+    }
+
+    @Benchmark
+    public WorkflowGraph loadGraph() throws IOException {
+        return WorkflowLoader.loadGraph(file.toString(), BenchmarkWorkflows.TRANSFER_RATE);
+    }
+
+    @Benchmark
+    public WorkflowGraph createGraph() {
+        return WorkflowLoader.createGraph(workflow, BenchmarkWorkflows.TRANSFER_RATE);
+    }
+}
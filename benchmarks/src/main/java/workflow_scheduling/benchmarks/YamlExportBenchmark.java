@@ -0,0 +1,75 @@
+// File: workflow_scheduling/benchmarks/YamlExportBenchmark.java
+package workflow_scheduling.benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import workflow_scheduling.algoritms.CpmAnalyzer;
+import workflow_scheduling.model.Node;
+import workflow_scheduling.model.WorkflowJson;
+import workflow_scheduling.utils.ArgoYamlConverter;
+import workflow_scheduling.utils.WorkflowLoader;
+
+/**
+ * Export of a workflow as Argo Workflow YAML
+ * The YAML is written to a null writer, so only the conversion is measured; workflowToArgoYaml
+ * measures the String API, which also pays for building the whole manifest in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class YamlExportBenchmark {
+    private static final String HOSTNAME = "wf-scheduling";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int nodes;
+
+    @Param({"0.2", "0.5", "0.8"})
+    public double connectivity;
+
+    @Param({"layered"})
+    public String shape;
+
+    private WorkflowJson workflow;
+    private String[] criticalPathNodes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workflow = BenchmarkWorkflows.generate(shape, nodes, connectivity);
+        CpmAnalyzer analyzer = new CpmAnalyzer(WorkflowLoader.createGraph(workflow, BenchmarkWorkflows.TRANSFER_RATE));
+        analyzer.calculateCriticalPath();
+        List<Node> criticalPath = analyzer.getOrderedCriticalPath();
+        criticalPathNodes = new String[criticalPath.size()];
+        for (int i = 0; i < criticalPathNodes.length; i++) {
+            criticalPathNodes[i] = criticalPath.get(i).getId();
+        }
+    }
+
+    @Benchmark
+    public void writeArgoYaml() throws IOException {
+        ArgoYamlConverter.writeArgoYaml(workflow, Writer.nullWriter(), HOSTNAME, criticalPathNodes);
+    }
+
+    @Benchmark
+    public String workflowToArgoYaml() {
+        return ArgoYamlConverter.workflowToArgoYaml(workflow, HOSTNAME, criticalPathNodes);
+    }
+}
@@ -0,0 +1,88 @@
+// File: workflow_scheduling/BatchAnalysisMain.java
+package workflow_scheduling;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import workflow_scheduling.batch.BatchAnalysisEngine;
+import workflow_scheduling.batch.WorkflowSummary;
+import workflow_scheduling.cache.AnalysisCache;
+import workflow_scheduling.metrics.MetricsRegistry;
+import workflow_scheduling.utils.WorkflowLoader;
+
+/**
+ * Main class for analyzing a directory of workflows in one run
+ * Writes one CSV summary line per workflow file
+ *
+ * Usage: BatchAnalysisMain [directory] [output.csv] [parallelism] [cacheDirectory] [metricsFile]
+ * With a cache directory, analyses are cached across runs (see AnalysisCache). With a
+ * metrics file, per-stage metrics are written to it, as JSON if it ends in .json and in the
+ * Prometheus text format otherwise; pass "-" to skip the cache directory.
+ */
+public class BatchAnalysisMain {
+    // Default transfer rate for data
+    private static final double TRANSFER_RATE = 10.0;
+
+    public static void main(String[] args) {
+        System.out.println("=== Batch Workflow Analysis ===");
+
+        String directory = args.length > 0 ? args[0] : WorkflowLoader.getDefaultJsonDir();
+        String outputFile = args.length > 1 ? args[1] : "batch_summary.csv";
+        int parallelism = args.length > 2
+            ? Integer.parseInt(args[2])
+            : Runtime.getRuntime().availableProcessors();
+        String cacheDirectory = args.length > 3 && !args[3].equals("-") ? args[3] : null;
+        String metricsFile = args.length > 4 ? args[4] : null;
+        if (metricsFile != null) {
+            MetricsRegistry.global().setEnabled(true);
+        }
+
+        try {
+            List<Path> files = BatchAnalysisEngine.listWorkflowFiles(Paths.get(directory));
+            System.out.println("Analyzing " + files.size() + " workflows from " + directory
+                + " with parallelism " + parallelism);
+
+            AnalysisCache cache = cacheDirectory != null ? new AnalysisCache(Paths.get(cacheDirectory)) : null;
+            AtomicInteger failures = new AtomicInteger();
+            long start = System.nanoTime();
+            try (BatchAnalysisEngine engine = new BatchAnalysisEngine(TRANSFER_RATE, parallelism, cache);
+                 PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Paths.get(outputFile)))) {
+                writer.println(WorkflowSummary.CSV_HEADER);
+                engine.analyze(files.stream(), summary -> {
+                    if (!summary.isSuccessful()) {
+                        failures.incrementAndGet();
+                        System.err.println("Failed: " + summary.getFile() + " (" + summary.getError() + ")");
+                    }
+                    synchronized (writer) {
+                        writer.println(summary.toCsvRow());
+                    }
+                });
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println("Summary written to: " + outputFile);
+            System.out.printf("Analyzed %d workflows (%d failed) in %.2f s, %.1f workflows/s%n",
+                files.size(), failures.get(), seconds, files.size() / Math.max(seconds, 1e-9));
+            if (cache != null) {
+                System.out.printf("Cache %s: %d hits, %d misses%n",
+                    cacheDirectory, cache.getHits(), cache.getMisses());
+            }
+            if (metricsFile != null) {
+                MetricsRegistry.global().writeTo(Paths.get(metricsFile));
+                System.out.println("Metrics written to: " + metricsFile);
+            }
+
+        } catch (IOException e) {
+            System.err.println("Error during batch analysis: " + e.getMessage());
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Batch analysis interrupted");
+        }
+    }
+}
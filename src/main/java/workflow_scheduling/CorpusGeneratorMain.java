@@ -0,0 +1,70 @@
+// File: workflow_scheduling/CorpusGeneratorMain.java
+package workflow_scheduling;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import workflow_scheduling.generator.CorpusEntry;
+import workflow_scheduling.generator.CorpusGenerator;
+import workflow_scheduling.generator.LayeredShape;
+import workflow_scheduling.generator.ParameterGrid;
+
+/**
+ * Main class for generating a benchmark corpus of workflows
+ * The default grid has 80 points of layered workflows; with 125 workflows per point it yields
+ * 10,000 workflows. Every other shape adds one point per node count.
+ *
+ * Usage: CorpusGeneratorMain [output directory] [workflows per point] [master seed] [parallelism]
+ *        [comma-separated shapes, e.g. layered,montage,cybershake,epigenomics,ligo]
+ */
+public class CorpusGeneratorMain {
+    // Default parameter grid
+    private static final String[] SHAPES = {LayeredShape.NAME};
+    private static final int[] NODE_COUNTS = {10, 50, 100, 500, 1000};
+    private static final double[] CONNECTIVITIES = {0.1, 0.3, 0.5, 0.8};
+    private static final int[][] EXEC_TIME_RANGES = {{1, 10}, {10, 100}};
+    private static final int[][] DATA_AMOUNT_RANGES = {{1, 10}, {10, 1000}};
+
+    public static void main(String[] args) {
+        System.out.println("=== Workflow Corpus Generator ===");
+
+        String directory = args.length > 0 ? args[0] : "corpus";
+        int workflowsPerPoint = args.length > 1 ? Integer.parseInt(args[1]) : 125;
+        long masterSeed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int parallelism = args.length > 3
+            ? Integer.parseInt(args[3])
+            : Runtime.getRuntime().availableProcessors();
+        String[] shapes = args.length > 4 ? args[4].split(",") : SHAPES;
+
+        ParameterGrid grid = new ParameterGrid(shapes, NODE_COUNTS, CONNECTIVITIES, EXEC_TIME_RANGES, DATA_AMOUNT_RANGES);
+        if (grid.getSkippedCount() > 0) {
+            System.err.println("Skipped " + grid.getSkippedCount() + " grid points that cannot be generated");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            CorpusGenerator generator = new CorpusGenerator(grid, workflowsPerPoint, masterSeed, pool);
+            System.out.println("Generating " + generator.size() + " workflows (" + grid.size()
+                + " grid points) into " + directory + " with master seed " + masterSeed
+                + " and parallelism " + parallelism);
+
+            long start = System.nanoTime();
+            List<CorpusEntry> entries = generator.generateCorpus(Paths.get(directory));
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println("Manifest written to: " + Paths.get(directory, CorpusGenerator.MANIFEST_FILE));
+            System.out.printf("Generated %d workflows in %.2f s, %.1f workflows/s%n",
+                entries.size(), seconds, entries.size() / Math.max(seconds, 1e-9));
+            if (entries.size() < generator.size()) {
+                System.err.println((generator.size() - entries.size()) + " workflows failed and were skipped");
+            }
+
+        } catch (IOException e) {
+            System.err.println("Error during corpus generation: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -6,13 +6,19 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Scanner;
 
 import workflow_scheduling.algoritms.CpmAnalyzer;
+import workflow_scheduling.algoritms.WorkflowPartition;
+import workflow_scheduling.algoritms.WorkflowPartitioner;
 import workflow_scheduling.generator.WorkflowGenerator;
+import workflow_scheduling.model.TransitiveReduction;
 import workflow_scheduling.model.WorkflowGraph;
 import workflow_scheduling.model.WorkflowJson;
 import workflow_scheduling.utils.ArgoYamlConverter;
+import workflow_scheduling.utils.PartitionedArgoYamlConverter;
 import workflow_scheduling.utils.WorkflowLoader;
 import workflow_scheduling.visualization.WorkflowVisualizer;
 
@@ -99,6 +105,25 @@ public class WorkflowGeneratorMain {
                         System.out.print("Analyze and include critical path information (y/n)? ");
                         boolean includeCriticalPath = scanner.nextLine().trim().toLowerCase().startsWith("y");
                         
+                        // Argo dependencies only order the tasks, so implied dependencies can be dropped
+                        System.out.print("Remove redundant dependencies (transitive reduction) (y/n)? ");
+                        WorkflowJson exportWorkflow = workflow;
+                        if (scanner.nextLine().trim().toLowerCase().startsWith("y")) {
+                            exportWorkflow = new TransitiveReduction().reduce(workflow, false);
+                            System.out.println("Removed " + (workflow.getLinks().length - exportWorkflow.getLinks().length)
+                                + " of " + workflow.getLinks().length + " dependencies.");
+                        }
+                        
+                        // Large workflows are split into WorkflowTemplates to stay below Argo object size limits
+                        int maxTasks = readMaxTasks(scanner);
+                        WorkflowPartition partition = null;
+                        if (maxTasks > 0) {
+                            partition = new WorkflowPartitioner().partitionBySize(
+                                WorkflowLoader.createGraph(exportWorkflow, TRANSFER_RATE).getCompactGraph(), maxTasks);
+                            System.out.println("Split into " + partition.getPartitionCount() + " WorkflowTemplates with "
+                                + partition.getCutEdges() + " dependencies between them.");
+                        }
+                        
                         String[] criticalPathNodes = null;
                         WorkflowGraph graph = null;
                         CpmAnalyzer cpmAnalyzer = null;
@@ -131,15 +156,27 @@ public class WorkflowGeneratorMain {
                                               " nodes on critical path with total length " + 
                                               criticalPathLength);
                             
-                            String savedYamlPath = ArgoYamlConverter.saveToArgoYamlFile(
-                                workflow, yamlFileName, criticalPathHostname, criticalPathNodes);
+                            String savedYamlPath;
+                            if (partition != null) {
+                                Map<String, String> nodeHostnames = new HashMap<>();
+                                for (String nodeId : criticalPathNodes) {
+                                    nodeHostnames.put(nodeId, criticalPathHostname);
+                                }
+                                savedYamlPath = PartitionedArgoYamlConverter.saveToArgoYamlFile(
+                                    partition, yamlFileName, nodeHostnames);
+                            } else {
+                                savedYamlPath = ArgoYamlConverter.saveToArgoYamlFile(
+                                    exportWorkflow, yamlFileName, criticalPathHostname, criticalPathNodes);
+                            }
                                 
                             System.out.println("Workflow saved as Argo Workflow YAML to: " + savedYamlPath);
                             System.out.println("Critical path nodes will run on: " + criticalPathHostname);
                             System.out.println("Non-critical path nodes will be scheduled by Kubernetes.");
                         } else {
                             // No critical path analysis - just save a basic Argo workflow
-                            String savedYamlPath = ArgoYamlConverter.saveToArgoYamlFile(workflow, yamlFileName, null, null);
+                            String savedYamlPath = partition != null
+                                ? PartitionedArgoYamlConverter.saveToArgoYamlFile(partition, yamlFileName, null)
+                                : ArgoYamlConverter.saveToArgoYamlFile(exportWorkflow, yamlFileName, null, null);
                             System.out.println("Basic workflow saved as Argo Workflow YAML to: " + savedYamlPath);
                             System.out.println("All nodes will be scheduled by Kubernetes.");
                         }
@@ -380,9 +417,35 @@ throws IOException {
 }
 
     
+    /**
+     * Asks for the maximum number of tasks per WorkflowTemplate until the answer is empty
+     * or a positive whole number
+     *
+     * @param scanner The scanner reading user input
+     * @return The maximum number of tasks, or 0 to keep a single DAG
+     */
+    private static int readMaxTasks(Scanner scanner) {
+        while (true) {
+            System.out.print("Maximum tasks per WorkflowTemplate (press Enter for a single DAG): ");
+            String input = scanner.nextLine().trim();
+            if (input.isEmpty()) {
+                return 0;
+            }
+            try {
+                int maxTasks = Integer.parseInt(input);
+                if (maxTasks > 0) {
+                    return maxTasks;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to the message below
+            }
+            System.out.println("Please enter a positive whole number.");
+        }
+    }
+
     /**
      * Analyzes and visualizes a workflow
-     * 
+     *
      * @param workflow The workflow to visualize
      * @return The visualizer instance for future reference
      */
@@ -394,7 +457,7 @@ throws IOException {
         
         // Run CPM analysis
         CpmAnalyzer cpmAnalyzer = new CpmAnalyzer(graph);
-        cpmAnalyzer.calculateCriticalPath();
+        cpmAnalyzer.calculateCriticalPath().applyTo(graph);
         cpmAnalyzer.printAnalysisResults();
         
         // Visualize
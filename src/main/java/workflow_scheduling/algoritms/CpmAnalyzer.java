@@ -2,16 +2,12 @@
 package workflow_scheduling.algoritms;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
-import java.util.Stack;
-
-import org.jgrapht.Graph;
-import org.jgrapht.graph.DefaultDirectedGraph;
-import org.jgrapht.graph.DefaultEdge;
-import org.jgrapht.traverse.TopologicalOrderIterator;
 
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.CyclicGraphException;
 import workflow_scheduling.model.Edge;
 import workflow_scheduling.model.Node;
 import workflow_scheduling.model.WorkflowGraph;
@@ -21,6 +17,13 @@ import workflow_scheduling.model.WorkflowGraph;
  */
 public class CpmAnalyzer {
     private WorkflowGraph graph;
+    private CompactGraph compactGraph;
+    private double[] nodeCosts;
+    private CpmResult result;
+    
+    // Pending cost changes for the incremental mode
+    private IncrementalCpm incremental;
+    private BitSet modifiedNodes = new BitSet();
     
     /**
      * Creates a new CPM analyzer for the given workflow graph
@@ -29,90 +32,150 @@ public class CpmAnalyzer {
      */
     public CpmAnalyzer(WorkflowGraph graph) {
         this.graph = graph;
+        initialize(graph.getCompactGraph());
     }
     
     /**
-     * Calculates the critical path of the workflow
+     * Creates a new CPM analyzer that runs directly on a compact graph
+     * Nodes returned by this analyzer are detached copies carrying the analysis results
+     * 
+     * @param compactGraph The compact graph to analyze
      */
-    public void calculateCriticalPath() {
-        // Topological sort
-        List<String> sortedNodes = topologicalSort1();
-        
-        /*Forward pass*/
-        for (String nodeId : sortedNodes) {
-            Node node = graph.getNode(nodeId);
-            double maxPredecessorFinish = 0;
-            
-            // Check all predecessors
-            for (Edge edge : graph.getIncomingEdges(nodeId)) {
-                Node predecessor = graph.getNode(edge.getSource());
-                double finishTime = predecessor.getEarliestFinish();
-                maxPredecessorFinish = Math.max(maxPredecessorFinish, finishTime);
-            }
-            
-            node.setEarliestStart(maxPredecessorFinish);
-            node.setEarliestFinish(maxPredecessorFinish + node.getExecutionTime()); // Calculate earliest finish time
+    public CpmAnalyzer(CompactGraph compactGraph) {
+        this.graph = null;
+        initialize(compactGraph);
+    }
+    
+    private void initialize(CompactGraph compactGraph) {
+        this.compactGraph = compactGraph;
+        int nodeCount = compactGraph.getNodeCount();
+        this.nodeCosts = new double[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            // The cached compact graph may predate changes made on the nodes
+            nodeCosts[i] = graph != null
+                ? graph.getNode(compactGraph.getNodeId(i)).getExecutionTime()
+                : compactGraph.getExecutionTime(i);
         }
-        
-        // Initialize latest finish times
-        double maxFinish = 0;
-        for (Node node : graph.getNodes().values()) {
-            maxFinish = Math.max(maxFinish, node.getEarliestFinish());
+    }
+    
+    /**
+     * Calculates the critical path of the workflow
+     * The workflow graph is not modified; use CpmResult.applyTo to copy the
+     * results onto its nodes and edges
+     * 
+     * @return The analysis result, indexed by the ordinals of getCompactGraph()
+     * @throws CyclicGraphException If the workflow contains a cycle
+     */
+    public CpmResult calculateCriticalPath() {
+        CpmResult analysis = new CpmResult(compactGraph);
+        analysis.compute(compactGraph.getTopologicalOrder(), nodeCosts, null);
+        this.result = analysis;
+        modifiedNodes.clear();
+        return analysis;
+    }
+    
+    /**
+     * Calculates the critical path with the passes split level by level across a
+     * fork-join pool, which pays off for very wide workflows
+     * 
+     * @param engine The parallel engine to run the passes on
+     * @return The analysis result, identical to calculateCriticalPath()
+     */
+    public CpmResult calculateCriticalPath(WavefrontCpm engine) {
+        CpmResult analysis = new CpmResult(compactGraph);
+        engine.compute(analysis, nodeCosts, null);
+        this.result = analysis;
+        modifiedNodes.clear();
+        return analysis;
+    }
+    
+    /**
+     * Gets the result of the most recent calculateCriticalPath() call
+     * 
+     * @return The latest analysis result
+     * @throws IllegalStateException If the critical path has not been calculated yet
+     */
+    public CpmResult getResult() {
+        if (result == null) {
+            throw new IllegalStateException("calculateCriticalPath() has not been called");
         }
-        
-        // Set all latest finish times to max
-        for (Node node : graph.getNodes().values()) {
-            node.setLatestFinish(maxFinish);
+        return result;
+    }
+    
+    /**
+     * Gets the compact graph this analyzer runs on
+     * 
+     * @return The compact graph
+     */
+    public CompactGraph getCompactGraph() {
+        return compactGraph;
+    }
+    
+    /**
+     * Changes the execution time of a node for the incremental mode
+     * The change takes effect with the next updateCriticalPath() call
+     * 
+     * @param node The node ordinal in the compact graph
+     * @param executionTime The new execution time
+     */
+    public void setExecutionTime(int node, double executionTime) {
+        nodeCosts[node] = executionTime;
+        modifiedNodes.set(node);
+    }
+    
+    /**
+     * Incrementally updates the critical path after nodes or edges of the workflow graph
+     * have been modified, re-reading their execution times and data amounts
+     * 
+     * @param modifiedNodes Nodes whose execution time has changed
+     * @param modifiedEdges Edges whose data amount has changed (ignored, as data transfers
+     *                      do not contribute to this analysis)
+     * @return The updated analysis result
+     */
+    public CpmResult updateCriticalPath(Collection<Node> modifiedNodes, Collection<Edge> modifiedEdges) {
+        if (graph == null) {
+            throw new IllegalStateException("Analyzer was not created from a WorkflowGraph");
         }
-        
-        // Backward pass
-        for (int i = sortedNodes.size() - 1; i >= 0; i--) {
-            String nodeId = sortedNodes.get(i);
-            Node node = graph.getNode(nodeId);
-            
-            double minSuccessorStart = node.getLatestFinish();
-            
-            // Check all successors
-            for (Edge edge : graph.getOutgoingEdges(nodeId)) {
-                Node successor = graph.getNode(edge.getTarget());
-                double startTime = successor.getLatestStart();
-                minSuccessorStart = Math.min(minSuccessorStart, startTime);
-            }
-            
-            node.setLatestFinish(minSuccessorStart);
-            node.setLatestStart(minSuccessorStart - node.getExecutionTime());
-            
-            // Calculate slack
-            node.setSlack(node.getLatestStart() - node.getEarliestStart());
-            
-            // Mark as critical path if slack is near zero
-            if (Math.abs(node.getSlack()) < 0.001) {
-                node.setOnCriticalPath(true);
+        for (Node node : modifiedNodes) {
+            int index = compactGraph.indexOf(node.getId());
+            if (index < 0) {
+                throw new IllegalArgumentException("Node is not part of the graph: " + node.getId());
             }
+            setExecutionTime(index, node.getExecutionTime());
         }
-        
-        // Mark edges on critical path
-        markCriticalEdges();
+        return updateCriticalPath();
     }
     
     /**
-     * Marks edges that are on the critical path
+     * Applies the pending cost changes to the latest result
+     * Only the nodes whose times are affected by the changes are recomputed, and the
+     * latest result is updated in place. Falls back to calculateCriticalPath() if no
+     * result exists yet.
+     * 
+     * @return The updated analysis result
      */
-    private void markCriticalEdges() {
-        // For each critical node, check which outgoing edges connect to another critical node
-        for (Node node : getCriticalPath()) {
-            for (Edge edge : graph.getOutgoingEdges(node.getId())) {
-                Node target = graph.getNode(edge.getTarget());
-                
-                // If target is on critical path and timing is consistent with critical path
-                if (target.isOnCriticalPath()) {
-                    double expectedStart = node.getEarliestFinish();
-                    if (Math.abs(expectedStart - target.getEarliestStart()) < 0.001) {
-                        edge.setOnCriticalPath(true);
-                    }
-                }
-            }
+    public CpmResult updateCriticalPath() {
+        if (result == null) {
+            return calculateCriticalPath();
+        }
+        if (incremental == null) {
+            incremental = new IncrementalCpm(compactGraph);
+        }
+        incremental.update(result, nodeCosts, null, modifiedNodes, new BitSet());
+        modifiedNodes.clear();
+        return result;
+    }
+    
+    /**
+     * Gets the node object for a node ordinal
+     */
+    private Node toNode(int index) {
+        if (graph != null) {
+            return graph.getNode(compactGraph.getNodeId(index));
         }
+        Node node = new Node(compactGraph.getNodeId(index), compactGraph.getExecutionTime(index));
+        getResult().applyTo(index, node);
+        return node;
     }
     
     /**
@@ -121,10 +184,11 @@ public class CpmAnalyzer {
      * @return List of nodes on the critical path
      */
     public List<Node> getCriticalPath() {
+        CpmResult result = getResult();
         List<Node> criticalPath = new ArrayList<>();
-        for (Node node : graph.getNodes().values()) {
-            if (node.isOnCriticalPath()) {
-                criticalPath.add(node);
+        for (int i = 0; i < compactGraph.getNodeCount(); i++) {
+            if (result.isOnCriticalPath(i)) {
+                criticalPath.add(toNode(i));
             }
         }
         return criticalPath;
@@ -132,144 +196,91 @@ public class CpmAnalyzer {
     
     /**
      * Gets the critical path as a sequence of connected nodes
+     * If several paths are critical, one of them is returned, see CpmResult.getOrderedCriticalPath
      * 
      * @return Ordered list of nodes in the critical path
      */
     public List<Node> getOrderedCriticalPath() {
-        List<Node> criticalPath = getCriticalPath();
         List<Node> ordered = new ArrayList<>();
-        
-        // Find a node with no incoming critical edges (should be the start)
-        Node start = null;
-        for (Node node : criticalPath) {
-            boolean hasIncomingCritical = false;
-            for (Edge edge : graph.getIncomingEdges(node.getId())) {
-                if (edge.isOnCriticalPath()) {
-                    hasIncomingCritical = true;
-                    break;
-                }
-            }
-            
-            if (!hasIncomingCritical) {
-                start = node;
-                break;
-            }
+        for (int node : getResult().getOrderedCriticalPath()) {
+            ordered.add(toNode(node));
         }
-        
-        if (start == null && !criticalPath.isEmpty()) {
-            // If no clear start, use the earliest start time
-            start = criticalPath.get(0);
-            for (Node node : criticalPath) {
-                if (node.getEarliestStart() < start.getEarliestStart()) {
-                    start = node;
-                }
-            }
-        }
-        
-        // Build the ordered path
-        if (start != null) {
-            ordered.add(start);
-            buildOrderedPath(start, ordered);
-        }
-        
         return ordered;
     }
-    
+
     /**
-     * Recursively builds the ordered critical path
+     * Creates an enumerator of the source-to-sink paths from the longest down
+     * Paths are measured with the costs of this analyzer (execution times only) at the time
+     * of the call; later cost changes do not affect the enumerator.
+     * 
+     * @return A lazy enumerator of ranked paths
+     * @throws CyclicGraphException If the workflow contains a cycle
      */
-    private void buildOrderedPath(Node current, List<Node> path) {
-        for (Edge edge : graph.getOutgoingEdges(current.getId())) {
-            if (edge.isOnCriticalPath()) {
-                Node next = graph.getNode(edge.getTarget());
-                if (!path.contains(next)) {
-                    path.add(next);
-                    buildOrderedPath(next, path);
-                }
-            }
-        }
+    public LongestPathEnumerator enumerateLongestPaths() {
+        return new LongestPathEnumerator(compactGraph, nodeCosts.clone(), null);
     }
-
-    public List<String> topologicalSort1() {
-        // Create a JGraphT graph from your model
-        Graph<String, DefaultEdge> jgraph = new DefaultDirectedGraph<>(DefaultEdge.class);
-        
-        // Add vertices
-        for (String nodeId : graph.getNodes().keySet()) {
-            jgraph.addVertex(nodeId);
-        }
-        
-        // Add edges
-        for (String nodeId : graph.getNodes().keySet()) {
-            for (Edge edge : graph.getOutgoingEdges(nodeId)) {
-                jgraph.addEdge(edge.getSource(), edge.getTarget());
-            }
-        }
-        
-        // Get topological ordering
-        TopologicalOrderIterator<String, DefaultEdge> iterator = 
-            new TopologicalOrderIterator<>(jgraph);
-        
-        List<String> result = new ArrayList<>();
-        iterator.forEachRemaining(result::add);
-        return result;
+    
+    /**
+     * Gets the k longest source-to-sink paths
+     * 
+     * @param k Maximum number of paths
+     * @return The paths, longest first; the first one is a critical path
+     * @throws CyclicGraphException If the workflow contains a cycle
+     */
+    public List<RankedPath> getLongestPaths(int k) {
+        return enumerateLongestPaths().next(k);
     }
     
+    /**
+     * Gets the source-to-sink paths that are within a fraction of the longest path length,
+     * the paths that become critical after a small delay
+     * 
+     * @param tolerance Allowed shortfall relative to the longest path, e.g. 0.05 for 5%
+     * @param limit Maximum number of paths, since there can be exponentially many
+     * @return The paths, longest first
+     * @throws CyclicGraphException If the workflow contains a cycle
+     */
+    public List<RankedPath> getNearCriticalPaths(double tolerance, int limit) {
+        LongestPathEnumerator paths = enumerateLongestPaths();
+        return paths.nextAtLeast(paths.getLongestPathLength() * (1 - tolerance), limit);
+    }
 
-    private List<String> topologicalSort() {
-        Set<String> visited = new HashSet<>();
-        Stack<String> stack = new Stack<>();
-        
-        for (String nodeId : graph.getNodes().keySet()) {
-            if (!visited.contains(nodeId)) {
-                topologicalSortUtil(nodeId, visited, stack);
-            }
-        }
-        
-        List<String> result = new ArrayList<>();
-        while (!stack.isEmpty()) {
-            result.add(stack.pop());
+    /**
+     * Gets the node IDs in topological order
+     * 
+     * @return List of node IDs, each node after all of its predecessors
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public List<String> topologicalSort1() {
+        int[] order = compactGraph.getTopologicalOrder();
+        List<String> result = new ArrayList<>(order.length);
+        for (int node : order) {
+            result.add(compactGraph.getNodeId(node));
         }
         return result;
     }
-    
 
-    private void topologicalSortUtil(String nodeId, Set<String> visited, Stack<String> stack) {
-        visited.add(nodeId);
-        
-        for (Edge edge : graph.getOutgoingEdges(nodeId)) {
-            if (!visited.contains(edge.getTarget())) {
-                topologicalSortUtil(edge.getTarget(), visited, stack);
-            }
-        }
-        
-        stack.push(nodeId);
-    }
-    
     /**
      * Gets the earliest completion time for the entire workflow
      * 
      * @return The earliest completion time
      */
     public double getEarliestCompletionTime() {
-        double maxFinish = 0;
-        for (Node node : graph.getNodes().values()) {
-            maxFinish = Math.max(maxFinish, node.getEarliestFinish());
-        }
-        return maxFinish;
+        return getResult().getEarliestCompletionTime();
     }
     
     /**
      * Prints the critical path analysis results
      */
     public void printAnalysisResults() {
+        CpmResult result = getResult();
         System.out.println("=== Critical Path Analysis Results ===");
-        for (Node node : graph.getNodes().values()) {
+        for (int i = 0; i < compactGraph.getNodeCount(); i++) {
             System.out.printf("Node %s: ES=%.1f, EF=%.1f, LS=%.1f, LF=%.1f, Slack=%.1f%n",
-                node.getId(), node.getEarliestStart(), node.getEarliestFinish(),
-                node.getLatestStart(), node.getLatestFinish(), node.getSlack());
+                compactGraph.getNodeId(i), result.getEarliestStart(i), result.getEarliestFinish(i),
+                result.getLatestStart(i), result.getLatestFinish(i), result.getSlack(i));
                 
-            if (node.isOnCriticalPath()) {
+            if (result.isOnCriticalPath(i)) {
                 System.out.println("  This node is on the critical path!");
             }
         }
@@ -296,35 +307,36 @@ public class CpmAnalyzer {
      * Prints the critical path analysis results in detail
      */
     public void printDetailedAnalysisResults() {
-        List<String> sortedNodes = topologicalSort(); // Get nodes in topological order
+        CpmResult result = getResult();
+        int[] sortedNodes = compactGraph.getTopologicalOrder(); // Get nodes in topological order
         
         System.out.println("=== Critical Path Analysis Results ===");
         
         // Forward pass
         System.out.println("\nForward pass:");
-        for (String nodeId : sortedNodes) {
-            Node node = graph.getNode(nodeId);
+        for (int node : sortedNodes) {
+            String nodeId = compactGraph.getNodeId(node);
             System.out.printf("%s: EST(%s) = %.1f, EFT(%s) = %.1f\n", 
-                nodeId, nodeId, node.getEarliestStart(), nodeId, node.getEarliestFinish());
+                nodeId, nodeId, result.getEarliestStart(node), nodeId, result.getEarliestFinish(node));
         }
         
         // Backward pass
         System.out.println("\nBackward pass:");
-        for (int i = sortedNodes.size() - 1; i >= 0; i--) {
-            String nodeId = sortedNodes.get(i);
-            Node node = graph.getNode(nodeId);
+        for (int i = sortedNodes.length - 1; i >= 0; i--) {
+            int node = sortedNodes[i];
+            String nodeId = compactGraph.getNodeId(node);
             System.out.printf("%s: LFT(%s) = %.1f, LST(%s) = %.1f\n", 
-                nodeId, nodeId, node.getLatestFinish(), nodeId, node.getLatestStart());
+                nodeId, nodeId, result.getLatestFinish(node), nodeId, result.getLatestStart(node));
         }
         
         // Float calculations
         System.out.println("\nFloat calculations:");
-        for (String nodeId : sortedNodes) {
-            Node node = graph.getNode(nodeId);
-            String criticalStatus = node.isOnCriticalPath() ? "(Critical)" : "(Not Critical)";
+        for (int node : sortedNodes) {
+            String nodeId = compactGraph.getNodeId(node);
+            String criticalStatus = result.isOnCriticalPath(node) ? "(Critical)" : "(Not Critical)";
             System.out.printf("%s: Float(%s) = %.1f - %.1f = %.1f %s\n", 
-                nodeId, nodeId, node.getLatestStart(), node.getEarliestStart(), 
-                node.getSlack(), criticalStatus);
+                nodeId, nodeId, result.getLatestStart(node), result.getEarliestStart(node), 
+                result.getSlack(node), criticalStatus);
         }
         
         // Critical path
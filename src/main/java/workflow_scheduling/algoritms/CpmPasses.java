@@ -0,0 +1,247 @@
+// File: workflow_scheduling/algorithm/CpmPasses.java
+package workflow_scheduling.algoritms;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Forward and backward CPM passes over the int-indexed arrays of a CompactGraph
+ * Shared by CpmAnalyzer and DataTransferCPM, which differ only in their edge costs
+ */
+final class CpmPasses {
+
+    /** Slack below this value is treated as zero */
+    static final double EPSILON = 0.001;
+
+    private CpmPasses() {
+    }
+
+    /**
+     * Computes earliest start and finish times in topological order
+     *
+     * @param graph The compact graph
+     * @param order Node ordinals in topological order
+     * @param nodeCosts Duration of each node
+     * @param edgeCosts Cost of each edge, or null if edges are free
+     * @param earliestStart Output array of earliest start times
+     * @param earliestFinish Output array of earliest finish times
+     * @param predecessorEdges Output array of the incoming edge that determines each earliest
+     *                         start (-1 for none), or null if not needed
+     * @return The earliest completion time of the workflow
+     */
+    static double forwardPass(
+            CompactGraph graph,
+            int[] order,
+            double[] nodeCosts,
+            double[] edgeCosts,
+            double[] earliestStart,
+            double[] earliestFinish,
+            int[] predecessorEdges) {
+
+        forwardRange(graph, order, 0, order.length,
+            nodeCosts, edgeCosts, earliestStart, earliestFinish, predecessorEdges);
+
+        double makespan = 0;
+        for (double finish : earliestFinish) {
+            makespan = Math.max(makespan, finish);
+        }
+        return makespan;
+    }
+
+    /**
+     * Forward pass over nodes[from..to) in order
+     * Predecessors outside the range must already be computed. The predecessor edge of a
+     * node is the first incoming edge with the latest arrival, so following these edges
+     * back from the last finishing node walks one critical path.
+     */
+    static void forwardRange(
+            CompactGraph graph,
+            int[] nodes,
+            int from,
+            int to,
+            double[] nodeCosts,
+            double[] edgeCosts,
+            double[] earliestStart,
+            double[] earliestFinish,
+            int[] predecessorEdges) {
+
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+        int[] edgeSources = graph.getEdgeSources();
+
+        for (int i = from; i < to; i++) {
+            int node = nodes[i];
+            double maxPredecessorFinish = 0;
+            int predecessorEdge = -1;
+            for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                int edge = inEdges[k];
+                double finishTime = earliestFinish[edgeSources[edge]];
+                if (edgeCosts != null) {
+                    finishTime += edgeCosts[edge];
+                }
+                if (finishTime > maxPredecessorFinish) {
+                    maxPredecessorFinish = finishTime;
+                    predecessorEdge = edge;
+                } else if (predecessorEdge < 0 && finishTime == maxPredecessorFinish) {
+                    predecessorEdge = edge; // Predecessors finishing at time 0
+                }
+            }
+
+            earliestStart[node] = maxPredecessorFinish;
+            earliestFinish[node] = maxPredecessorFinish + nodeCosts[node];
+            if (predecessorEdges != null) {
+                predecessorEdges[node] = predecessorEdge;
+            }
+        }
+    }
+
+    /**
+     * Finds the sink that finishes last, where the critical path ends
+     *
+     * @param graph The compact graph
+     * @param earliestFinish Earliest finish times
+     * @return Ordinal of the first sink with the latest earliest finish, or -1 for an empty graph
+     */
+    static int lastFinishingSink(CompactGraph graph, double[] earliestFinish) {
+        int last = -1;
+        for (int sink : graph.getSinkNodes()) {
+            if (last < 0 || earliestFinish[sink] > earliestFinish[last]) {
+                last = sink;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Computes latest start and finish times in reverse topological order
+     *
+     * @param graph The compact graph
+     * @param order Node ordinals in topological order
+     * @param nodeCosts Duration of each node
+     * @param edgeCosts Cost of each edge, or null if edges are free
+     * @param makespan The earliest completion time from the forward pass
+     * @param latestStart Output array of latest start times
+     * @param latestFinish Output array of latest finish times
+     */
+    static void backwardPass(
+            CompactGraph graph,
+            int[] order,
+            double[] nodeCosts,
+            double[] edgeCosts,
+            double makespan,
+            double[] latestStart,
+            double[] latestFinish) {
+
+        backwardRange(graph, order, 0, order.length, nodeCosts, edgeCosts, makespan, latestStart, latestFinish);
+    }
+
+    /**
+     * Backward pass over nodes[from..to) in reverse order
+     * Successors outside the range must already be computed
+     */
+    static void backwardRange(
+            CompactGraph graph,
+            int[] nodes,
+            int from,
+            int to,
+            double[] nodeCosts,
+            double[] edgeCosts,
+            double makespan,
+            double[] latestStart,
+            double[] latestFinish) {
+
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+
+        for (int i = to - 1; i >= from; i--) {
+            int node = nodes[i];
+            double minSuccessorStart = makespan;
+            for (int edge = outOffsets[node]; edge < outOffsets[node + 1]; edge++) {
+                double startTime = latestStart[edgeTargets[edge]];
+                if (edgeCosts != null) {
+                    startTime -= edgeCosts[edge];
+                }
+                minSuccessorStart = Math.min(minSuccessorStart, startTime);
+            }
+
+            latestFinish[node] = minSuccessorStart;
+            latestStart[node] = minSuccessorStart - nodeCosts[node];
+        }
+    }
+
+    /**
+     * Computes slack and marks critical nodes and edges
+     * An edge is critical if it connects two critical nodes and its timing is tight
+     *
+     * @param graph The compact graph
+     * @param edgeCosts Cost of each edge, or null if edges are free
+     * @param earliestStart Earliest start times
+     * @param earliestFinish Earliest finish times
+     * @param latestStart Latest start times
+     * @param slack Output array of slack values
+     * @param criticalNodes Output flags for critical nodes
+     * @param criticalEdges Output flags for critical edges
+     */
+    static void markCritical(
+            CompactGraph graph,
+            double[] edgeCosts,
+            double[] earliestStart,
+            double[] earliestFinish,
+            double[] latestStart,
+            double[] slack,
+            boolean[] criticalNodes,
+            boolean[] criticalEdges) {
+
+        int nodeCount = graph.getNodeCount();
+        markCriticalNodes(0, nodeCount, earliestStart, latestStart, slack, criticalNodes);
+        markCriticalEdges(graph, 0, nodeCount, edgeCosts, earliestStart, earliestFinish, criticalNodes, criticalEdges);
+    }
+
+    /**
+     * Computes slack and critical flags of the nodes with ordinals in [from, to)
+     */
+    static void markCriticalNodes(
+            int from,
+            int to,
+            double[] earliestStart,
+            double[] latestStart,
+            double[] slack,
+            boolean[] criticalNodes) {
+
+        for (int node = from; node < to; node++) {
+            slack[node] = latestStart[node] - earliestStart[node];
+            criticalNodes[node] = Math.abs(slack[node]) < EPSILON;
+        }
+    }
+
+    /**
+     * Marks the outgoing edges of the nodes with ordinals in [from, to)
+     * Node flags must already be computed for the whole graph
+     */
+    static void markCriticalEdges(
+            CompactGraph graph,
+            int from,
+            int to,
+            double[] edgeCosts,
+            double[] earliestStart,
+            double[] earliestFinish,
+            boolean[] criticalNodes,
+            boolean[] criticalEdges) {
+
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        for (int node = from; node < to; node++) {
+            for (int edge = outOffsets[node]; edge < outOffsets[node + 1]; edge++) {
+                int target = edgeTargets[edge];
+                boolean critical = false;
+                if (criticalNodes[node] && criticalNodes[target]) {
+                    double expectedStart = earliestFinish[node];
+                    if (edgeCosts != null) {
+                        expectedStart += edgeCosts[edge];
+                    }
+                    critical = Math.abs(expectedStart - earliestStart[target]) < EPSILON;
+                }
+                criticalEdges[edge] = critical;
+            }
+        }
+    }
+}
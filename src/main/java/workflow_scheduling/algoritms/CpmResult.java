@@ -0,0 +1,308 @@
+// File: workflow_scheduling/algorithm/CpmResult.java
+package workflow_scheduling.algoritms;
+
+import java.util.List;
+
+import workflow_scheduling.metrics.PipelineStage;
+import workflow_scheduling.metrics.StageTimer;
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.Edge;
+import workflow_scheduling.model.Node;
+import workflow_scheduling.model.WorkflowGraph;
+
+/**
+ * Holds the timing results of one CPM analysis
+ * Values are stored in parallel primitive arrays indexed by the node ordinals and
+ * edge ids of the analyzed CompactGraph, so any number of results can exist for the
+ * same graph without touching its Node and Edge objects.
+ *
+ * The forward pass also records the incoming edge that determines the earliest start of
+ * every node, so the ordered critical path is found by walking these edges back from the
+ * last finishing sink in time proportional to its length.
+ *
+ * The arrays returned by the getters are shared with this instance and must not be modified.
+ */
+public class CpmResult {
+    private final CompactGraph graph;
+    private final double[] earliestStart;
+    private final double[] earliestFinish;
+    private final double[] latestStart;
+    private final double[] latestFinish;
+    private final double[] slack;
+    private final boolean[] criticalNodes;
+    private final boolean[] criticalEdges;
+    // Null for restored results, which fall back to the critical edge flags
+    private final int[] predecessorEdges;
+    private double earliestCompletionTime;
+    private int lastSink = -1;
+    // Built on first request and dropped whenever the completion time is updated
+    private volatile int[] orderedCriticalPath;
+
+    /**
+     * Creates an empty result for the given graph
+     *
+     * @param graph The analyzed compact graph
+     */
+    CpmResult(CompactGraph graph) {
+        int nodeCount = graph.getNodeCount();
+        this.graph = graph;
+        this.earliestStart = new double[nodeCount];
+        this.earliestFinish = new double[nodeCount];
+        this.latestStart = new double[nodeCount];
+        this.latestFinish = new double[nodeCount];
+        this.slack = new double[nodeCount];
+        this.criticalNodes = new boolean[nodeCount];
+        this.criticalEdges = new boolean[graph.getEdgeCount()];
+        this.predecessorEdges = new int[nodeCount];
+    }
+
+    /**
+     * Restores a result computed earlier, for example one read back from a cache
+     * The arrays are taken over, not copied.
+     *
+     * @param graph The analyzed compact graph
+     * @param earliestCompletionTime The completion time of the workflow
+     * @param earliestStart Earliest start time by node ordinal
+     * @param earliestFinish Earliest finish time by node ordinal
+     * @param latestStart Latest start time by node ordinal
+     * @param latestFinish Latest finish time by node ordinal
+     * @param slack Slack by node ordinal
+     * @param criticalNodes Critical flag by node ordinal
+     * @param criticalEdges Critical flag by edge id
+     * @throws IllegalArgumentException If an array does not match the size of the graph
+     */
+    public CpmResult(CompactGraph graph, double earliestCompletionTime,
+                     double[] earliestStart, double[] earliestFinish,
+                     double[] latestStart, double[] latestFinish, double[] slack,
+                     boolean[] criticalNodes, boolean[] criticalEdges) {
+        int nodeCount = graph.getNodeCount();
+        if (earliestStart.length != nodeCount || earliestFinish.length != nodeCount
+                || latestStart.length != nodeCount || latestFinish.length != nodeCount
+                || slack.length != nodeCount || criticalNodes.length != nodeCount
+                || criticalEdges.length != graph.getEdgeCount()) {
+            throw new IllegalArgumentException("Result arrays do not match the graph " + graph);
+        }
+        this.graph = graph;
+        this.earliestCompletionTime = earliestCompletionTime;
+        this.earliestStart = earliestStart;
+        this.earliestFinish = earliestFinish;
+        this.latestStart = latestStart;
+        this.latestFinish = latestFinish;
+        this.slack = slack;
+        this.criticalNodes = criticalNodes;
+        this.criticalEdges = criticalEdges;
+        this.predecessorEdges = null;
+        this.lastSink = CpmPasses.lastFinishingSink(graph, earliestFinish);
+    }
+
+    /**
+     * Runs the forward pass, backward pass and critical marking into this result
+     *
+     * @param order Node ordinals in topological order
+     * @param nodeCosts Duration of each node
+     * @param edgeCosts Cost of each edge, or null if edges are free
+     */
+    void compute(int[] order, double[] nodeCosts, double[] edgeCosts) {
+        String name = graph.getName();
+        int nodeCount = graph.getNodeCount();
+        int edgeCount = graph.getEdgeCount();
+
+        StageTimer timer = StageTimer.start(PipelineStage.FORWARD_PASS);
+        earliestCompletionTime = CpmPasses.forwardPass(
+            graph, order, nodeCosts, edgeCosts, earliestStart, earliestFinish, predecessorEdges);
+        lastSink = CpmPasses.lastFinishingSink(graph, earliestFinish);
+        orderedCriticalPath = null;
+        timer.stop(name, nodeCount, edgeCount);
+
+        timer = StageTimer.start(PipelineStage.BACKWARD_PASS);
+        CpmPasses.backwardPass(
+            graph, order, nodeCosts, edgeCosts, earliestCompletionTime, latestStart, latestFinish);
+        timer.stop(name, nodeCount, edgeCount);
+
+        timer = StageTimer.start(PipelineStage.CRITICAL_MARKING);
+        CpmPasses.markCritical(
+            graph, edgeCosts, earliestStart, earliestFinish, latestStart, slack, criticalNodes, criticalEdges);
+        timer.stop(name, nodeCount, edgeCount);
+    }
+
+    void setEarliestCompletionTime(double earliestCompletionTime, int lastSink) {
+        this.earliestCompletionTime = earliestCompletionTime;
+        this.lastSink = lastSink;
+        this.orderedCriticalPath = null;
+    }
+
+    /**
+     * Gets the incoming edge that determines the earliest start of a node
+     * For a critical node this is a critical edge from a critical predecessor.
+     *
+     * @param node The node ordinal
+     * @return The edge id, or -1 if the node has no predecessor or starts at time 0
+     */
+    public int getPredecessorEdge(int node) {
+        if (predecessorEdges != null) {
+            return predecessorEdges[node];
+        }
+        // Restored result: any critical incoming edge continues the path
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+        for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+            if (criticalEdges[inEdges[k]]) {
+                return inEdges[k];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets one critical path as a chain of connected nodes from a source to the sink that
+     * finishes last
+     * If several paths are critical, the one through the first incoming edge with the latest
+     * arrival at every node is returned. The path is computed once per result and shared.
+     *
+     * @return Node ordinals in path order, empty for an empty graph
+     */
+    public int[] getOrderedCriticalPath() {
+        int[] path = orderedCriticalPath;
+        if (path == null) {
+            path = buildOrderedCriticalPath();
+            orderedCriticalPath = path;
+        }
+        return path;
+    }
+
+    private int[] buildOrderedCriticalPath() {
+        if (lastSink < 0) {
+            return new int[0];
+        }
+        int[] edgeSources = graph.getEdgeSources();
+        int length = 1;
+        for (int edge = getPredecessorEdge(lastSink); edge >= 0; edge = getPredecessorEdge(edgeSources[edge])) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        int node = lastSink;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = node;
+            if (i > 0) {
+                node = edgeSources[getPredecessorEdge(node)];
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Copies this result onto the nodes and edges of a workflow graph
+     * Useful for consumers that read timing from Node and Edge objects, such as the visualizer
+     *
+     * @param workflowGraph The workflow graph the analyzed compact graph was built from
+     */
+    public void applyTo(WorkflowGraph workflowGraph) {
+        int[] outOffsets = graph.getOutOffsets();
+        for (int i = 0; i < graph.getNodeCount(); i++) {
+            Node node = workflowGraph.getNode(graph.getNodeId(i));
+            applyTo(i, node);
+
+            List<Edge> outgoing = workflowGraph.getOutgoingEdges(node.getId());
+            for (int k = 0; k < outgoing.size(); k++) {
+                outgoing.get(k).setOnCriticalPath(criticalEdges[outOffsets[i] + k]);
+            }
+        }
+    }
+
+    /**
+     * Copies the result of a single node onto a Node object
+     *
+     * @param node The node ordinal
+     * @param target The node object to update
+     */
+    public void applyTo(int node, Node target) {
+        target.setEarliestStart(earliestStart[node]);
+        target.setEarliestFinish(earliestFinish[node]);
+        target.setLatestStart(latestStart[node]);
+        target.setLatestFinish(latestFinish[node]);
+        target.setSlack(slack[node]);
+        target.setOnCriticalPath(criticalNodes[node]);
+    }
+
+    // Getters
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public double getEarliestCompletionTime() {
+        return earliestCompletionTime;
+    }
+
+    public double getEarliestStart(int node) {
+        return earliestStart[node];
+    }
+
+    public double getEarliestFinish(int node) {
+        return earliestFinish[node];
+    }
+
+    public double getLatestStart(int node) {
+        return latestStart[node];
+    }
+
+    public double getLatestFinish(int node) {
+        return latestFinish[node];
+    }
+
+    public double getSlack(int node) {
+        return slack[node];
+    }
+
+    public boolean isOnCriticalPath(int node) {
+        return criticalNodes[node];
+    }
+
+    public boolean isEdgeOnCriticalPath(int edge) {
+        return criticalEdges[edge];
+    }
+
+    public double[] getEarliestStartTimes() {
+        return earliestStart;
+    }
+
+    public double[] getEarliestFinishTimes() {
+        return earliestFinish;
+    }
+
+    public double[] getLatestStartTimes() {
+        return latestStart;
+    }
+
+    public double[] getLatestFinishTimes() {
+        return latestFinish;
+    }
+
+    public double[] getSlackTimes() {
+        return slack;
+    }
+
+    public boolean[] getCriticalNodes() {
+        return criticalNodes;
+    }
+
+    public boolean[] getCriticalEdges() {
+        return criticalEdges;
+    }
+
+    int[] getPredecessorEdges() {
+        return predecessorEdges;
+    }
+
+    @Override
+    public String toString() {
+        int criticalCount = 0;
+        for (boolean critical : criticalNodes) {
+            if (critical) {
+                criticalCount++;
+            }
+        }
+        return String.format("CpmResult{graph='%s', completionTime=%.1f, criticalNodes=%d}",
+            graph.getName(), earliestCompletionTime, criticalCount);
+    }
+}
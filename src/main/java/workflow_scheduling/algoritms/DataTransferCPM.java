@@ -2,11 +2,12 @@
 package workflow_scheduling.algoritms;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
-import java.util.Stack;
 
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.CyclicGraphException;
 import workflow_scheduling.model.Edge;
 import workflow_scheduling.model.Node;
 import workflow_scheduling.model.WorkflowGraph;
@@ -17,6 +18,15 @@ import workflow_scheduling.model.WorkflowGraph;
  */
 public class DataTransferCPM {
     private WorkflowGraph graph;
+    private CompactGraph compactGraph;
+    private double[] nodeCosts;
+    private double[] edgeCosts;
+    private CpmResult result;
+    
+    // Pending cost changes for the incremental mode
+    private IncrementalCpm incremental;
+    private BitSet modifiedNodes = new BitSet();
+    private BitSet modifiedEdges = new BitSet();
     
     /**
      * Creates a new CPM analyzer for the given workflow graph
@@ -25,100 +35,202 @@ public class DataTransferCPM {
      */
     public DataTransferCPM(WorkflowGraph graph) {
         this.graph = graph;
+        initialize(graph.getCompactGraph());
     }
     
     /**
-     * Calculates the critical path of the workflow
-     * Incorporating data transfer amounts in execution times
+     * Creates a new CPM analyzer that runs directly on a compact graph
+     * Nodes returned by this analyzer are detached copies carrying the analysis results
+     * 
+     * @param compactGraph The compact graph to analyze
      */
-    public void calculateCriticalPath() {
-        // Topological sort
-        List<String> sortedNodes = topologicalSort();
+    public DataTransferCPM(CompactGraph compactGraph) {
+        this.graph = null;
+        initialize(compactGraph);
+    }
+    
+    /**
+     * Creates an analyzer around a result computed earlier, for example by the analysis cache
+     * The result must come from a DataTransferCPM on the same compact graph, so the queries
+     * of this analyzer can be answered without calculating the critical path again.
+     * 
+     * @param result The analysis result
+     */
+    public DataTransferCPM(CpmResult result) {
+        this(result.getGraph());
+        this.result = result;
+    }
+    
+    private void initialize(CompactGraph compactGraph) {
+        this.compactGraph = compactGraph;
+        int nodeCount = compactGraph.getNodeCount();
+        this.nodeCosts = new double[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            // The cached compact graph may predate changes made on the nodes
+            nodeCosts[i] = graph != null
+                ? graph.getNode(compactGraph.getNodeId(i)).getExecutionTime()
+                : compactGraph.getExecutionTime(i);
+        }
         
-        /* Forward pass - including data transfer amounts */
-        for (String nodeId : sortedNodes) {
-            Node node = graph.getNode(nodeId);
-            double maxPredecessorFinish = 0;
-            
-            // Check all predecessors
-            for (Edge edge : graph.getIncomingEdges(nodeId)) {
-                Node predecessor = graph.getNode(edge.getSource());
-                
-                // Include both the predecessor finish time and the data transfer time
-                double finishTime = predecessor.getEarliestFinish() + edge.getDataAmount();
-                maxPredecessorFinish = Math.max(maxPredecessorFinish, finishTime);
+        // Data amounts are added to the timeline as transfer delays
+        int[] dataAmounts = compactGraph.getEdgeDataAmounts();
+        this.edgeCosts = new double[dataAmounts.length];
+        if (graph != null) {
+            int[] outOffsets = compactGraph.getOutOffsets();
+            for (int i = 0; i < nodeCount; i++) {
+                List<Edge> outgoing = graph.getOutgoingEdges(compactGraph.getNodeId(i));
+                for (int k = 0; k < outgoing.size(); k++) {
+                    edgeCosts[outOffsets[i] + k] = outgoing.get(k).getDataAmount();
+                }
+            }
+        } else {
+            for (int e = 0; e < dataAmounts.length; e++) {
+                edgeCosts[e] = dataAmounts[e];
             }
-            
-            node.setEarliestStart(maxPredecessorFinish);
-            
-            // Calculate earliest finish time including node execution time
-            node.setEarliestFinish(maxPredecessorFinish + node.getExecutionTime());
         }
         
-        // Initialize latest finish times
-        double maxFinish = 0;
-        for (Node node : graph.getNodes().values()) {
-            maxFinish = Math.max(maxFinish, node.getEarliestFinish());
+    }
+    
+    /**
+     * Calculates the critical path of the workflow
+     * Incorporating data transfer amounts in execution times
+     * The workflow graph is not modified; use CpmResult.applyTo to copy the
+     * results onto its nodes and edges
+     * 
+     * @return The analysis result, indexed by the ordinals of getCompactGraph()
+     * @throws CyclicGraphException If the workflow contains a cycle
+     */
+    public CpmResult calculateCriticalPath() {
+        CpmResult analysis = new CpmResult(compactGraph);
+        analysis.compute(compactGraph.getTopologicalOrder(), nodeCosts, edgeCosts);
+        this.result = analysis;
+        modifiedNodes.clear();
+        modifiedEdges.clear();
+        return analysis;
+    }
+    
+    /**
+     * Calculates the critical path with the passes split level by level across a
+     * fork-join pool, which pays off for very wide workflows
+     * 
+     * @param engine The parallel engine to run the passes on
+     * @return The analysis result, identical to calculateCriticalPath()
+     */
+    public CpmResult calculateCriticalPath(WavefrontCpm engine) {
+        CpmResult analysis = new CpmResult(compactGraph);
+        engine.compute(analysis, nodeCosts, edgeCosts);
+        this.result = analysis;
+        modifiedNodes.clear();
+        modifiedEdges.clear();
+        return analysis;
+    }
+    
+    /**
+     * Gets the result of the most recent calculateCriticalPath() call
+     * 
+     * @return The latest analysis result
+     * @throws IllegalStateException If the critical path has not been calculated yet
+     */
+    public CpmResult getResult() {
+        if (result == null) {
+            throw new IllegalStateException("calculateCriticalPath() has not been called");
         }
-        
-        // Set all latest finish times to max
-        for (Node node : graph.getNodes().values()) {
-            node.setLatestFinish(maxFinish);
+        return result;
+    }
+    
+    /**
+     * Gets the compact graph this analyzer runs on
+     * 
+     * @return The compact graph
+     */
+    public CompactGraph getCompactGraph() {
+        return compactGraph;
+    }
+    
+    /**
+     * Changes the execution time of a node for the incremental mode
+     * The change takes effect with the next updateCriticalPath() call
+     * 
+     * @param node The node ordinal in the compact graph
+     * @param executionTime The new execution time
+     */
+    public void setExecutionTime(int node, double executionTime) {
+        nodeCosts[node] = executionTime;
+        modifiedNodes.set(node);
+    }
+    
+    /**
+     * Changes the data amount of an edge for the incremental mode
+     * The change takes effect with the next updateCriticalPath() call
+     * 
+     * @param edge The edge id in the compact graph
+     * @param dataAmount The new data amount
+     */
+    public void setDataAmount(int edge, double dataAmount) {
+        edgeCosts[edge] = dataAmount;
+        modifiedEdges.set(edge);
+    }
+    
+    /**
+     * Incrementally updates the critical path after nodes or edges of the workflow graph
+     * have been modified, re-reading their execution times and data amounts
+     * 
+     * @param modifiedNodes Nodes whose execution time has changed
+     * @param modifiedEdges Edges whose data amount has changed
+     * @return The updated analysis result
+     */
+    public CpmResult updateCriticalPath(Collection<Node> modifiedNodes, Collection<Edge> modifiedEdges) {
+        if (graph == null) {
+            throw new IllegalStateException("Analyzer was not created from a WorkflowGraph");
         }
-        
-        /* Backward pass - including data transfer amounts */
-        for (int i = sortedNodes.size() - 1; i >= 0; i--) {
-            String nodeId = sortedNodes.get(i);
-            Node node = graph.getNode(nodeId);
-            
-            double minSuccessorStart = node.getLatestFinish();
-            
-            // Check all successors
-            for (Edge edge : graph.getOutgoingEdges(nodeId)) {
-                Node successor = graph.getNode(edge.getTarget());
-                
-                // Include data transfer time when calculating latest finish
-                double latestFinishForSuccessor = successor.getLatestStart() - edge.getDataAmount();
-                minSuccessorStart = Math.min(minSuccessorStart, latestFinishForSuccessor);
+        for (Node node : modifiedNodes) {
+            int index = compactGraph.indexOf(node.getId());
+            if (index < 0) {
+                throw new IllegalArgumentException("Node is not part of the graph: " + node.getId());
             }
-            
-            node.setLatestFinish(minSuccessorStart);
-            node.setLatestStart(minSuccessorStart - node.getExecutionTime());
-            
-            // Calculate slack
-            node.setSlack(node.getLatestStart() - node.getEarliestStart());
-            
-            // Mark as critical path if slack is near zero
-            if (Math.abs(node.getSlack()) < 0.001) {
-                node.setOnCriticalPath(true);
+            setExecutionTime(index, node.getExecutionTime());
+        }
+        for (Edge edge : modifiedEdges) {
+            int index = compactGraph.edgeIndexOf(edge, graph);
+            if (index < 0) {
+                throw new IllegalArgumentException("Edge is not part of the graph: " + edge);
             }
+            setDataAmount(index, edge.getDataAmount());
         }
-        
-        // Mark edges on critical path
-        markCriticalEdges();
+        return updateCriticalPath();
     }
     
     /**
-     * Marks edges that are on the critical path
-     * An edge is critical if it connects two critical nodes and
-     * the timing including transfer time is consistent
+     * Applies the pending cost changes to the latest result
+     * Only the nodes whose times are affected by the changes are recomputed, and the
+     * latest result is updated in place. Falls back to calculateCriticalPath() if no
+     * result exists yet.
+     * 
+     * @return The updated analysis result
      */
-    private void markCriticalEdges() {
-        // For each critical node, check which outgoing edges connect to another critical node
-        for (Node node : getCriticalPath()) {
-            for (Edge edge : graph.getOutgoingEdges(node.getId())) {
-                Node target = graph.getNode(edge.getTarget());
-                
-                // If target is on critical path and timing is consistent with critical path
-                if (target.isOnCriticalPath()) {
-                    // Expected start time of target should equal the source finish time plus transfer time
-                    double expectedStart = node.getEarliestFinish() + edge.getDataAmount();
-                    if (Math.abs(expectedStart - target.getEarliestStart()) < 0.001) {
-                        edge.setOnCriticalPath(true);
-                    }
-                }
-            }
+    public CpmResult updateCriticalPath() {
+        if (result == null) {
+            return calculateCriticalPath();
+        }
+        if (incremental == null) {
+            incremental = new IncrementalCpm(compactGraph);
         }
+        incremental.update(result, nodeCosts, edgeCosts, modifiedNodes, modifiedEdges);
+        modifiedNodes.clear();
+        modifiedEdges.clear();
+        return result;
+    }
+    
+    /**
+     * Gets the node object for a node ordinal
+     */
+    private Node toNode(int index) {
+        if (graph != null) {
+            return graph.getNode(compactGraph.getNodeId(index));
+        }
+        Node node = new Node(compactGraph.getNodeId(index), compactGraph.getExecutionTime(index));
+        getResult().applyTo(index, node);
+        return node;
     }
     
     /**
@@ -127,10 +239,11 @@ public class DataTransferCPM {
      * @return List of nodes on the critical path
      */
     public List<Node> getCriticalPath() {
+        CpmResult result = getResult();
         List<Node> criticalPath = new ArrayList<>();
-        for (Node node : graph.getNodes().values()) {
-            if (node.isOnCriticalPath()) {
-                criticalPath.add(node);
+        for (int i = 0; i < compactGraph.getNodeCount(); i++) {
+            if (result.isOnCriticalPath(i)) {
+                criticalPath.add(toNode(i));
             }
         }
         return criticalPath;
@@ -138,101 +251,55 @@ public class DataTransferCPM {
     
     /**
      * Gets the critical path as a sequence of connected nodes
+     * If several paths are critical, one of them is returned, see CpmResult.getOrderedCriticalPath
      * 
      * @return Ordered list of nodes in the critical path
      */
     public List<Node> getOrderedCriticalPath() {
-        List<Node> criticalPath = getCriticalPath();
         List<Node> ordered = new ArrayList<>();
-        
-        // Find a node with no incoming critical edges (should be the start)
-        Node start = null;
-        for (Node node : criticalPath) {
-            boolean hasIncomingCritical = false;
-            for (Edge edge : graph.getIncomingEdges(node.getId())) {
-                if (edge.isOnCriticalPath()) {
-                    hasIncomingCritical = true;
-                    break;
-                }
-            }
-            
-            if (!hasIncomingCritical) {
-                start = node;
-                break;
-            }
+        for (int node : getResult().getOrderedCriticalPath()) {
+            ordered.add(toNode(node));
         }
-        
-        if (start == null && !criticalPath.isEmpty()) {
-            // If no clear start, use the earliest start time
-            start = criticalPath.get(0);
-            for (Node node : criticalPath) {
-                if (node.getEarliestStart() < start.getEarliestStart()) {
-                    start = node;
-                }
-            }
-        }
-        
-        // Build the ordered path
-        if (start != null) {
-            ordered.add(start);
-            buildOrderedPath(start, ordered);
-        }
-        
         return ordered;
     }
-    
+
     /**
-     * Recursively builds the ordered critical path
+     * Creates an enumerator of the source-to-sink paths from the longest down
+     * Paths are measured with the costs of this analyzer (execution and data transfer times) at the time
+     * of the call; later cost changes do not affect the enumerator.
+     * 
+     * @return A lazy enumerator of ranked paths
+     * @throws CyclicGraphException If the workflow contains a cycle
      */
-    private void buildOrderedPath(Node current, List<Node> path) {
-        for (Edge edge : graph.getOutgoingEdges(current.getId())) {
-            if (edge.isOnCriticalPath()) {
-                Node next = graph.getNode(edge.getTarget());
-                if (!path.contains(next)) {
-                    path.add(next);
-                    buildOrderedPath(next, path);
-                }
-            }
-        }
+    public LongestPathEnumerator enumerateLongestPaths() {
+        return new LongestPathEnumerator(compactGraph, nodeCosts.clone(), edgeCosts.clone());
     }
     
     /**
-     * Performs a topological sort of the graph
+     * Gets the k longest source-to-sink paths
      * 
-     * @return List of node IDs in topological order
+     * @param k Maximum number of paths
+     * @return The paths, longest first; the first one is a critical path
+     * @throws CyclicGraphException If the workflow contains a cycle
      */
-    private List<String> topologicalSort() {
-        Set<String> visited = new HashSet<>();
-        Stack<String> stack = new Stack<>();
-        
-        for (String nodeId : graph.getNodes().keySet()) {
-            if (!visited.contains(nodeId)) {
-                topologicalSortUtil(nodeId, visited, stack);
-            }
-        }
-        
-        List<String> result = new ArrayList<>();
-        while (!stack.isEmpty()) {
-            result.add(stack.pop());
-        }
-        return result;
+    public List<RankedPath> getLongestPaths(int k) {
+        return enumerateLongestPaths().next(k);
     }
     
     /**
-     * Utility method for topological sort using DFS
+     * Gets the source-to-sink paths that are within a fraction of the longest path length,
+     * the paths that become critical after a small delay
+     * 
+     * @param tolerance Allowed shortfall relative to the longest path, e.g. 0.05 for 5%
+     * @param limit Maximum number of paths, since there can be exponentially many
+     * @return The paths, longest first
+     * @throws CyclicGraphException If the workflow contains a cycle
      */
-    private void topologicalSortUtil(String nodeId, Set<String> visited, Stack<String> stack) {
-        visited.add(nodeId);
-        
-        for (Edge edge : graph.getOutgoingEdges(nodeId)) {
-            if (!visited.contains(edge.getTarget())) {
-                topologicalSortUtil(edge.getTarget(), visited, stack);
-            }
-        }
-        
-        stack.push(nodeId);
+    public List<RankedPath> getNearCriticalPaths(double tolerance, int limit) {
+        LongestPathEnumerator paths = enumerateLongestPaths();
+        return paths.nextAtLeast(paths.getLongestPathLength() * (1 - tolerance), limit);
     }
-    
+
     /**
      * Gets the earliest completion time for the entire workflow
      * This includes both execution times and data transfer times
@@ -240,11 +307,7 @@ public class DataTransferCPM {
      * @return The earliest completion time
      */
     public double getEarliestCompletionTime() {
-        double maxFinish = 0;
-        for (Node node : graph.getNodes().values()) {
-            maxFinish = Math.max(maxFinish, node.getEarliestFinish());
-        }
-        return maxFinish;
+        return getResult().getEarliestCompletionTime();
     }
     
     /**
@@ -253,19 +316,13 @@ public class DataTransferCPM {
      * @return The total data transfer time
      */
     public double getTotalCriticalPathTransferTime() {
+        CpmResult result = getResult();
         double totalTransferTime = 0;
         
-        List<Node> orderedPath = getOrderedCriticalPath();
-        for (int i = 0; i < orderedPath.size() - 1; i++) {
-            Node current = orderedPath.get(i);
-            Node next = orderedPath.get(i + 1);
-            
-            for (Edge edge : graph.getOutgoingEdges(current.getId())) {
-                if (edge.getTarget().equals(next.getId()) && edge.isOnCriticalPath()) {
-                    totalTransferTime += edge.getDataAmount();
-                    break;
-                }
-            }
+        // Every node after the first is entered through its predecessor edge
+        int[] orderedPath = result.getOrderedCriticalPath();
+        for (int i = 1; i < orderedPath.length; i++) {
+            totalTransferTime += edgeCosts[result.getPredecessorEdge(orderedPath[i])];
         }
         
         return totalTransferTime;
@@ -280,8 +337,8 @@ public class DataTransferCPM {
     public double getTotalCriticalPathExecutionTime() {
         double totalExecutionTime = 0;
         
-        for (Node node : getOrderedCriticalPath()) {
-            totalExecutionTime += node.getExecutionTime();
+        for (int node : getResult().getOrderedCriticalPath()) {
+            totalExecutionTime += nodeCosts[node];
         }
         
         return totalExecutionTime;
@@ -291,15 +348,16 @@ public class DataTransferCPM {
      * Prints the critical path analysis results
      */
     public void printAnalysisResults() {
+        CpmResult result = getResult();
         System.out.println("=== Critical Path Analysis Results ===");
         System.out.println("(Including data transfer times in calculations)");
         
-        for (Node node : graph.getNodes().values()) {
+        for (int i = 0; i < compactGraph.getNodeCount(); i++) {
             System.out.printf("Node %s: ES=%.1f, EF=%.1f, LS=%.1f, LF=%.1f, Slack=%.1f%n",
-                node.getId(), node.getEarliestStart(), node.getEarliestFinish(),
-                node.getLatestStart(), node.getLatestFinish(), node.getSlack());
+                compactGraph.getNodeId(i), result.getEarliestStart(i), result.getEarliestFinish(i),
+                result.getLatestStart(i), result.getLatestFinish(i), result.getSlack(i));
                 
-            if (node.isOnCriticalPath()) {
+            if (result.isOnCriticalPath(i)) {
                 System.out.println("  This node is on the critical path!");
             }
         }
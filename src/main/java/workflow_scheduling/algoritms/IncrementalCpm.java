@@ -0,0 +1,264 @@
+// File: workflow_scheduling/algorithm/IncrementalCpm.java
+package workflow_scheduling.algoritms;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Updates an existing CpmResult after node or edge costs have changed
+ *
+ * Earliest times are re-propagated forward, in topological order, only through the
+ * descendants whose times actually change. Latest times are re-propagated backward through
+ * the affected ancestors. When the completion time itself moves, every latest time shifts by
+ * the same amount, which is applied with a single sweep instead of a full backward pass.
+ */
+final class IncrementalCpm {
+    private final CompactGraph graph;
+    private final RankQueue forwardQueue;
+    private final RankQueue backwardQueue;
+    private final boolean[] changed;
+    private int[] changedNodes;
+    private int changedCount;
+
+    /**
+     * Creates the incremental state for a graph
+     *
+     * @param graph The compact graph the results belong to
+     */
+    IncrementalCpm(CompactGraph graph) {
+        this.graph = graph;
+        int[] ranks = graph.getTopologicalRanks();
+        int[] reverseRanks = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            reverseRanks[i] = ranks.length - 1 - ranks[i];
+        }
+        this.forwardQueue = new RankQueue(ranks);
+        this.backwardQueue = new RankQueue(reverseRanks);
+        this.changed = new boolean[ranks.length];
+        this.changedNodes = new int[16];
+    }
+
+    /**
+     * Brings a result up to date with the current costs
+     *
+     * @param result The result to update in place
+     * @param nodeCosts Duration of each node, already containing the new values
+     * @param edgeCosts Cost of each edge, or null if edges are free
+     * @param modifiedNodes Ordinals of nodes whose cost changed
+     * @param modifiedEdges Ids of edges whose cost changed
+     */
+    void update(
+            CpmResult result,
+            double[] nodeCosts,
+            double[] edgeCosts,
+            BitSet modifiedNodes,
+            BitSet modifiedEdges) {
+
+        int[] edgeSources = graph.getEdgeSources();
+        int[] edgeTargets = graph.getEdgeTargets();
+
+        for (int node = modifiedNodes.nextSetBit(0); node >= 0; node = modifiedNodes.nextSetBit(node + 1)) {
+            forwardQueue.add(node);
+            backwardQueue.add(node);
+            markChanged(node);
+        }
+        if (edgeCosts != null) {
+            for (int edge = modifiedEdges.nextSetBit(0); edge >= 0; edge = modifiedEdges.nextSetBit(edge + 1)) {
+                forwardQueue.add(edgeTargets[edge]);
+                backwardQueue.add(edgeSources[edge]);
+                markChanged(edgeSources[edge]);
+                markChanged(edgeTargets[edge]);
+            }
+        }
+
+        propagateForward(result, nodeCosts, edgeCosts);
+
+        // The completion time is the latest finish among the sinks
+        double previousCompletionTime = result.getEarliestCompletionTime();
+        double[] earliestFinish = result.getEarliestFinishTimes();
+        int lastSink = CpmPasses.lastFinishingSink(graph, earliestFinish);
+        double completionTime = lastSink >= 0 ? earliestFinish[lastSink] : 0;
+        result.setEarliestCompletionTime(completionTime, lastSink);
+
+        double shift = completionTime - previousCompletionTime;
+        if (shift != 0) {
+            double[] latestStart = result.getLatestStartTimes();
+            double[] latestFinish = result.getLatestFinishTimes();
+            for (int i = 0; i < latestStart.length; i++) {
+                latestStart[i] += shift;
+                latestFinish[i] += shift;
+            }
+        }
+
+        propagateBackward(result, nodeCosts, edgeCosts, completionTime);
+
+        if (shift != 0) {
+            // Every slack value moved, so refresh all critical flags
+            CpmPasses.markCritical(graph, edgeCosts,
+                result.getEarliestStartTimes(), earliestFinish, result.getLatestStartTimes(),
+                result.getSlackTimes(), result.getCriticalNodes(), result.getCriticalEdges());
+        } else {
+            markCriticalChanged(result, edgeCosts);
+        }
+
+        for (int i = 0; i < changedCount; i++) {
+            changed[changedNodes[i]] = false;
+        }
+        changedCount = 0;
+    }
+
+    /**
+     * Recomputes earliest times of queued nodes and of every successor whose input changed
+     */
+    private void propagateForward(CpmResult result, double[] nodeCosts, double[] edgeCosts) {
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+        int[] edgeSources = graph.getEdgeSources();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        double[] earliestStart = result.getEarliestStartTimes();
+        double[] earliestFinish = result.getEarliestFinishTimes();
+        int[] predecessorEdges = result.getPredecessorEdges();
+
+        while (!forwardQueue.isEmpty()) {
+            int node = forwardQueue.poll();
+            double start = 0;
+            int predecessorEdge = -1;
+            for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                int edge = inEdges[k];
+                double finishTime = earliestFinish[edgeSources[edge]];
+                if (edgeCosts != null) {
+                    finishTime += edgeCosts[edge];
+                }
+                // Same choice of predecessor edge as CpmPasses.forwardRange
+                if (finishTime > start) {
+                    start = finishTime;
+                    predecessorEdge = edge;
+                } else if (predecessorEdge < 0 && finishTime == start) {
+                    predecessorEdge = edge;
+                }
+            }
+            double finish = start + nodeCosts[node];
+            if (predecessorEdges != null) {
+                predecessorEdges[node] = predecessorEdge;
+            }
+
+            if (start != earliestStart[node]) {
+                earliestStart[node] = start;
+                markChanged(node);
+            }
+            if (finish != earliestFinish[node]) {
+                earliestFinish[node] = finish;
+                markChanged(node);
+                for (int edge = outOffsets[node]; edge < outOffsets[node + 1]; edge++) {
+                    forwardQueue.add(edgeTargets[edge]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes latest times of queued nodes and of every predecessor whose input changed
+     */
+    private void propagateBackward(CpmResult result, double[] nodeCosts, double[] edgeCosts, double completionTime) {
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+        int[] edgeSources = graph.getEdgeSources();
+        double[] latestStart = result.getLatestStartTimes();
+        double[] latestFinish = result.getLatestFinishTimes();
+
+        while (!backwardQueue.isEmpty()) {
+            int node = backwardQueue.poll();
+            double finish = completionTime;
+            for (int edge = outOffsets[node]; edge < outOffsets[node + 1]; edge++) {
+                double startTime = latestStart[edgeTargets[edge]];
+                if (edgeCosts != null) {
+                    startTime -= edgeCosts[edge];
+                }
+                finish = Math.min(finish, startTime);
+            }
+            double start = finish - nodeCosts[node];
+
+            if (finish != latestFinish[node]) {
+                latestFinish[node] = finish;
+                markChanged(node);
+            }
+            if (start != latestStart[node]) {
+                latestStart[node] = start;
+                markChanged(node);
+                for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                    backwardQueue.add(edgeSources[inEdges[k]]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Refreshes slack and critical flags of changed nodes and their incident edges
+     */
+    private void markCriticalChanged(CpmResult result, double[] edgeCosts) {
+        double[] earliestStart = result.getEarliestStartTimes();
+        double[] earliestFinish = result.getEarliestFinishTimes();
+        double[] latestStart = result.getLatestStartTimes();
+        double[] slack = result.getSlackTimes();
+        boolean[] criticalNodes = result.getCriticalNodes();
+        boolean[] criticalEdges = result.getCriticalEdges();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeSources = graph.getEdgeSources();
+        int[] edgeTargets = graph.getEdgeTargets();
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+
+        for (int i = 0; i < changedCount; i++) {
+            int node = changedNodes[i];
+            slack[node] = latestStart[node] - earliestStart[node];
+            criticalNodes[node] = Math.abs(slack[node]) < CpmPasses.EPSILON;
+        }
+
+        for (int i = 0; i < changedCount; i++) {
+            int node = changedNodes[i];
+            for (int edge = outOffsets[node]; edge < outOffsets[node + 1]; edge++) {
+                criticalEdges[edge] = isCriticalEdge(edge, edgeSources[edge], edgeTargets[edge],
+                    edgeCosts, earliestStart, earliestFinish, criticalNodes);
+            }
+            for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                int edge = inEdges[k];
+                criticalEdges[edge] = isCriticalEdge(edge, edgeSources[edge], edgeTargets[edge],
+                    edgeCosts, earliestStart, earliestFinish, criticalNodes);
+            }
+        }
+    }
+
+    private static boolean isCriticalEdge(
+            int edge,
+            int source,
+            int target,
+            double[] edgeCosts,
+            double[] earliestStart,
+            double[] earliestFinish,
+            boolean[] criticalNodes) {
+        if (!criticalNodes[source] || !criticalNodes[target]) {
+            return false;
+        }
+        double expectedStart = earliestFinish[source];
+        if (edgeCosts != null) {
+            expectedStart += edgeCosts[edge];
+        }
+        return Math.abs(expectedStart - earliestStart[target]) < CpmPasses.EPSILON;
+    }
+
+    private void markChanged(int node) {
+        if (changed[node]) {
+            return;
+        }
+        changed[node] = true;
+        if (changedCount == changedNodes.length) {
+            changedNodes = Arrays.copyOf(changedNodes, changedCount * 2);
+        }
+        changedNodes[changedCount++] = node;
+    }
+}
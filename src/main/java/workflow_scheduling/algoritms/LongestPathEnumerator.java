@@ -0,0 +1,340 @@
+// File: workflow_scheduling/algorithm/LongestPathEnumerator.java
+package workflow_scheduling.algoritms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntToDoubleFunction;
+
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.CyclicGraphException;
+
+/**
+ * Enumerates the source-to-sink paths of a DAG from the longest down, one path at a time
+ *
+ * A path is as long as the sum of its node and edge costs. One reverse topological pass
+ * computes the longest remaining length from every node to a sink, which makes the bound
+ * of a partial path exact: following the best outgoing edge from its last node completes
+ * it to a path of exactly that length. The enumerator keeps a max-heap of deviations,
+ * each a shared path prefix plus the rank of the next outgoing edge to try at its last
+ * node. Taking the top deviation yields the next path by greedy completion and adds only
+ * the next-ranked sibling at the deviation point and the second-ranked edge at every
+ * node of the completion, so the heap grows with the length of the returned paths,
+ * never with the number of paths in the graph, which can be exponential.
+ *
+ * Outgoing edges are ranked on first use of their node, so the setup costs one pass
+ * over the graph and every path costs its length times the log of the heap size.
+ */
+public class LongestPathEnumerator implements Iterator<RankedPath> {
+    private final CompactGraph graph;
+    private final double[] nodeCosts;
+    private final double[] edgeCosts;
+    private final int[] outOffsets;
+    private final int[] edgeTargets;
+
+    // Longest length from each node to a sink, including the node itself
+    private final double[] tail;
+    // Sources by descending tail
+    private final int[] sources;
+    // Edge ids in CSR layout, each node's range sorted by descending bound once ranked
+    private final int[] rankedEdges;
+    private final boolean[] ranked;
+    private final double longestLength;
+
+    // Path prefixes as a tree of records, each pointing to its parent record
+    private int[] recordNodes = new int[64];
+    private int[] recordEdges = new int[64];
+    private int[] recordParents = new int[64];
+    private double[] recordLengths = new double[64];
+    private int recordCount;
+
+    // Max-heap of deviations: prefix record (-1 for the sources) and rank of the next edge
+    private double[] heapBounds = new double[64];
+    private int[] heapRecords = new int[64];
+    private int[] heapRanks = new int[64];
+    private int heapSize;
+
+    private int returned;
+
+    /**
+     * Creates an enumerator over the given costs
+     * The cost arrays are read during enumeration and must not change while it runs.
+     *
+     * @param graph The compact graph
+     * @param nodeCosts Duration of each node
+     * @param edgeCosts Cost of each edge, or null if edges are free
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    LongestPathEnumerator(CompactGraph graph, double[] nodeCosts, double[] edgeCosts) {
+        this.graph = graph;
+        this.nodeCosts = nodeCosts;
+        this.edgeCosts = edgeCosts;
+        this.outOffsets = graph.getOutOffsets();
+        this.edgeTargets = graph.getEdgeTargets();
+
+        int[] order = graph.getTopologicalOrder();
+        int nodeCount = graph.getNodeCount();
+        this.tail = new double[nodeCount];
+        for (int i = order.length - 1; i >= 0; i--) {
+            int node = order[i];
+            double best = 0;
+            for (int edge = outOffsets[node]; edge < outOffsets[node + 1]; edge++) {
+                best = Math.max(best, edgeBound(edge));
+            }
+            tail[node] = nodeCosts[node] + best;
+        }
+
+        this.sources = sortByBound(graph.getSourceNodes(), node -> tail[node]);
+        this.rankedEdges = new int[graph.getEdgeCount()];
+        this.ranked = new boolean[nodeCount];
+        this.longestLength = sources.length > 0 ? tail[sources[0]] : 0;
+
+        if (sources.length > 0) {
+            push(longestLength, -1, 0);
+        }
+    }
+
+    /**
+     * Checks whether another path is left
+     *
+     * @return true if next() returns a path
+     */
+    @Override
+    public boolean hasNext() {
+        return heapSize > 0;
+    }
+
+    /**
+     * Gets the next longest path
+     *
+     * @return The path; ties between equally long paths are broken arbitrarily
+     * @throws NoSuchElementException If every path has been returned
+     */
+    @Override
+    public RankedPath next() {
+        if (heapSize == 0) {
+            throw new NoSuchElementException("All paths have been enumerated");
+        }
+        int parent = heapRecords[0];
+        int rank = heapRanks[0];
+        pop();
+
+        // The next sibling at the same deviation point
+        if (parent < 0) {
+            if (rank + 1 < sources.length) {
+                push(tail[sources[rank + 1]], -1, rank + 1);
+            }
+        } else {
+            int node = recordNodes[parent];
+            if (rank + 1 < outOffsets[node + 1] - outOffsets[node]) {
+                push(recordLengths[parent] + edgeBound(rankedEdge(node, rank + 1)), parent, rank + 1);
+            }
+        }
+
+        int record;
+        if (parent < 0) {
+            int source = sources[rank];
+            record = addRecord(source, -1, -1, nodeCosts[source]);
+        } else {
+            record = follow(parent, rankedEdge(recordNodes[parent], rank));
+        }
+
+        // Greedy completion along the best edges, leaving the second best as deviations
+        int length = 1;
+        for (int node = recordNodes[record]; outOffsets[node] < outOffsets[node + 1]; node = recordNodes[record]) {
+            if (outOffsets[node + 1] - outOffsets[node] > 1) {
+                push(recordLengths[record] + edgeBound(rankedEdge(node, 1)), record, 1);
+            }
+            record = follow(record, rankedEdge(node, 0));
+            length++;
+        }
+        for (int r = parent; r >= 0; r = recordParents[r]) {
+            length++;
+        }
+        return toPath(record, length);
+    }
+
+    /**
+     * Gets up to k of the next longest paths
+     *
+     * @param k Maximum number of paths
+     * @return The paths, longest first
+     */
+    public List<RankedPath> next(int k) {
+        List<RankedPath> paths = new ArrayList<>(Math.min(k, 1024));
+        while (paths.size() < k && hasNext()) {
+            paths.add(next());
+        }
+        return paths;
+    }
+
+    /**
+     * Gets the next paths that are at least a given length
+     *
+     * @param minLength Minimum path length
+     * @param limit Maximum number of paths, since there can be exponentially many
+     * @return The paths, longest first
+     */
+    public List<RankedPath> nextAtLeast(double minLength, int limit) {
+        List<RankedPath> paths = new ArrayList<>();
+        while (paths.size() < limit && hasNext() && peekLength() >= minLength - CpmPasses.EPSILON) {
+            paths.add(next());
+        }
+        return paths;
+    }
+
+    /**
+     * Gets the length of the path the next call to next() returns
+     *
+     * @return The length, or negative infinity if every path has been returned
+     */
+    public double peekLength() {
+        return heapSize > 0 ? heapBounds[0] : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Length of the best path through an edge, from the start of the edge to a sink
+     */
+    private double edgeBound(int edge) {
+        double cost = edgeCosts != null ? edgeCosts[edge] : 0;
+        return cost + tail[edgeTargets[edge]];
+    }
+
+    /**
+     * Gets the outgoing edge of a node with the given rank, ranking the edges on first use
+     */
+    private int rankedEdge(int node, int rank) {
+        int from = outOffsets[node];
+        if (!ranked[node]) {
+            int[] edges = new int[outOffsets[node + 1] - from];
+            for (int k = 0; k < edges.length; k++) {
+                edges[k] = from + k;
+            }
+            System.arraycopy(sortByBound(edges, this::edgeBound), 0, rankedEdges, from, edges.length);
+            ranked[node] = true;
+        }
+        return rankedEdges[from + rank];
+    }
+
+    private int follow(int parent, int edge) {
+        int target = edgeTargets[edge];
+        double cost = edgeCosts != null ? edgeCosts[edge] : 0;
+        return addRecord(target, edge, parent, recordLengths[parent] + cost + nodeCosts[target]);
+    }
+
+    private int addRecord(int node, int edge, int parent, double length) {
+        if (recordCount == recordNodes.length) {
+            int capacity = recordCount * 2;
+            recordNodes = Arrays.copyOf(recordNodes, capacity);
+            recordEdges = Arrays.copyOf(recordEdges, capacity);
+            recordParents = Arrays.copyOf(recordParents, capacity);
+            recordLengths = Arrays.copyOf(recordLengths, capacity);
+        }
+        recordNodes[recordCount] = node;
+        recordEdges[recordCount] = edge;
+        recordParents[recordCount] = parent;
+        recordLengths[recordCount] = length;
+        return recordCount++;
+    }
+
+    private RankedPath toPath(int last, int length) {
+        int[] nodes = new int[length];
+        int[] edges = new int[length - 1];
+        int record = last;
+        for (int i = length - 1; i >= 0; i--) {
+            nodes[i] = recordNodes[record];
+            if (i > 0) {
+                edges[i - 1] = recordEdges[record];
+            }
+            record = recordParents[record];
+        }
+        double pathLength = recordLengths[last];
+        return new RankedPath(graph, returned++, nodes, edges, pathLength, longestLength - pathLength);
+    }
+
+    private void push(double bound, int record, int rank) {
+        if (heapSize == heapBounds.length) {
+            int capacity = heapSize * 2;
+            heapBounds = Arrays.copyOf(heapBounds, capacity);
+            heapRecords = Arrays.copyOf(heapRecords, capacity);
+            heapRanks = Arrays.copyOf(heapRanks, capacity);
+        }
+
+        // Sift up
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapBounds[parent] >= bound) {
+                break;
+            }
+            moveHeapEntry(parent, i);
+            i = parent;
+        }
+        heapBounds[i] = bound;
+        heapRecords[i] = record;
+        heapRanks[i] = rank;
+    }
+
+    private void pop() {
+        int last = --heapSize;
+        double bound = heapBounds[last];
+
+        // Sift down
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heapBounds[child + 1] > heapBounds[child]) {
+                child++;
+            }
+            if (bound >= heapBounds[child]) {
+                break;
+            }
+            moveHeapEntry(child, i);
+            i = child;
+        }
+        if (heapSize > 0) {
+            heapBounds[i] = bound;
+            heapRecords[i] = heapRecords[last];
+            heapRanks[i] = heapRanks[last];
+        }
+    }
+
+    private void moveHeapEntry(int from, int to) {
+        heapBounds[to] = heapBounds[from];
+        heapRecords[to] = heapRecords[from];
+        heapRanks[to] = heapRanks[from];
+    }
+
+    /**
+     * Sorts ids by descending key; the sort is stable, so equal keys keep their order
+     */
+    private static int[] sortByBound(int[] ids, IntToDoubleFunction key) {
+        Integer[] boxed = new Integer[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            boxed[i] = ids[i];
+        }
+        Arrays.sort(boxed, (a, b) -> Double.compare(key.applyAsDouble(b), key.applyAsDouble(a)));
+
+        int[] sorted = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            sorted[i] = boxed[i];
+        }
+        return sorted;
+    }
+
+    // Getters
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public double getLongestPathLength() {
+        return longestLength;
+    }
+
+    public int getReturnedCount() {
+        return returned;
+    }
+}
@@ -0,0 +1,79 @@
+// File: workflow_scheduling/algorithm/RankQueue.java
+package workflow_scheduling.algoritms;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of node ordinals ordered by an int key per node
+ * A node is held at most once; adding a queued node again is a no-op.
+ */
+final class RankQueue {
+    private final int[] keys;
+    private final boolean[] queued;
+    private int[] heap;
+    private int size;
+
+    /**
+     * Creates an empty queue
+     *
+     * @param keys Priority of each node ordinal, smallest first
+     */
+    RankQueue(int[] keys) {
+        this.keys = keys;
+        this.queued = new boolean[keys.length];
+        this.heap = new int[16];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(int node) {
+        if (queued[node]) {
+            return;
+        }
+        queued[node] = true;
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+
+        // Sift up
+        int i = size++;
+        int key = keys[node];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = node;
+    }
+
+    int poll() {
+        int top = heap[0];
+        queued[top] = false;
+        int last = heap[--size];
+
+        // Sift down
+        int i = 0;
+        int key = keys[last];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (size > 0) {
+            heap[i] = last;
+        }
+        return top;
+    }
+}
@@ -0,0 +1,84 @@
+// File: workflow_scheduling/algorithm/RankedPath.java
+package workflow_scheduling.algoritms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * One source-to-sink path produced by LongestPathEnumerator
+ * Nodes and edges are ordinals and edge ids of the enumerated CompactGraph; the arrays
+ * returned by the getters are shared with this instance and must not be modified.
+ */
+public class RankedPath {
+    private final CompactGraph graph;
+    private final int rank;
+    private final int[] nodes;
+    private final int[] edges;
+    private final double length;
+    private final double slack;
+
+    /**
+     * Creates a path
+     *
+     * @param graph The enumerated graph
+     * @param rank Position of the path in the enumeration, 0 for the longest
+     * @param nodes Node ordinals from source to sink
+     * @param edges Edge ids between consecutive nodes, one fewer than nodes
+     * @param length Sum of the node and edge costs along the path
+     * @param slack Difference to the length of the longest path
+     */
+    RankedPath(CompactGraph graph, int rank, int[] nodes, int[] edges, double length, double slack) {
+        this.graph = graph;
+        this.rank = rank;
+        this.nodes = nodes;
+        this.edges = edges;
+        this.length = length;
+        this.slack = slack;
+    }
+
+    /**
+     * Gets the IDs of the nodes on the path
+     *
+     * @return Node IDs from source to sink
+     */
+    public List<String> getNodeIds() {
+        List<String> ids = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            ids.add(graph.getNodeId(node));
+        }
+        return ids;
+    }
+
+    // Getters
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public int[] getNodes() {
+        return nodes;
+    }
+
+    public int[] getEdges() {
+        return edges;
+    }
+
+    public double getLength() {
+        return length;
+    }
+
+    public double getSlack() {
+        return slack;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RankedPath{rank=%d, length=%.1f, slack=%.1f, nodes=%d}",
+            rank, length, slack, nodes.length);
+    }
+}
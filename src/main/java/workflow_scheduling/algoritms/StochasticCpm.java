@@ -0,0 +1,215 @@
+// File: workflow_scheduling/algorithm/StochasticCpm.java
+package workflow_scheduling.algoritms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.DurationDistribution;
+import workflow_scheduling.model.Edge;
+import workflow_scheduling.model.Node;
+import workflow_scheduling.model.WorkflowGraph;
+
+/**
+ * Monte Carlo extension of DataTransferCPM for workflows with uncertain durations
+ *
+ * Each sample draws the execution time of every node and the data amount of every edge
+ * from its distribution (nodes and edges without one keep their fixed value), then runs
+ * the same forward and backward passes as DataTransferCPM. Samples are processed in
+ * fixed-size chunks on a fork-join pool; every chunk owns a SplittableRandom stream split
+ * from the seed in chunk order, so results depend only on the seed and the sample count,
+ * not on the number of threads. The per-sample loop works on preallocated arrays.
+ */
+public class StochasticCpm {
+    /** Default number of samples */
+    public static final int DEFAULT_SAMPLES = 10_000;
+
+    /** Number of samples handled by one task */
+    private static final int CHUNK_SIZE = 1024;
+
+    private final CompactGraph compactGraph;
+    private final ForkJoinPool pool;
+    private final double deterministicMakespan;
+
+    // Fixed costs, as used by DataTransferCPM
+    private final double[] nodeCosts;
+    private final double[] edgeCosts;
+
+    // Nodes and edges with a distribution, and their distributions
+    private final int[] stochasticNodes;
+    private final DurationDistribution[] nodeDistributions;
+    private final int[] stochasticEdges;
+    private final DurationDistribution[] edgeDistributions;
+
+    /**
+     * Creates a stochastic analysis on the common fork-join pool
+     *
+     * @param graph The workflow graph to analyze
+     * @throws IllegalArgumentException If a distribution has invalid parameters
+     */
+    public StochasticCpm(WorkflowGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a stochastic analysis
+     *
+     * @param graph The workflow graph to analyze
+     * @param pool The fork-join pool to sample on
+     * @throws IllegalArgumentException If a distribution has invalid parameters
+     */
+    public StochasticCpm(WorkflowGraph graph, ForkJoinPool pool) {
+        this.compactGraph = graph.getCompactGraph();
+        this.pool = pool;
+
+        // The fixed-value analysis serves as reference for the sampled makespans
+        DataTransferCPM deterministic = new DataTransferCPM(graph);
+        this.deterministicMakespan = deterministic.calculateCriticalPath().getEarliestCompletionTime();
+
+        int nodeCount = compactGraph.getNodeCount();
+        this.nodeCosts = new double[nodeCount];
+        List<Integer> nodeIndexes = new ArrayList<>();
+        List<DurationDistribution> nodeDistributionList = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            Node node = graph.getNode(compactGraph.getNodeId(i));
+            nodeCosts[i] = node.getExecutionTime();
+            DurationDistribution distribution = node.getExecutionTimeDistribution();
+            if (distribution != null) {
+                distribution.validate();
+                nodeIndexes.add(i);
+                nodeDistributionList.add(distribution);
+            }
+        }
+
+        this.edgeCosts = new double[compactGraph.getEdgeCount()];
+        List<Integer> edgeIndexes = new ArrayList<>();
+        List<DurationDistribution> edgeDistributionList = new ArrayList<>();
+        int[] outOffsets = compactGraph.getOutOffsets();
+        for (int i = 0; i < nodeCount; i++) {
+            List<Edge> outgoing = graph.getOutgoingEdges(compactGraph.getNodeId(i));
+            for (int k = 0; k < outgoing.size(); k++) {
+                int edge = outOffsets[i] + k;
+                edgeCosts[edge] = outgoing.get(k).getDataAmount();
+                DurationDistribution distribution = outgoing.get(k).getDataAmountDistribution();
+                if (distribution != null) {
+                    distribution.validate();
+                    edgeIndexes.add(edge);
+                    edgeDistributionList.add(distribution);
+                }
+            }
+        }
+
+        this.stochasticNodes = nodeIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.nodeDistributions = nodeDistributionList.toArray(new DurationDistribution[0]);
+        this.stochasticEdges = edgeIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.edgeDistributions = edgeDistributionList.toArray(new DurationDistribution[0]);
+    }
+
+    /**
+     * Runs the Monte Carlo analysis
+     *
+     * @param samples Number of samples to draw
+     * @param seed Seed of the random streams
+     * @return The makespan distribution and criticality indices
+     */
+    public StochasticCpmResult analyze(int samples, long seed) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("At least one sample is required");
+        }
+        int[] order = compactGraph.getTopologicalOrder();
+        double[] makespans = new double[samples];
+
+        // Split the streams up front so each chunk gets the same stream on every run
+        SplittableRandom master = new SplittableRandom(seed);
+        List<Callable<int[]>> chunks = new ArrayList<>();
+        for (int from = 0; from < samples; from += CHUNK_SIZE) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(samples, from + CHUNK_SIZE);
+            SplittableRandom random = master.split();
+            chunks.add(() -> sampleChunk(order, random, makespans, chunkFrom, chunkTo));
+        }
+
+        int[] criticalCounts = new int[compactGraph.getNodeCount()];
+        for (Future<int[]> chunk : pool.invokeAll(chunks)) {
+            int[] counts = join(chunk);
+            for (int i = 0; i < criticalCounts.length; i++) {
+                criticalCounts[i] += counts[i];
+            }
+        }
+
+        return new StochasticCpmResult(compactGraph, makespans, criticalCounts, deterministicMakespan);
+    }
+
+    /**
+     * Runs the samples [from, to) and stores their makespans
+     *
+     * @return How often each node was critical in these samples
+     */
+    private int[] sampleChunk(int[] order, SplittableRandom random, double[] makespans, int from, int to) {
+        int nodeCount = compactGraph.getNodeCount();
+        double[] sampledNodeCosts = nodeCosts.clone();
+        double[] sampledEdgeCosts = edgeCosts.clone();
+        double[] earliestStart = new double[nodeCount];
+        double[] earliestFinish = new double[nodeCount];
+        double[] latestStart = new double[nodeCount];
+        double[] latestFinish = new double[nodeCount];
+        int[] criticalCounts = new int[nodeCount];
+
+        for (int sample = from; sample < to; sample++) {
+            for (int k = 0; k < stochasticNodes.length; k++) {
+                int node = stochasticNodes[k];
+                sampledNodeCosts[node] = nodeDistributions[k].sample(random, nodeCosts[node]);
+            }
+            for (int k = 0; k < stochasticEdges.length; k++) {
+                int edge = stochasticEdges[k];
+                sampledEdgeCosts[edge] = edgeDistributions[k].sample(random, edgeCosts[edge]);
+            }
+
+            double makespan = CpmPasses.forwardPass(
+                compactGraph, order, sampledNodeCosts, sampledEdgeCosts, earliestStart, earliestFinish, null);
+            CpmPasses.backwardPass(
+                compactGraph, order, sampledNodeCosts, sampledEdgeCosts, makespan, latestStart, latestFinish);
+
+            for (int node = 0; node < nodeCount; node++) {
+                if (Math.abs(latestStart[node] - earliestStart[node]) < CpmPasses.EPSILON) {
+                    criticalCounts[node]++;
+                }
+            }
+            makespans[sample] = makespan;
+        }
+        return criticalCounts;
+    }
+
+    private static int[] join(Future<int[]> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Stochastic analysis interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Stochastic analysis failed", e.getCause());
+        }
+    }
+
+    // Getters
+    public CompactGraph getCompactGraph() {
+        return compactGraph;
+    }
+
+    public double getDeterministicMakespan() {
+        return deterministicMakespan;
+    }
+
+    public int getStochasticNodeCount() {
+        return stochasticNodes.length;
+    }
+
+    public int getStochasticEdgeCount() {
+        return stochasticEdges.length;
+    }
+}
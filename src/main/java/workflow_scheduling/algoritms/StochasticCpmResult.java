@@ -0,0 +1,176 @@
+// File: workflow_scheduling/algorithm/StochasticCpmResult.java
+package workflow_scheduling.algoritms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Holds the outcome of a Monte Carlo CPM analysis
+ * The sampled makespans are kept sorted, and criticality indices are indexed by the
+ * node ordinals of the analyzed CompactGraph.
+ */
+public class StochasticCpmResult {
+    private final CompactGraph graph;
+    private final double[] makespans;
+    private final int[] criticalCounts;
+    private final double deterministicMakespan;
+
+    /**
+     * Creates a result
+     *
+     * @param graph The analyzed compact graph
+     * @param makespans The makespan of every sample, sorted in place
+     * @param criticalCounts Number of samples in which each node was critical
+     * @param deterministicMakespan Makespan of the analysis with fixed values
+     */
+    StochasticCpmResult(CompactGraph graph, double[] makespans, int[] criticalCounts, double deterministicMakespan) {
+        Arrays.parallelSort(makespans);
+        this.graph = graph;
+        this.makespans = makespans;
+        this.criticalCounts = criticalCounts;
+        this.deterministicMakespan = deterministicMakespan;
+    }
+
+    /**
+     * Gets a makespan percentile (nearest-rank method)
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The smallest sampled makespan that is at least as large as the given
+     *         percentage of samples
+     */
+    public double getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * makespans.length);
+        return makespans[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Gets the mean sampled makespan
+     *
+     * @return The mean makespan
+     */
+    public double getMeanMakespan() {
+        double sum = 0;
+        for (double makespan : makespans) {
+            sum += makespan;
+        }
+        return sum / makespans.length;
+    }
+
+    /**
+     * Gets the standard deviation of the sampled makespans
+     *
+     * @return The sample standard deviation, 0 for a single sample
+     */
+    public double getMakespanStandardDeviation() {
+        if (makespans.length < 2) {
+            return 0;
+        }
+        double mean = getMeanMakespan();
+        double sum = 0;
+        for (double makespan : makespans) {
+            sum += (makespan - mean) * (makespan - mean);
+        }
+        return Math.sqrt(sum / (makespans.length - 1));
+    }
+
+    /**
+     * Gets the fraction of samples in which a node was on the critical path
+     *
+     * @param node The node ordinal
+     * @return The criticality index, between 0 and 1
+     */
+    public double getCriticalityIndex(int node) {
+        return (double) criticalCounts[node] / makespans.length;
+    }
+
+    /**
+     * Gets the criticality index of a node by ID
+     *
+     * @param nodeId The ID of the node
+     * @return The criticality index, between 0 and 1
+     * @throws IllegalArgumentException If the node is not part of the graph
+     */
+    public double getCriticalityIndex(String nodeId) {
+        int node = graph.indexOf(nodeId);
+        if (node < 0) {
+            throw new IllegalArgumentException("Unknown node: " + nodeId);
+        }
+        return getCriticalityIndex(node);
+    }
+
+    /**
+     * Gets the criticality indices of all nodes
+     *
+     * @return Array indexed by node ordinal
+     */
+    public double[] getCriticalityIndices() {
+        double[] indices = new double[criticalCounts.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = getCriticalityIndex(i);
+        }
+        return indices;
+    }
+
+    /**
+     * Prints the makespan distribution and the most critical nodes
+     *
+     * @param maxNodes Maximum number of nodes to list
+     */
+    public void printAnalysisResults(int maxNodes) {
+        System.out.println("\n=== Stochastic CPM Analysis Results ===");
+        System.out.println("Workflow: " + graph.getName());
+        System.out.println("Samples: " + makespans.length);
+        System.out.printf("Deterministic makespan: %.1f%n", deterministicMakespan);
+        System.out.printf("Mean makespan: %.1f (stddev %.1f)%n", getMeanMakespan(), getMakespanStandardDeviation());
+        System.out.printf("Makespan p50: %.1f, p95: %.1f, p99: %.1f%n",
+            getPercentile(50), getPercentile(95), getPercentile(99));
+        System.out.printf("Makespan range: %.1f - %.1f%n", makespans[0], makespans[makespans.length - 1]);
+
+        List<Integer> nodes = new ArrayList<>();
+        for (int i = 0; i < criticalCounts.length; i++) {
+            if (criticalCounts[i] > 0) {
+                nodes.add(i);
+            }
+        }
+        nodes.sort((a, b) -> Integer.compare(criticalCounts[b], criticalCounts[a]));
+
+        System.out.println("\nCriticality indices:");
+        for (int i = 0; i < Math.min(maxNodes, nodes.size()); i++) {
+            int node = nodes.get(i);
+            System.out.printf("  %s: %.3f%n", graph.getNodeId(node), getCriticalityIndex(node));
+        }
+    }
+
+    // Getters
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public int getSampleCount() {
+        return makespans.length;
+    }
+
+    public double getDeterministicMakespan() {
+        return deterministicMakespan;
+    }
+
+    public double[] getSortedMakespans() {
+        return makespans;
+    }
+
+    public int[] getCriticalCounts() {
+        return criticalCounts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StochasticCpmResult{graph='%s', samples=%d, p50=%.1f, p95=%.1f, p99=%.1f}",
+            graph.getName(), makespans.length, getPercentile(50), getPercentile(95), getPercentile(99));
+    }
+}
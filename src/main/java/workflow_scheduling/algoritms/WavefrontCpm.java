@@ -0,0 +1,165 @@
+// File: workflow_scheduling/algorithm/WavefrontCpm.java
+package workflow_scheduling.algoritms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import workflow_scheduling.metrics.PipelineStage;
+import workflow_scheduling.metrics.StageTimer;
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.GraphLevels;
+
+/**
+ * Level-synchronous (wavefront) execution of the CPM passes
+ *
+ * All nodes of a depth level only depend on nodes of earlier levels, so each level of the
+ * forward pass (and each level of the backward pass, in reverse) can be split across a
+ * fork-join pool. Levels narrower than the width threshold are processed serially, since
+ * forking costs more than it saves there. Results are identical to the serial passes.
+ *
+ * Use with CpmAnalyzer.calculateCriticalPath(WavefrontCpm) or
+ * DataTransferCPM.calculateCriticalPath(WavefrontCpm).
+ */
+public class WavefrontCpm {
+    /** Default minimum level width for parallel processing */
+    public static final int DEFAULT_PARALLEL_WIDTH = 4096;
+
+    /** Number of nodes handled by one task once a level has been split */
+    private static final int CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int parallelWidth;
+
+    /**
+     * Creates an engine on the common fork-join pool with the default width threshold
+     */
+    public WavefrontCpm() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_WIDTH);
+    }
+
+    /**
+     * Creates an engine
+     *
+     * @param pool The fork-join pool to run on
+     * @param parallelWidth Levels with fewer nodes than this are processed serially
+     */
+    public WavefrontCpm(ForkJoinPool pool, int parallelWidth) {
+        if (parallelWidth < 1) {
+            throw new IllegalArgumentException("Parallel width must be at least 1");
+        }
+        this.pool = pool;
+        this.parallelWidth = parallelWidth;
+    }
+
+    /**
+     * Runs forward pass, backward pass and critical marking into a result
+     *
+     * @param result The result to fill
+     * @param nodeCosts Duration of each node
+     * @param edgeCosts Cost of each edge, or null if edges are free
+     */
+    void compute(CpmResult result, double[] nodeCosts, double[] edgeCosts) {
+        CompactGraph graph = result.getGraph();
+        GraphLevels levels = graph.getLevels();
+        int[] levelOffsets = levels.getLevelOffsets();
+        int[] levelNodes = levels.getLevelNodes();
+        double[] earliestStart = result.getEarliestStartTimes();
+        double[] earliestFinish = result.getEarliestFinishTimes();
+        double[] latestStart = result.getLatestStartTimes();
+        double[] latestFinish = result.getLatestFinishTimes();
+        int[] predecessorEdges = result.getPredecessorEdges();
+
+        String name = graph.getName();
+        int nodeCount = graph.getNodeCount();
+        int edgeCount = graph.getEdgeCount();
+
+        /* Forward pass, one level at a time */
+        StageTimer timer = StageTimer.start(PipelineStage.FORWARD_PASS);
+        for (int l = 0; l < levels.getLevelCount(); l++) {
+            forEachChunk(levelOffsets[l], levelOffsets[l + 1], (from, to) ->
+                CpmPasses.forwardRange(graph, levelNodes, from, to,
+                    nodeCosts, edgeCosts, earliestStart, earliestFinish, predecessorEdges));
+        }
+
+        int lastSink = CpmPasses.lastFinishingSink(graph, earliestFinish);
+        final double makespan = lastSink >= 0 ? earliestFinish[lastSink] : 0;
+        result.setEarliestCompletionTime(makespan, lastSink);
+        timer.stop(name, nodeCount, edgeCount);
+
+        /* Backward pass, deepest level first */
+        timer = StageTimer.start(PipelineStage.BACKWARD_PASS);
+        for (int l = levels.getLevelCount() - 1; l >= 0; l--) {
+            forEachChunk(levelOffsets[l], levelOffsets[l + 1], (from, to) ->
+                CpmPasses.backwardRange(graph, levelNodes, from, to,
+                    nodeCosts, edgeCosts, makespan, latestStart, latestFinish));
+        }
+        timer.stop(name, nodeCount, edgeCount);
+
+        // Node flags must be complete before the edges are marked
+        timer = StageTimer.start(PipelineStage.CRITICAL_MARKING);
+        double[] slack = result.getSlackTimes();
+        boolean[] criticalNodes = result.getCriticalNodes();
+        boolean[] criticalEdges = result.getCriticalEdges();
+        forEachChunk(0, nodeCount, (from, to) ->
+            CpmPasses.markCriticalNodes(from, to, earliestStart, latestStart, slack, criticalNodes));
+        forEachChunk(0, nodeCount, (from, to) ->
+            CpmPasses.markCriticalEdges(graph, from, to, edgeCosts,
+                earliestStart, earliestFinish, criticalNodes, criticalEdges));
+        timer.stop(name, nodeCount, edgeCount);
+    }
+
+    /**
+     * Runs a body over [from, to), splitting across the pool if the range is wide enough
+     */
+    private void forEachChunk(int from, int to, RangeBody body) {
+        if (to - from < parallelWidth) {
+            body.run(from, to);
+        } else {
+            pool.invoke(new RangeTask(from, to, body));
+        }
+    }
+
+    /**
+     * Work on a contiguous range of indices
+     */
+    @FunctionalInterface
+    private interface RangeBody {
+        void run(int from, int to);
+    }
+
+    /**
+     * Recursively halves a range until it fits in one chunk
+     */
+    private static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final RangeBody body;
+
+        RangeTask(int from, int to, RangeBody body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                body.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, body), new RangeTask(middle, to, body));
+        }
+    }
+
+    // Getters
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getParallelWidth() {
+        return parallelWidth;
+    }
+}
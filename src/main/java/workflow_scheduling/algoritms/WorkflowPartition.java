@@ -0,0 +1,174 @@
+// File: workflow_scheduling/algorithm/WorkflowPartition.java
+package workflow_scheduling.algoritms;
+
+import java.util.Arrays;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Assignment of the nodes of a workflow to partitions
+ *
+ * Every edge goes from a partition to the same or a later partition, so the partitions form
+ * a DAG in index order. Nodes of partition p are stored in topological order in
+ * partitionNodes[partitionOffsets[p]..partitionOffsets[p+1]-1], and the partitions that p
+ * depends on in dependencyParts[dependencyOffsets[p]..dependencyOffsets[p+1]-1].
+ *
+ * The arrays returned by the getters are shared with this instance and must not be modified.
+ */
+public class WorkflowPartition {
+    private final CompactGraph graph;
+    private final int[] partitionOf;
+    private final int[] partitionOffsets;
+    private final int[] partitionNodes;
+    private final int[] dependencyOffsets;
+    private final int[] dependencyParts;
+    private final int cutEdges;
+    private final long cutDataAmount;
+
+    /**
+     * Creates a partition
+     *
+     * @param graph The partitioned graph
+     * @param order The nodes in a topological order
+     * @param partitionOf Partition index of every node; never decreasing along the edges
+     * @param partitionCount Number of partitions
+     * @throws IllegalArgumentException If an edge leads to an earlier partition
+     */
+    WorkflowPartition(CompactGraph graph, int[] order, int[] partitionOf, int partitionCount) {
+        int nodeCount = graph.getNodeCount();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        int[] edgeDataAmounts = graph.getEdgeDataAmounts();
+
+        this.graph = graph;
+        this.partitionOf = partitionOf;
+
+        // Nodes grouped by partition, keeping the topological order
+        this.partitionOffsets = new int[partitionCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            partitionOffsets[partitionOf[node] + 1]++;
+        }
+        for (int p = 0; p < partitionCount; p++) {
+            partitionOffsets[p + 1] += partitionOffsets[p];
+        }
+        this.partitionNodes = new int[nodeCount];
+        int[] cursor = Arrays.copyOf(partitionOffsets, partitionCount);
+        for (int node : order) {
+            partitionNodes[cursor[partitionOf[node]]++] = node;
+        }
+
+        // Cut edges and the distinct earlier partitions each partition depends on
+        int cut = 0;
+        long cutData = 0;
+        int[] lastSeen = new int[partitionCount];
+        Arrays.fill(lastSeen, -1);
+        int[] counts = new int[partitionCount + 1];
+        long[] pairs = new long[0];
+        int pairCount = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                int from = partitionOf[node];
+                int to = partitionOf[edgeTargets[e]];
+                if (from == to) {
+                    continue;
+                }
+                if (from > to) {
+                    throw new IllegalArgumentException("Edge leads from partition " + from + " back to " + to);
+                }
+                cut++;
+                cutData += edgeDataAmounts[e];
+                if (pairCount == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, Math.max(16, pairs.length * 2));
+                }
+                pairs[pairCount++] = (long) to * partitionCount + from;
+            }
+        }
+        this.cutEdges = cut;
+        this.cutDataAmount = cutData;
+
+        long[] sortedPairs = Arrays.copyOf(pairs, pairCount);
+        Arrays.sort(sortedPairs);
+        this.dependencyOffsets = new int[partitionCount + 1];
+        int[] parts = new int[pairCount];
+        int partCount = 0;
+        for (long pair : sortedPairs) {
+            int to = (int) (pair / partitionCount);
+            int from = (int) (pair % partitionCount);
+            if (lastSeen[to] != from) {
+                lastSeen[to] = from;
+                parts[partCount++] = from;
+                counts[to + 1]++;
+            }
+        }
+        for (int p = 0; p < partitionCount; p++) {
+            dependencyOffsets[p + 1] = dependencyOffsets[p] + counts[p + 1];
+        }
+        this.dependencyParts = Arrays.copyOf(parts, partCount);
+    }
+
+    /**
+     * Gets the number of nodes in a partition
+     *
+     * @param partition The partition index
+     * @return The partition size
+     */
+    public int getPartitionSize(int partition) {
+        return partitionOffsets[partition + 1] - partitionOffsets[partition];
+    }
+
+    /**
+     * Gets the size of the largest partition
+     *
+     * @return The number of nodes in the largest partition
+     */
+    public int getMaxPartitionSize() {
+        int max = 0;
+        for (int p = 0; p < getPartitionCount(); p++) {
+            max = Math.max(max, getPartitionSize(p));
+        }
+        return max;
+    }
+
+    // Getters
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public int getPartitionCount() {
+        return partitionOffsets.length - 1;
+    }
+
+    public int getPartition(int node) {
+        return partitionOf[node];
+    }
+
+    public int[] getPartitionOffsets() {
+        return partitionOffsets;
+    }
+
+    public int[] getPartitionNodes() {
+        return partitionNodes;
+    }
+
+    public int[] getDependencyOffsets() {
+        return dependencyOffsets;
+    }
+
+    public int[] getDependencyParts() {
+        return dependencyParts;
+    }
+
+    public int getCutEdges() {
+        return cutEdges;
+    }
+
+    public long getCutDataAmount() {
+        return cutDataAmount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WorkflowPartition{graph='%s', partitions=%d, maxSize=%d, cutEdges=%d, cutData=%d}",
+            graph.getName(), getPartitionCount(), getMaxPartitionSize(), cutEdges, cutDataAmount);
+    }
+}
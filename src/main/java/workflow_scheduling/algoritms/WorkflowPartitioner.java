@@ -0,0 +1,294 @@
+// File: workflow_scheduling/algorithm/WorkflowPartitioner.java
+package workflow_scheduling.algoritms;
+
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.CyclicGraphException;
+
+/**
+ * Splits a workflow into balanced partitions with few, light cut edges
+ *
+ * Partitions have to form a DAG themselves, so that each one can run as a sub-DAG after the
+ * partitions it depends on. The partitioner therefore cuts a topological order into
+ * contiguous ranges: every boundary is placed, within the allowed imbalance around its ideal
+ * position, where the edges crossing it carry the least weight. Two orders are tried, the
+ * breadth-first order of the graph and a depth-first order that keeps chains and pipelines
+ * together, and the better result is refined by moving single nodes to a neighbouring
+ * partition while that lowers the cut and keeps the partitions ordered and balanced.
+ *
+ * A cut edge weighs its data amount plus one, so edges without data still count as
+ * dependencies between partitions.
+ */
+public class WorkflowPartitioner {
+    /** Default allowed deviation of a partition size from the average */
+    public static final double DEFAULT_IMBALANCE = 0.1;
+
+    // Refinement stops after this many passes without reaching a fixed point
+    private static final int REFINEMENT_PASSES = 8;
+
+    private final double imbalance;
+
+    /**
+     * Creates a partitioner with the default imbalance
+     */
+    public WorkflowPartitioner() {
+        this(DEFAULT_IMBALANCE);
+    }
+
+    /**
+     * Creates a partitioner
+     *
+     * @param imbalance Allowed relative deviation of a partition size from the average (0 to 1)
+     */
+    public WorkflowPartitioner(double imbalance) {
+        if (imbalance < 0 || imbalance >= 1) {
+            throw new IllegalArgumentException("Imbalance must be in [0, 1)");
+        }
+        this.imbalance = imbalance;
+    }
+
+    /**
+     * Splits a graph into as few partitions as needed to keep each within a size limit
+     * A graph that fits into one partition is not split; otherwise the imbalance window is
+     * narrowed so that no partition grows beyond the limit.
+     *
+     * @param graph The graph to partition
+     * @param maxPartitionSize Maximum number of nodes per partition
+     * @return The partition
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public WorkflowPartition partitionBySize(CompactGraph graph, int maxPartitionSize) {
+        if (maxPartitionSize < 1) {
+            throw new IllegalArgumentException("Maximum partition size must be at least 1");
+        }
+        int nodeCount = graph.getNodeCount();
+        int count = Math.max(1, (int) ((nodeCount + (long) maxPartitionSize - 1) / maxPartitionSize));
+        return partition(graph, count, Math.min(maxPartitionSize, Math.max(1, nodeCount)));
+    }
+
+    /**
+     * Splits a graph into a given number of partitions
+     *
+     * @param graph The graph to partition
+     * @param partitionCount Number of partitions, at most the number of nodes
+     * @return The partition
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public WorkflowPartition partition(CompactGraph graph, int partitionCount) {
+        return partition(graph, partitionCount, Math.max(1, graph.getNodeCount()));
+    }
+
+    /**
+     * Splits a graph into a given number of partitions of at most sizeLimit nodes each
+     * partitionCount times sizeLimit must cover the graph.
+     */
+    private WorkflowPartition partition(CompactGraph graph, int partitionCount, int sizeLimit) {
+        int nodeCount = graph.getNodeCount();
+        if (partitionCount < 1 || (partitionCount > nodeCount && nodeCount > 0)) {
+            throw new IllegalArgumentException("Partition count must be between 1 and the number of nodes");
+        }
+        if (nodeCount == 0) {
+            return new WorkflowPartition(graph, new int[0], new int[0], partitionCount);
+        }
+
+        long[] edgeWeights = new long[graph.getEdgeCount()];
+        int[] dataAmounts = graph.getEdgeDataAmounts();
+        for (int e = 0; e < edgeWeights.length; e++) {
+            edgeWeights[e] = dataAmounts[e] + 1L;
+        }
+
+        int[] bestOrder = null;
+        int[] bestPartitionOf = null;
+        long bestCut = Long.MAX_VALUE;
+        for (int[] order : new int[][] {graph.getTopologicalOrder(), depthFirstOrder(graph)}) {
+            int[] partitionOf = splitOrder(graph, order, edgeWeights, partitionCount, sizeLimit);
+            long cut = cutWeight(graph, partitionOf, edgeWeights);
+            if (cut < bestCut) {
+                bestCut = cut;
+                bestOrder = order;
+                bestPartitionOf = partitionOf;
+            }
+        }
+
+        refine(graph, bestPartitionOf, edgeWeights, partitionCount, sizeLimit);
+        return new WorkflowPartition(graph, bestOrder, bestPartitionOf, partitionCount);
+    }
+
+    /**
+     * Cuts a topological order into contiguous ranges at the lightest positions
+     */
+    private int[] splitOrder(CompactGraph graph, int[] order, long[] edgeWeights, int partitionCount, int sizeLimit) {
+        int nodeCount = order.length;
+        int[] outOffsets = graph.getOutOffsets();
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+
+        // crossing[i]: weight of the edges from order[0..i-1] to order[i..]. All predecessors of
+        // order[i] come before it, so its incoming edges stop crossing and its outgoing edges start.
+        long[] crossing = new long[nodeCount + 1];
+        for (int i = 0; i < nodeCount; i++) {
+            int node = order[i];
+            long weight = crossing[i];
+            for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                weight -= edgeWeights[inEdges[k]];
+            }
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                weight += edgeWeights[e];
+            }
+            crossing[i + 1] = weight;
+        }
+
+        double target = (double) nodeCount / partitionCount;
+        double slack = imbalance * target / 2;
+        int[] partitionOf = new int[nodeCount];
+        int previous = 0;
+        for (int p = 1; p <= partitionCount; p++) {
+            int boundary = nodeCount;
+            if (p < partitionCount) {
+                double ideal = p * target;
+                // Leave at least one node, and at most sizeLimit nodes, for each later partition
+                long laterCapacity = (long) (partitionCount - p) * sizeLimit;
+                int earliest = Math.max(previous + 1, (int) Math.max(0, nodeCount - laterCapacity));
+                int latest = Math.min(nodeCount - (partitionCount - p), previous + sizeLimit);
+                int low = Math.max(earliest, (int) Math.ceil(ideal - slack));
+                int high = Math.min(latest, (int) Math.floor(ideal + slack));
+                boundary = Math.min(low, latest);
+                for (int i = boundary + 1; i <= high; i++) {
+                    if (crossing[i] < crossing[boundary]
+                            || (crossing[i] == crossing[boundary] && Math.abs(i - ideal) < Math.abs(boundary - ideal))) {
+                        boundary = i;
+                    }
+                }
+            }
+            for (int i = previous; i < boundary; i++) {
+                partitionOf[order[i]] = p - 1;
+            }
+            previous = boundary;
+        }
+        return partitionOf;
+    }
+
+    /**
+     * Moves single nodes to a neighbouring partition while that lowers the cut weight
+     * A node may move to the next partition if none of its successors stays behind, and to
+     * the previous one if none of its predecessors is ahead; sizes stay within the imbalance.
+     */
+    private void refine(CompactGraph graph, int[] partitionOf, long[] edgeWeights, int partitionCount, int sizeLimit) {
+        int nodeCount = graph.getNodeCount();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        int[] edgeSources = graph.getEdgeSources();
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+
+        double target = (double) nodeCount / partitionCount;
+        int minSize = Math.max(1, (int) Math.ceil(target * (1 - imbalance)));
+        int maxSize = Math.min(sizeLimit, Math.max(minSize, (int) Math.floor(target * (1 + imbalance))));
+        int[] sizes = new int[partitionCount];
+        for (int node = 0; node < nodeCount; node++) {
+            sizes[partitionOf[node]]++;
+        }
+
+        for (int pass = 0; pass < REFINEMENT_PASSES; pass++) {
+            boolean moved = false;
+            for (int node = 0; node < nodeCount; node++) {
+                int current = partitionOf[node];
+                if (sizes[current] <= minSize) {
+                    continue;
+                }
+
+                // Weight towards the own, previous and next partition, and whether moves are legal
+                long own = 0;
+                long previous = 0;
+                long next = 0;
+                boolean canMoveBack = current > 0;
+                boolean canMoveForward = current < partitionCount - 1;
+                for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                    int edge = inEdges[k];
+                    int other = partitionOf[edgeSources[edge]];
+                    if (other == current) {
+                        own += edgeWeights[edge];
+                        canMoveBack = false;
+                    } else if (other == current - 1) {
+                        previous += edgeWeights[edge];
+                    }
+                }
+                for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                    int other = partitionOf[edgeTargets[e]];
+                    if (other == current) {
+                        own += edgeWeights[e];
+                        canMoveForward = false;
+                    } else if (other == current + 1) {
+                        next += edgeWeights[e];
+                    }
+                }
+
+                if (canMoveBack && previous > own && sizes[current - 1] < maxSize
+                        && (!canMoveForward || previous >= next)) {
+                    partitionOf[node] = current - 1;
+                } else if (canMoveForward && next > own && sizes[current + 1] < maxSize) {
+                    partitionOf[node] = current + 1;
+                } else {
+                    continue;
+                }
+                sizes[current]--;
+                sizes[partitionOf[node]]++;
+                moved = true;
+            }
+            if (!moved) {
+                break;
+            }
+        }
+    }
+
+    private static long cutWeight(CompactGraph graph, int[] partitionOf, long[] edgeWeights) {
+        int[] edgeSources = graph.getEdgeSources();
+        int[] edgeTargets = graph.getEdgeTargets();
+        long cut = 0;
+        for (int e = 0; e < edgeWeights.length; e++) {
+            if (partitionOf[edgeSources[e]] != partitionOf[edgeTargets[e]]) {
+                cut += edgeWeights[e];
+            }
+        }
+        return cut;
+    }
+
+    /**
+     * Topological order that follows each chain as far as possible before starting the next
+     * (Kahn's algorithm with a stack instead of a queue); the graph must be acyclic
+     */
+    static int[] depthFirstOrder(CompactGraph graph) {
+        int nodeCount = graph.getNodeCount();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        int[] inOffsets = graph.getInOffsets();
+
+        int[] remaining = new int[nodeCount];
+        int[] stack = new int[nodeCount];
+        int top = 0;
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            remaining[node] = inOffsets[node + 1] - inOffsets[node];
+            if (remaining[node] == 0) {
+                stack[top++] = node;
+            }
+        }
+
+        int[] order = new int[nodeCount];
+        int count = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            order[count++] = node;
+            for (int e = outOffsets[node + 1] - 1; e >= outOffsets[node]; e--) {
+                int target = edgeTargets[e];
+                if (--remaining[target] == 0) {
+                    stack[top++] = target;
+                }
+            }
+        }
+        return order;
+    }
+
+    // Getters
+    public double getImbalance() {
+        return imbalance;
+    }
+}
@@ -0,0 +1,229 @@
+// File: workflow_scheduling/batch/BatchAnalysisEngine.java
+package workflow_scheduling.batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import workflow_scheduling.algoritms.DataTransferCPM;
+import workflow_scheduling.cache.AnalysisCache;
+import workflow_scheduling.cache.CpmEngine;
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.utils.WorkflowLoader;
+
+/**
+ * Runs load, graph creation and CPM analysis over many workflow files concurrently
+ *
+ * Each file is analyzed on its own virtual thread. A semaphore bounds the number of
+ * workflows in flight, which keeps memory flat when the input is a long stream of files;
+ * the analysis itself is CPU bound, so the default bound is the number of cores.
+ * A file that cannot be loaded or analyzed produces a failed summary instead of
+ * aborting the batch. With an AnalysisCache, workflows analyzed in an earlier run are
+ * read back from the cache instead of being parsed and analyzed again.
+ */
+public class BatchAnalysisEngine implements AutoCloseable {
+    private final double transferRate;
+    private final int parallelism;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final AnalysisCache cache;
+
+    /**
+     * Creates an engine that analyzes up to one workflow per core at a time
+     *
+     * @param transferRate The transfer rate for calculating data transfer times
+     */
+    public BatchAnalysisEngine(double transferRate) {
+        this(transferRate, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an engine
+     *
+     * @param transferRate The transfer rate for calculating data transfer times
+     * @param parallelism Maximum number of workflows analyzed at the same time
+     */
+    public BatchAnalysisEngine(double transferRate, int parallelism) {
+        this(transferRate, parallelism, null);
+    }
+
+    /**
+     * Creates an engine that reads analyses from a cache and stores new ones in it
+     *
+     * @param transferRate The transfer rate for calculating data transfer times
+     * @param parallelism Maximum number of workflows analyzed at the same time
+     * @param cache The analysis cache, or null to analyze every file
+     */
+    public BatchAnalysisEngine(double transferRate, int parallelism, AnalysisCache cache) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.transferRate = transferRate;
+        this.parallelism = parallelism;
+        this.permits = new Semaphore(parallelism);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.cache = cache;
+    }
+
+    /**
+     * Analyzes a single workflow file on the calling thread
+     *
+     * @param file The workflow JSON file
+     * @return The summary, marked as failed if the file could not be analyzed
+     */
+    public WorkflowSummary analyzeFile(Path file) {
+        long start = System.nanoTime();
+        try {
+            DataTransferCPM cpm;
+            if (cache != null) {
+                cpm = new DataTransferCPM(cache.analyze(file, transferRate, CpmEngine.DATA_TRANSFER).getResult());
+            } else {
+                cpm = new DataTransferCPM(WorkflowLoader.loadGraph(file.toString(), transferRate));
+                cpm.calculateCriticalPath();
+            }
+            CompactGraph graph = cpm.getCompactGraph();
+
+            return new WorkflowSummary(
+                file.toString(),
+                graph.getName(),
+                graph.getNodeCount(),
+                graph.getEdgeCount(),
+                cpm.getEarliestCompletionTime(),
+                cpm.getOrderedCriticalPath().size(),
+                cpm.getTotalCriticalPathExecutionTime(),
+                cpm.getTotalCriticalPathTransferTime(),
+                System.nanoTime() - start);
+        } catch (IOException | RuntimeException e) {
+            // Keep the summary on one line; parser messages include the source location on a second line
+            String error = e.getClass().getSimpleName() + ": " + String.valueOf(e.getMessage()).replaceAll("\\s+", " ");
+            return new WorkflowSummary(file.toString(), error, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Analyzes a stream of workflow files, passing each summary to a sink as soon as it is ready
+     * Summaries arrive in completion order and the sink is called from several threads at once,
+     * so it must be thread-safe. Returns when every file has been analyzed.
+     *
+     * @param files The workflow JSON files
+     * @param sink Receives one summary per file
+     * @return The number of files analyzed
+     * @throws InterruptedException If interrupted while waiting for the analyses
+     */
+    public int analyze(Stream<Path> files, Consumer<WorkflowSummary> sink) throws InterruptedException {
+        int count = 0;
+        Iterator<Path> iterator = files.iterator();
+        try {
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                submit(() -> sink.accept(analyzeFile(file)));
+                count++;
+            }
+        } finally {
+            awaitInFlight();
+        }
+        return count;
+    }
+
+    /**
+     * Analyzes a list of workflow files
+     *
+     * @param files The workflow JSON files
+     * @return One summary per file, in the same order as the input
+     * @throws InterruptedException If interrupted while waiting for the analyses
+     */
+    public List<WorkflowSummary> analyze(List<Path> files) throws InterruptedException {
+        WorkflowSummary[] summaries = new WorkflowSummary[files.size()];
+        try {
+            for (int i = 0; i < summaries.length; i++) {
+                int index = i;
+                submit(() -> summaries[index] = analyzeFile(files.get(index)));
+            }
+        } finally {
+            awaitInFlight();
+        }
+        return Arrays.asList(summaries);
+    }
+
+    /**
+     * Runs a task once a permit is free
+     */
+    private void submit(Runnable task) throws InterruptedException {
+        permits.acquire();
+        executor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Blocks until every submitted task has finished
+     * Taking all permits also publishes the tasks' writes to the calling thread
+     */
+    private void awaitInFlight() {
+        permits.acquireUninterruptibly(parallelism);
+        permits.release(parallelism);
+    }
+
+    /**
+     * Analyzes every JSON file in a directory
+     *
+     * @param directory The directory containing workflow JSON files
+     * @return One summary per file, sorted by file name
+     * @throws IOException If the directory cannot be listed
+     * @throws InterruptedException If interrupted while waiting for the analyses
+     */
+    public List<WorkflowSummary> analyzeDirectory(Path directory) throws IOException, InterruptedException {
+        return analyze(listWorkflowFiles(directory));
+    }
+
+    /**
+     * Lists the JSON files of a directory, sorted by name
+     *
+     * @param directory The directory to list
+     * @return The workflow files
+     * @throws IOException If the directory cannot be listed
+     */
+    public static List<Path> listWorkflowFiles(Path directory) throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries
+                .filter(path -> path.getFileName().toString().toLowerCase().endsWith(".json"))
+                .filter(Files::isRegularFile)
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Stops the worker threads; analyses already submitted are completed first
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    // Getters
+    public double getTransferRate() {
+        return transferRate;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public AnalysisCache getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,158 @@
+// File: workflow_scheduling/batch/WorkflowSummary.java
+package workflow_scheduling.batch;
+
+/**
+ * Summary of the CPM analysis of one workflow file
+ * A failed analysis carries the error message and zero timings
+ */
+public class WorkflowSummary {
+    /** Column names matching toCsvRow() */
+    public static final String CSV_HEADER =
+        "file,workflow,nodes,edges,makespan,critical_path_tasks,critical_path_execution_time,"
+        + "critical_path_transfer_time,analysis_ms,error";
+
+    private final String file;
+    private final String workflowName;
+    private final int nodeCount;
+    private final int edgeCount;
+    private final double makespan;
+    private final int criticalPathLength;
+    private final double criticalPathExecutionTime;
+    private final double criticalPathTransferTime;
+    private final long analysisNanos;
+    private final String error;
+
+    /**
+     * Creates the summary of a successful analysis
+     * 
+     * @param file The analyzed file
+     * @param workflowName Name of the workflow
+     * @param nodeCount Number of tasks
+     * @param edgeCount Number of data dependencies
+     * @param makespan Earliest completion time including data transfers
+     * @param criticalPathLength Number of tasks on the critical path
+     * @param criticalPathExecutionTime Total execution time on the critical path
+     * @param criticalPathTransferTime Total data transfer time on the critical path
+     * @param analysisNanos Time spent loading and analyzing the workflow
+     */
+    public WorkflowSummary(String file, String workflowName, int nodeCount, int edgeCount,
+                           double makespan, int criticalPathLength, double criticalPathExecutionTime,
+                           double criticalPathTransferTime, long analysisNanos) {
+        this.file = file;
+        this.workflowName = workflowName;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.makespan = makespan;
+        this.criticalPathLength = criticalPathLength;
+        this.criticalPathExecutionTime = criticalPathExecutionTime;
+        this.criticalPathTransferTime = criticalPathTransferTime;
+        this.analysisNanos = analysisNanos;
+        this.error = null;
+    }
+
+    /**
+     * Creates the summary of a failed analysis
+     * 
+     * @param file The file that could not be analyzed
+     * @param error Description of the failure
+     * @param analysisNanos Time spent before the failure
+     */
+    public WorkflowSummary(String file, String error, long analysisNanos) {
+        this.file = file;
+        this.workflowName = null;
+        this.nodeCount = 0;
+        this.edgeCount = 0;
+        this.makespan = 0;
+        this.criticalPathLength = 0;
+        this.criticalPathExecutionTime = 0;
+        this.criticalPathTransferTime = 0;
+        this.analysisNanos = analysisNanos;
+        this.error = error;
+    }
+
+    /**
+     * Formats this summary as one CSV line (without line terminator)
+     * 
+     * @return The CSV row, with columns as in CSV_HEADER
+     */
+    public String toCsvRow() {
+        return String.join(",",
+            csvField(file),
+            csvField(workflowName),
+            Integer.toString(nodeCount),
+            Integer.toString(edgeCount),
+            Double.toString(makespan),
+            Integer.toString(criticalPathLength),
+            Double.toString(criticalPathExecutionTime),
+            Double.toString(criticalPathTransferTime),
+            String.format("%.3f", analysisNanos / 1_000_000.0),
+            csvField(error));
+    }
+
+    /**
+     * Quotes a field if it contains CSV separators
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    // Getters
+    public String getFile() {
+        return file;
+    }
+
+    public String getWorkflowName() {
+        return workflowName;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public double getMakespan() {
+        return makespan;
+    }
+
+    public int getCriticalPathLength() {
+        return criticalPathLength;
+    }
+
+    public double getCriticalPathExecutionTime() {
+        return criticalPathExecutionTime;
+    }
+
+    public double getCriticalPathTransferTime() {
+        return criticalPathTransferTime;
+    }
+
+    public long getAnalysisNanos() {
+        return analysisNanos;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        if (error != null) {
+            return String.format("WorkflowSummary{file='%s', error='%s'}", file, error);
+        }
+        return String.format("WorkflowSummary{file='%s', workflow='%s', nodes=%d, makespan=%.1f, criticalTasks=%d}",
+            file, workflowName, nodeCount, makespan, criticalPathLength);
+    }
+}
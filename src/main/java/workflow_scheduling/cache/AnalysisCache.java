@@ -0,0 +1,456 @@
+// File: workflow_scheduling/cache/AnalysisCache.java
+package workflow_scheduling.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import workflow_scheduling.algoritms.CpmResult;
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.utils.BinaryWorkflowFormat;
+import workflow_scheduling.utils.MappedWorkflow;
+import workflow_scheduling.utils.StreamingWorkflowLoader;
+
+/**
+ * Persistent, content-addressed cache of workflow analyses
+ *
+ * An entry is keyed by the SHA-256 of the workflow file content together with the transfer
+ * rate and the CPM engine, so renamed or copied files share an entry and edited files never
+ * hit a stale one. Each entry consists of two files in the cache directory:
+ *   key.wfbn   the compact graph in the binary workflow format (see BinaryWorkflowFormat)
+ *   key.cpm    the CPM result, little-endian: magic "WFCR", int version, int nodeCount,
+ *              int edgeCount, double completionTime, then earliest start, earliest finish,
+ *              latest start, latest finish and slack as double[nodeCount], followed by the
+ *              critical node and critical edge flags as one byte each
+ *
+ * Files are written under a temporary name and moved into place, the result file last, so
+ * an entry is visible only once it is complete. Reading an entry updates the modification
+ * time of its files. The cache keeps a running total of its size, counted once when it is
+ * opened and increased by every insert; only when an insert takes it over the size limit is
+ * the directory scanned and the least recently used entries deleted until the cache is back
+ * to 90% of the limit, which leaves room for the following inserts before the next scan.
+ * Graph files without a result and temporary files left behind by interrupted writes count
+ * as entries of their own, so they are evicted as well. Several threads and processes may
+ * share a cache directory; a damaged or half-deleted entry is treated as a miss, and a cache
+ * that cannot be written only costs the next lookup.
+ */
+public class AnalysisCache {
+    /** Default size limit of a cache directory */
+    public static final long DEFAULT_MAX_BYTES = 1L << 30;
+
+    private static final byte[] RESULT_MAGIC = {'W', 'F', 'C', 'R'};
+    private static final int RESULT_VERSION = 1;
+    private static final int RESULT_HEADER_SIZE = 24;
+    private static final String GRAPH_SUFFIX = ".wfbn";
+    private static final String RESULT_SUFFIX = ".cpm";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Fraction of the size limit that eviction frees the cache down to
+    private static final double EVICTION_TARGET = 0.9;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // Size of the cache files, exact after every scan and estimated in between
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    /**
+     * Opens a cache directory with the default size limit, creating it if necessary
+     *
+     * @param directory The cache directory
+     * @throws IOException If the directory cannot be created
+     */
+    public AnalysisCache(Path directory) throws IOException {
+        this(directory, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Opens a cache directory, creating it if necessary
+     *
+     * @param directory The cache directory
+     * @param maxBytes Total size of the cache files above which entries are evicted
+     * @throws IOException If the directory cannot be created or listed
+     */
+    public AnalysisCache(Path directory, long maxBytes) throws IOException {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size limit must be positive");
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        totalBytes.set(scanSize());
+    }
+
+    /**
+     * Analyzes a workflow file, reading the analysis from the cache if it is present
+     * On a miss the file is loaded, analyzed and the result is stored. A result that cannot
+     * be stored is reported on standard error and returned all the same.
+     *
+     * @param workflowFile The workflow JSON file
+     * @param transferRate The transfer rate for calculating transfer times
+     * @param engine The CPM variant to run
+     * @return The graph and its CPM result
+     * @throws IOException If the workflow file cannot be read
+     */
+    public CachedAnalysis analyze(Path workflowFile, double transferRate, CpmEngine engine) throws IOException {
+        String key = computeKey(workflowFile, transferRate, engine);
+        CachedAnalysis cached = read(key, transferRate);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        CompactGraph graph = StreamingWorkflowLoader.load(workflowFile, transferRate).getCompactGraph();
+        CpmResult result = engine.analyze(graph);
+        store(key, result);
+        return new CachedAnalysis(key, graph, result, false);
+    }
+
+    /**
+     * Computes the cache key of an analysis
+     *
+     * @param workflowFile The workflow JSON file
+     * @param transferRate The transfer rate for calculating transfer times
+     * @param engine The CPM variant
+     * @return Hex-encoded SHA-256 over the file content and the analysis parameters
+     * @throws IOException If the workflow file cannot be read
+     */
+    public String computeKey(Path workflowFile, double transferRate, CpmEngine engine) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+        try (FileChannel channel = FileChannel.open(workflowFile, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+
+        // Entries written by other format versions get other keys
+        buffer.clear();
+        buffer.putInt(BinaryWorkflowFormat.VERSION);
+        buffer.putInt(RESULT_VERSION);
+        buffer.putLong(Double.doubleToLongBits(transferRate));
+        buffer.put(engine.getId().getBytes(StandardCharsets.UTF_8));
+        buffer.flip();
+        digest.update(buffer);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Reads an entry, or returns null if it is missing or damaged
+     */
+    private CachedAnalysis read(String key, double transferRate) {
+        Path resultFile = directory.resolve(key + RESULT_SUFFIX);
+        Path graphFile = directory.resolve(key + GRAPH_SUFFIX);
+        if (!Files.exists(resultFile)) {
+            return null;
+        }
+        try {
+            CompactGraph graph;
+            try (MappedWorkflow workflow = MappedWorkflow.open(graphFile)) {
+                graph = workflow.toCompactGraph(transferRate);
+            }
+            CpmResult result = readResult(resultFile, graph);
+
+            FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+            Files.setLastModifiedTime(resultFile, now);
+            Files.setLastModifiedTime(graphFile, now);
+            return new CachedAnalysis(key, graph, result, true);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static CpmResult readResult(Path file, CompactGraph graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int nodeCount = graph.getNodeCount();
+            int edgeCount = graph.getEdgeCount();
+            if (channel.size() != resultSize(nodeCount, edgeCount)) {
+                throw new IOException("Cached result does not match its graph: " + file);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+            byte[] magic = new byte[RESULT_MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, RESULT_MAGIC) || buffer.getInt() != RESULT_VERSION
+                    || buffer.getInt() != nodeCount || buffer.getInt() != edgeCount) {
+                throw new IOException("Not a cached result for this graph: " + file);
+            }
+            double completionTime = buffer.getDouble();
+
+            DoubleBuffer doubles = buffer.slice(RESULT_HEADER_SIZE, 5 * 8 * nodeCount)
+                .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            double[][] times = new double[5][nodeCount];
+            for (double[] values : times) {
+                doubles.get(values);
+            }
+
+            buffer.position(RESULT_HEADER_SIZE + 5 * 8 * nodeCount);
+            boolean[] criticalNodes = new boolean[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                criticalNodes[i] = buffer.get() != 0;
+            }
+            boolean[] criticalEdges = new boolean[edgeCount];
+            for (int e = 0; e < edgeCount; e++) {
+                criticalEdges[e] = buffer.get() != 0;
+            }
+
+            return new CpmResult(graph, completionTime, times[0], times[1], times[2], times[3], times[4],
+                criticalNodes, criticalEdges);
+        }
+    }
+
+    /**
+     * Stores an entry and evicts old entries if the cache has grown beyond its size limit
+     */
+    private void store(String key, CpmResult result) {
+        try {
+            if (totalBytes.addAndGet(write(key, result)) > maxBytes) {
+                evict();
+            }
+        } catch (IOException e) {
+            System.err.println("Could not store analysis " + key + " in cache " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Writes an entry, graph first so the result file only ever points to a complete graph
+     *
+     * @return Number of bytes written
+     */
+    private long write(String key, CpmResult result) throws IOException {
+        CompactGraph graph = result.getGraph();
+        long resultBytes = resultSize(graph.getNodeCount(), graph.getEdgeCount());
+        if (resultBytes > Integer.MAX_VALUE) {
+            // Too large to map back in one piece; such workflows are analyzed every time
+            return 0;
+        }
+
+        long graphBytes;
+        Path graphTemp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+        try {
+            BinaryWorkflowFormat.write(graph, graphTemp);
+            graphBytes = Files.size(graphTemp);
+            Files.move(graphTemp, directory.resolve(key + GRAPH_SUFFIX),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(graphTemp);
+        }
+
+        Path resultTemp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+        try {
+            writeResult(resultTemp, result);
+            Files.move(resultTemp, directory.resolve(key + RESULT_SUFFIX),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(resultTemp);
+        }
+        return graphBytes + resultBytes;
+    }
+
+    private static void writeResult(Path file, CpmResult result) throws IOException {
+        CompactGraph graph = result.getGraph();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.put(RESULT_MAGIC);
+            buffer.putInt(RESULT_VERSION);
+            buffer.putInt(graph.getNodeCount());
+            buffer.putInt(graph.getEdgeCount());
+            buffer.putDouble(result.getEarliestCompletionTime());
+
+            double[][] times = {
+                result.getEarliestStartTimes(), result.getEarliestFinishTimes(),
+                result.getLatestStartTimes(), result.getLatestFinishTimes(), result.getSlackTimes()
+            };
+            for (double[] values : times) {
+                for (double value : values) {
+                    if (buffer.remaining() < Double.BYTES) {
+                        drain(channel, buffer);
+                    }
+                    buffer.putDouble(value);
+                }
+            }
+            for (boolean[] flags : new boolean[][] {result.getCriticalNodes(), result.getCriticalEdges()}) {
+                for (boolean flag : flags) {
+                    if (!buffer.hasRemaining()) {
+                        drain(channel, buffer);
+                    }
+                    buffer.put((byte) (flag ? 1 : 0));
+                }
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static long resultSize(int nodeCount, int edgeCount) {
+        return RESULT_HEADER_SIZE + 41L * nodeCount + edgeCount;
+    }
+
+    /**
+     * Deletes least recently used entries until the cache is back below its eviction target
+     * The scan also corrects the running total for files added or removed by other users
+     * of the directory.
+     */
+    private void evict() throws IOException {
+        synchronized (evictionLock) {
+            long estimated = totalBytes.get();
+            List<CacheEntry> entries = listEntries();
+            long total = 0;
+            for (CacheEntry entry : entries) {
+                total += entry.bytes();
+            }
+
+            if (total > maxBytes) {
+                long target = (long) (maxBytes * EVICTION_TARGET);
+                entries.sort(Comparator.comparing(CacheEntry::lastUsed));
+                for (CacheEntry entry : entries) {
+                    if (total <= target) {
+                        break;
+                    }
+                    delete(entry.key());
+                    total -= entry.bytes();
+                }
+            }
+            // Keep what other threads added since the estimate was read
+            totalBytes.addAndGet(total - estimated);
+        }
+    }
+
+    /**
+     * Lists the entries of the cache directory
+     * An entry groups the result and graph file of one key; a leftover temporary file is an
+     * entry of its own, keyed by its file name.
+     */
+    private List<CacheEntry> listEntries() throws IOException {
+        Map<String, CacheEntry> entries = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                String key;
+                if (fileName.endsWith(RESULT_SUFFIX)) {
+                    key = fileName.substring(0, fileName.length() - RESULT_SUFFIX.length());
+                } else if (fileName.endsWith(GRAPH_SUFFIX)) {
+                    key = fileName.substring(0, fileName.length() - GRAPH_SUFFIX.length());
+                } else if (fileName.endsWith(TEMP_SUFFIX)) {
+                    key = fileName;
+                } else {
+                    continue;
+                }
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    entries.merge(key, new CacheEntry(key, attributes.size(), attributes.lastModifiedTime()),
+                        CacheEntry::merge);
+                } catch (NoSuchFileException e) {
+                    // Deleted by another user of the directory
+                }
+            }
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    private void delete(String key) throws IOException {
+        if (key.endsWith(TEMP_SUFFIX)) {
+            Files.deleteIfExists(directory.resolve(key));
+            return;
+        }
+        // Result first, so the entry disappears before its graph does
+        Files.deleteIfExists(directory.resolve(key + RESULT_SUFFIX));
+        Files.deleteIfExists(directory.resolve(key + GRAPH_SUFFIX));
+    }
+
+    /**
+     * Gets the total size of the cache files, including orphaned and temporary ones
+     *
+     * @return Size in bytes
+     * @throws IOException If the cache directory cannot be listed
+     */
+    public long size() throws IOException {
+        return scanSize();
+    }
+
+    private long scanSize() throws IOException {
+        long total = 0;
+        for (CacheEntry entry : listEntries()) {
+            total += entry.bytes();
+        }
+        return total;
+    }
+
+    /**
+     * Deletes every entry of the cache
+     *
+     * @throws IOException If an entry cannot be deleted
+     */
+    public void clear() throws IOException {
+        synchronized (evictionLock) {
+            for (CacheEntry entry : listEntries()) {
+                delete(entry.key());
+                totalBytes.addAndGet(-entry.bytes());
+            }
+        }
+    }
+
+    private record CacheEntry(String key, long bytes, FileTime lastUsed) {
+        CacheEntry merge(CacheEntry other) {
+            FileTime newest = lastUsed.compareTo(other.lastUsed) >= 0 ? lastUsed : other.lastUsed;
+            return new CacheEntry(key, bytes + other.bytes, newest);
+        }
+    }
+
+    // Getters
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,53 @@
+// File: workflow_scheduling/cache/CachedAnalysis.java
+package workflow_scheduling.cache;
+
+import workflow_scheduling.algoritms.CpmResult;
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * A compact graph and its CPM result as returned by the analysis cache
+ */
+public class CachedAnalysis {
+    private final String key;
+    private final CompactGraph graph;
+    private final CpmResult result;
+    private final boolean fromCache;
+
+    /**
+     * Creates a cached analysis
+     *
+     * @param key The cache key of the analysis
+     * @param graph The analyzed graph
+     * @param result The CPM result on that graph
+     * @param fromCache true if the analysis was read from the cache, false if it was computed
+     */
+    public CachedAnalysis(String key, CompactGraph graph, CpmResult result, boolean fromCache) {
+        this.key = key;
+        this.graph = graph;
+        this.result = result;
+        this.fromCache = fromCache;
+    }
+
+    // Getters
+    public String getKey() {
+        return key;
+    }
+
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public CpmResult getResult() {
+        return result;
+    }
+
+    public boolean isFromCache() {
+        return fromCache;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachedAnalysis{key='%s', graph='%s', fromCache=%b}",
+            key, graph.getName(), fromCache);
+    }
+}
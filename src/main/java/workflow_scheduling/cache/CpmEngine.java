@@ -0,0 +1,42 @@
+// File: workflow_scheduling/cache/CpmEngine.java
+package workflow_scheduling.cache;
+
+import workflow_scheduling.algoritms.CpmAnalyzer;
+import workflow_scheduling.algoritms.CpmResult;
+import workflow_scheduling.algoritms.DataTransferCPM;
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * The CPM variants whose results can be cached
+ */
+public enum CpmEngine {
+    /** Task execution times only (CpmAnalyzer) */
+    EXECUTION_ONLY("cpm"),
+
+    /** Execution times plus data amounts on the edges (DataTransferCPM) */
+    DATA_TRANSFER("data-transfer-cpm");
+
+    private final String id;
+
+    CpmEngine(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Runs the analysis on a compact graph
+     *
+     * @param graph The graph to analyze
+     * @return The analysis result
+     */
+    public CpmResult analyze(CompactGraph graph) {
+        return switch (this) {
+            case EXECUTION_ONLY -> new CpmAnalyzer(graph).calculateCriticalPath();
+            case DATA_TRANSFER -> new DataTransferCPM(graph).calculateCriticalPath();
+        };
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+}
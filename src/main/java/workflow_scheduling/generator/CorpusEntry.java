@@ -0,0 +1,71 @@
+// File: workflow_scheduling/generator/CorpusEntry.java
+package workflow_scheduling.generator;
+
+/**
+ * Manifest record of one workflow in a generated corpus
+ */
+public class CorpusEntry {
+    /** Column names matching toCsvRow() */
+    public static final String CSV_HEADER =
+        "index,file,seed,shape,nodes,links,connectivity,min_exec_time,max_exec_time,min_data_amount,max_data_amount";
+
+    private final int index;
+    private final String file;
+    private final long seed;
+    private final GenerationParameters parameters;
+    private final int linkCount;
+
+    /**
+     * Creates a manifest record
+     *
+     * @param index Index of the workflow in the corpus
+     * @param file File the workflow was written to
+     * @param seed Seed of the workflow's random stream
+     * @param parameters Parameters the workflow was generated with
+     * @param linkCount Number of links in the workflow
+     */
+    public CorpusEntry(int index, String file, long seed, GenerationParameters parameters, int linkCount) {
+        this.index = index;
+        this.file = file;
+        this.seed = seed;
+        this.parameters = parameters;
+        this.linkCount = linkCount;
+    }
+
+    /**
+     * Formats this record as one CSV line
+     * The connectivity, execution time and data columns are empty for shapes other than layered.
+     *
+     * @return The CSV line, without line terminator
+     */
+    public String toCsvRow() {
+        String row = index + "," + file + "," + seed + "," + parameters.getShape() + ","
+            + parameters.getNumNodes() + "," + linkCount + ",";
+        if (!parameters.isLayered()) {
+            return row + ",,,,";
+        }
+        return row + parameters.getConnectivity() + "," + parameters.getMinExecTime() + ","
+            + parameters.getMaxExecTime() + "," + parameters.getMinDataAmount() + "," + parameters.getMaxDataAmount();
+    }
+
+    // Getters
+    public int getIndex() {
+        return index;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GenerationParameters getParameters() {
+        return parameters;
+    }
+
+    public int getLinkCount() {
+        return linkCount;
+    }
+}
@@ -0,0 +1,202 @@
+// File: workflow_scheduling/generator/CorpusGenerator.java
+package workflow_scheduling.generator;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import workflow_scheduling.model.WorkflowJson;
+import workflow_scheduling.utils.WorkflowLoader;
+
+/**
+ * Generates a corpus of workflows over a parameter grid in parallel
+ *
+ * The corpus holds a fixed number of workflows per grid point. Workflow i uses grid point
+ * i / workflowsPerPoint and its own SplittableRandom, seeded with a hash of the master seed
+ * and i. A workflow therefore depends only on (master seed, index), never on the thread that
+ * generates it or on the other workflows, and any single workflow can be regenerated alone.
+ */
+public class CorpusGenerator {
+    /** Name of the manifest written next to the workflow files */
+    public static final String MANIFEST_FILE = "manifest.csv";
+
+    private final ParameterGrid grid;
+    private final int workflowsPerPoint;
+    private final long masterSeed;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a corpus generator on the common fork-join pool
+     *
+     * @param grid The parameter grid
+     * @param workflowsPerPoint Number of workflows per grid point
+     * @param masterSeed Seed from which all workflow seeds are derived
+     */
+    public CorpusGenerator(ParameterGrid grid, int workflowsPerPoint, long masterSeed) {
+        this(grid, workflowsPerPoint, masterSeed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a corpus generator
+     *
+     * @param grid The parameter grid
+     * @param workflowsPerPoint Number of workflows per grid point
+     * @param masterSeed Seed from which all workflow seeds are derived
+     * @param pool The fork-join pool to generate on
+     */
+    public CorpusGenerator(ParameterGrid grid, int workflowsPerPoint, long masterSeed, ForkJoinPool pool) {
+        if (workflowsPerPoint < 1) {
+            throw new IllegalArgumentException("At least one workflow per grid point is required");
+        }
+        this.grid = grid;
+        this.workflowsPerPoint = workflowsPerPoint;
+        this.masterSeed = masterSeed;
+        this.pool = pool;
+    }
+
+    /**
+     * Derives the seed of one workflow
+     *
+     * @param masterSeed The corpus master seed
+     * @param index Index of the workflow in the corpus
+     * @return The workflow seed
+     */
+    public static long workflowSeed(long masterSeed, int index) {
+        // Two rounds of the SplitMix64 finalizer, so that neighbouring indexes
+        // and neighbouring master seeds give unrelated streams
+        return mix64(mix64(masterSeed) ^ mix64(0x9E3779B97F4A7C15L * (index + 1L)));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Generates a single workflow of the corpus
+     *
+     * @param index Index of the workflow
+     * @return The workflow
+     */
+    public WorkflowJson generate(int index) {
+        GenerationParameters parameters = getParameters(index);
+        return parameters.createShape().generate(getWorkflowName(index), parameters.getNumNodes(),
+            new SplittableRandom(workflowSeed(masterSeed, index)));
+    }
+
+    /**
+     * Generates the whole corpus into a directory
+     * Writes one JSON file per workflow and a manifest with one line per workflow. A workflow
+     * that fails to generate or save is reported on standard error and left out of the
+     * manifest, so one bad workflow does not discard the rest of the corpus.
+     *
+     * @param directory The output directory, created if missing
+     * @return The manifest records of the workflows written, in index order
+     * @throws IOException If the directory or the manifest cannot be written
+     */
+    public List<CorpusEntry> generateCorpus(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        List<Callable<CorpusEntry>> tasks = new ArrayList<>();
+        for (int i = 0; i < size(); i++) {
+            int index = i;
+            tasks.add(() -> {
+                WorkflowJson workflow = generate(index);
+                String file = directory.resolve(getWorkflowName(index) + ".json").toString();
+                WorkflowLoader.saveToFile(workflow, file);
+                return new CorpusEntry(index, file, workflowSeed(masterSeed, index),
+                    getParameters(index), workflow.getLinks().length);
+            });
+        }
+
+        List<CorpusEntry> entries = new ArrayList<>();
+        List<Future<CorpusEntry>> results = pool.invokeAll(tasks);
+        for (int i = 0; i < results.size(); i++) {
+            CorpusEntry entry = join(results.get(i), i);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(directory.resolve(MANIFEST_FILE)))) {
+            writer.println(CorpusEntry.CSV_HEADER);
+            for (CorpusEntry entry : entries) {
+                writer.println(entry.toCsvRow());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Waits for one workflow
+     *
+     * @return The manifest record, or null if the workflow failed
+     */
+    private CorpusEntry join(Future<CorpusEntry> task, int index) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Corpus generation interrupted", e);
+        } catch (ExecutionException e) {
+            System.err.println("Skipping workflow " + index + " (" + getParameters(index) + ", seed "
+                + workflowSeed(masterSeed, index) + "): " + e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the parameters of a workflow
+     *
+     * @param index Index of the workflow
+     * @return The parameters of its grid point
+     */
+    public GenerationParameters getParameters(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Workflow index " + index + " outside corpus of " + size());
+        }
+        return grid.getPoint(index / workflowsPerPoint);
+    }
+
+    /**
+     * Gets the name of a workflow, which is also its file name without extension
+     *
+     * @param index Index of the workflow
+     * @return The workflow name
+     */
+    public String getWorkflowName(int index) {
+        int digits = Math.max(5, String.valueOf(size() - 1).length());
+        return String.format("corpus-%0" + digits + "d", index);
+    }
+
+    /**
+     * Gets the number of workflows in the corpus
+     *
+     * @return Grid size times workflows per grid point
+     */
+    public int size() {
+        return grid.size() * workflowsPerPoint;
+    }
+
+    // Getters
+    public ParameterGrid getGrid() {
+        return grid;
+    }
+
+    public int getWorkflowsPerPoint() {
+        return workflowsPerPoint;
+    }
+
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+}
@@ -0,0 +1,51 @@
+// File: workflow_scheduling/generator/CyberShakeShape.java
+package workflow_scheduling.generator;
+
+import java.util.random.RandomGenerator;
+
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * CyberShake seismic hazard workflow
+ *
+ * For every site a strain Green tensor extraction (ExtractSGT) fans out to one seismogram
+ * synthesis per rupture variation (SeismogramSynthesis), each followed by a peak value
+ * calculation (PeakValCalcOkaya). All seismograms and all peak values are aggregated by
+ * one zip task each (ZipSeis, ZipPSA). The extractions produce very large files that
+ * every synthesis of the site reads; the remaining files are small. Runtimes in seconds
+ * and data sizes in MB follow published Pegasus traces.
+ */
+public class CyberShakeShape implements WorkflowShape {
+
+    @Override
+    public String getName() {
+        return "cybershake";
+    }
+
+    @Override
+    public WorkflowJson generate(String name, int numTasks, RandomGenerator random) {
+        ShapeBuilder builder = new ShapeBuilder(random);
+
+        // One site per thousand tasks, two tasks per rupture variation
+        int sites = Math.max(1, (numTasks + 999) / 1000);
+        int variationsPerSite = Math.max(1, (numTasks - 2 - sites) / (2 * sites));
+
+        int zipSeis = builder.addTask("ZipSeis", 265.73);
+        int zipPsa = builder.addTask("ZipPSA", 195.80);
+        for (int site = 0; site < sites; site++) {
+            int extract = builder.addTask("ExtractSGT", 110.58);
+            for (int v = 0; v < variationsPerSite; v++) {
+                int synthesis = builder.addTask("SeismogramSynthesis", 79.47);
+                builder.addLink(extract, synthesis, 155.0);
+
+                int peak = builder.addTask("PeakValCalcOkaya", 0.55);
+                builder.addLink(synthesis, peak, 1.0);
+
+                builder.addLink(synthesis, zipSeis, 1.0);
+                builder.addLink(peak, zipPsa, 1.0);
+            }
+        }
+
+        return builder.build(name);
+    }
+}
@@ -0,0 +1,176 @@
+// File: workflow_scheduling/generator/EdgeIndex.java
+package workflow_scheduling.generator;
+
+import java.util.Arrays;
+
+/**
+ * Index over the links of a workflow under construction
+ * Keeps a primitive hash set of (source, target) pairs packed into longs for constant-time
+ * duplicate checks, plus growable per-node successor and predecessor lists. Nodes are
+ * identified by their index in the generator's node array.
+ */
+final class EdgeIndex {
+    private static final long EMPTY = -1L;
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    // Open-addressing hash set of packed edge keys
+    private long[] keys;
+    private int mask;
+    private int size;
+
+    private final int[][] successors;
+    private final int[] outDegrees;
+    private final int[][] predecessors;
+    private final int[] inDegrees;
+
+    /**
+     * Creates an empty index
+     *
+     * @param nodeCount Number of nodes in the workflow
+     */
+    EdgeIndex(int nodeCount) {
+        int capacity = Integer.highestOneBit(Math.max(16, nodeCount * 4) - 1) << 1;
+        this.keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        this.mask = capacity - 1;
+        this.successors = new int[nodeCount][];
+        this.outDegrees = new int[nodeCount];
+        this.predecessors = new int[nodeCount][];
+        this.inDegrees = new int[nodeCount];
+        Arrays.fill(successors, NO_NEIGHBORS);
+        Arrays.fill(predecessors, NO_NEIGHBORS);
+    }
+
+    /**
+     * Records an edge; recording an existing edge again has no effect
+     *
+     * @param source Index of the source node
+     * @param target Index of the target node
+     */
+    void add(int source, int target) {
+        if (!insertKey(key(source, target))) {
+            return;
+        }
+        successors[source] = append(successors[source], outDegrees[source]++, target);
+        predecessors[target] = append(predecessors[target], inDegrees[target]++, source);
+    }
+
+    /**
+     * Checks whether an edge has been recorded
+     *
+     * @param source Index of the source node
+     * @param target Index of the target node
+     * @return True if the edge exists
+     */
+    boolean contains(int source, int target) {
+        long key = key(source, target);
+        for (int slot = hash(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the position of every node in a topological order of the current edges
+     *
+     * @return Rank per node index; edges always go from a lower to a higher rank
+     * @throws IllegalStateException If the edges contain a cycle
+     */
+    int[] topologicalRanks() {
+        int nodeCount = outDegrees.length;
+        int[] remaining = inDegrees.clone();
+        int[] queue = new int[nodeCount];
+        int tail = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            if (remaining[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+
+        int[] ranks = new int[nodeCount];
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            ranks[node] = head;
+            for (int k = 0; k < outDegrees[node]; k++) {
+                int successor = successors[node][k];
+                if (--remaining[successor] == 0) {
+                    queue[tail++] = successor;
+                }
+            }
+        }
+
+        if (tail < nodeCount) {
+            throw new IllegalStateException("Generated links contain a cycle");
+        }
+        return ranks;
+    }
+
+    // Getters
+    int getOutDegree(int node) {
+        return outDegrees[node];
+    }
+
+    int getSuccessor(int node, int k) {
+        return successors[node][k];
+    }
+
+    int getInDegree(int node) {
+        return inDegrees[node];
+    }
+
+    int getPredecessor(int node, int k) {
+        return predecessors[node][k];
+    }
+
+    private boolean insertKey(long key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        // Keep the load factor at or below one half
+        if (++size * 2 > keys.length) {
+            rehash();
+        }
+        return true;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        keys = new long[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        mask = keys.length - 1;
+        for (long key : oldKeys) {
+            if (key != EMPTY) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private static long key(int source, int target) {
+        return ((long) source << 32) | (target & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        // Fibonacci hashing spreads the packed node indexes over the whole table
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int[] append(int[] list, int count, int value) {
+        if (count == list.length) {
+            list = Arrays.copyOf(list, Math.max(4, count * 2));
+        }
+        list[count] = value;
+        return list;
+    }
+}
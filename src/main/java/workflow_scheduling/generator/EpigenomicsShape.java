@@ -0,0 +1,57 @@
+// File: workflow_scheduling/generator/EpigenomicsShape.java
+package workflow_scheduling.generator;
+
+import java.util.random.RandomGenerator;
+
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * Epigenomics genome sequencing pipeline
+ *
+ * The reads of every sequencer lane are split into chunks (fastQSplit). Each chunk runs
+ * through a four-stage pipeline (filterContams, sol2sanger, fast2bfq, map) and the mapped
+ * chunks of a lane are merged (mapMerge). A global merge of all lanes is indexed (maqIndex)
+ * and turned into the final pileup. The map stage dominates the runtime. Runtimes in
+ * seconds and data sizes in MB follow published Pegasus traces.
+ */
+public class EpigenomicsShape implements WorkflowShape {
+
+    @Override
+    public String getName() {
+        return "epigenomics";
+    }
+
+    @Override
+    public WorkflowJson generate(String name, int numTasks, RandomGenerator random) {
+        ShapeBuilder builder = new ShapeBuilder(random);
+
+        // One lane per two hundred tasks; each lane adds a split, a merge and four tasks per chunk
+        int lanes = Math.max(1, numTasks / 200);
+        int chunksPerLane = Math.max(1, ((numTasks - 3) / lanes - 2) / 4);
+
+        int globalMerge = builder.addTask("mapMerge", 11.0);
+        for (int lane = 0; lane < lanes; lane++) {
+            int split = builder.addTask("fastQSplit", 34.32);
+            int laneMerge = builder.addTask("mapMerge", 11.0);
+            for (int chunk = 0; chunk < chunksPerLane; chunk++) {
+                int filter = builder.addTask("filterContams", 2.47);
+                builder.addLink(split, filter, 12.0);
+                int sanger = builder.addTask("sol2sanger", 0.48);
+                builder.addLink(filter, sanger, 10.0);
+                int bfq = builder.addTask("fast2bfq", 1.40);
+                builder.addLink(sanger, bfq, 10.0);
+                int map = builder.addTask("map", 201.89);
+                builder.addLink(bfq, map, 3.0);
+                builder.addLink(map, laneMerge, 1.0);
+            }
+            builder.addLink(laneMerge, globalMerge, chunksPerLane);
+        }
+
+        int index = builder.addTask("maqIndex", 43.57);
+        builder.addLink(globalMerge, index, (double) lanes * chunksPerLane);
+        int pileup = builder.addTask("pileup", 55.95);
+        builder.addLink(index, pileup, (double) lanes * chunksPerLane);
+
+        return builder.build(name);
+    }
+}
@@ -0,0 +1,129 @@
+// File: workflow_scheduling/generator/GenerationParameters.java
+package workflow_scheduling.generator;
+
+/**
+ * Parameters of one generated workflow
+ * The layered shape is generated by WorkflowGenerator and uses all parameters; the other
+ * shapes bring their own runtime and data size profiles and use only the node count.
+ */
+public class GenerationParameters {
+    private final String shape;
+    private final int numNodes;
+    private final int minExecTime;
+    private final int maxExecTime;
+    private final double connectivity;
+    private final int minDataAmount;
+    private final int maxDataAmount;
+
+    /**
+     * Creates a parameter set for the layered shape
+     *
+     * @param numNodes The number of nodes to generate
+     * @param minExecTime Minimum task execution time
+     * @param maxExecTime Maximum task execution time
+     * @param connectivity Connectivity level (0.0-1.0) controlling edge density
+     * @param minDataAmount Minimum data transfer amount
+     * @param maxDataAmount Maximum data transfer amount
+     */
+    public GenerationParameters(int numNodes, int minExecTime, int maxExecTime,
+                                double connectivity, int minDataAmount, int maxDataAmount) {
+        this(LayeredShape.NAME, numNodes, minExecTime, maxExecTime, connectivity, minDataAmount, maxDataAmount);
+    }
+
+    /**
+     * Creates a parameter set for a shape with its own runtime and data size profile
+     *
+     * @param shape Name of the shape, see WorkflowShapes
+     * @param numNodes The number of tasks to generate
+     */
+    public GenerationParameters(String shape, int numNodes) {
+        this(shape, numNodes, 0, 0, 0.0, 0, 0);
+    }
+
+    private GenerationParameters(String shape, int numNodes, int minExecTime, int maxExecTime,
+                                 double connectivity, int minDataAmount, int maxDataAmount) {
+        this.shape = shape;
+        this.numNodes = numNodes;
+        this.minExecTime = minExecTime;
+        this.maxExecTime = maxExecTime;
+        this.connectivity = connectivity;
+        this.minDataAmount = minDataAmount;
+        this.maxDataAmount = maxDataAmount;
+    }
+
+    /**
+     * Checks whether the shape accepts these parameters
+     *
+     * @return True if there are at least two nodes and, for the layered shape, the
+     *         connectivity is within 0.0-1.0 and both ranges are non-empty
+     */
+    public boolean isBuildable() {
+        if (!isLayered()) {
+            return numNodes >= 2;
+        }
+        return numNodes >= 2
+            && connectivity >= 0.0 && connectivity <= 1.0
+            && minExecTime <= maxExecTime
+            && minDataAmount <= maxDataAmount;
+    }
+
+    /**
+     * Checks whether these parameters are for the layered shape of WorkflowGenerator
+     *
+     * @return True if the execution time, connectivity and data ranges apply
+     */
+    public boolean isLayered() {
+        return LayeredShape.NAME.equals(shape);
+    }
+
+    /**
+     * Creates the shape that generates workflows with these parameters
+     *
+     * @return The shape
+     * @throws IllegalArgumentException If no shape has this name
+     */
+    public WorkflowShape createShape() {
+        if (isLayered()) {
+            return new LayeredShape(minExecTime, maxExecTime, connectivity, minDataAmount, maxDataAmount);
+        }
+        return WorkflowShapes.forName(shape);
+    }
+
+    // Getters
+    public String getShape() {
+        return shape;
+    }
+
+    public int getNumNodes() {
+        return numNodes;
+    }
+
+    public int getMinExecTime() {
+        return minExecTime;
+    }
+
+    public int getMaxExecTime() {
+        return maxExecTime;
+    }
+
+    public double getConnectivity() {
+        return connectivity;
+    }
+
+    public int getMinDataAmount() {
+        return minDataAmount;
+    }
+
+    public int getMaxDataAmount() {
+        return maxDataAmount;
+    }
+
+    @Override
+    public String toString() {
+        if (!isLayered()) {
+            return "GenerationParameters{shape=" + shape + ", nodes=" + numNodes + "}";
+        }
+        return "GenerationParameters{nodes=" + numNodes + ", exec=" + minExecTime + "-" + maxExecTime
+            + ", connectivity=" + connectivity + ", data=" + minDataAmount + "-" + maxDataAmount + "}";
+    }
+}
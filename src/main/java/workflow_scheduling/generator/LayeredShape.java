@@ -0,0 +1,55 @@
+// File: workflow_scheduling/generator/LayeredShape.java
+package workflow_scheduling.generator;
+
+import java.util.random.RandomGenerator;
+
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * The layered, mostly vertical shape of WorkflowGenerator
+ */
+public class LayeredShape implements WorkflowShape {
+    /** Name of the shape */
+    public static final String NAME = "layered";
+
+    private final int minExecTime;
+    private final int maxExecTime;
+    private final double connectivity;
+    private final int minDataAmount;
+    private final int maxDataAmount;
+
+    /**
+     * Creates a layered shape with the generator's usual ranges and medium connectivity
+     */
+    public LayeredShape() {
+        this(1, 50, 0.3, 1, 100);
+    }
+
+    /**
+     * Creates a layered shape
+     *
+     * @param minExecTime Minimum task execution time
+     * @param maxExecTime Maximum task execution time
+     * @param connectivity Connectivity level (0.0-1.0) controlling edge density
+     * @param minDataAmount Minimum data transfer amount
+     * @param maxDataAmount Maximum data transfer amount
+     */
+    public LayeredShape(int minExecTime, int maxExecTime, double connectivity, int minDataAmount, int maxDataAmount) {
+        this.minExecTime = minExecTime;
+        this.maxExecTime = maxExecTime;
+        this.connectivity = connectivity;
+        this.minDataAmount = minDataAmount;
+        this.maxDataAmount = maxDataAmount;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public WorkflowJson generate(String name, int numTasks, RandomGenerator random) {
+        return new WorkflowGenerator(random).generateWorkflow(
+            name, numTasks, minExecTime, maxExecTime, connectivity, minDataAmount, maxDataAmount);
+    }
+}
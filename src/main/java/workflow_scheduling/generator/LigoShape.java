@@ -0,0 +1,57 @@
+// File: workflow_scheduling/generator/LigoShape.java
+package workflow_scheduling.generator;
+
+import java.util.random.RandomGenerator;
+
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * LIGO Inspiral gravitational wave search workflow
+ *
+ * The data is processed in independent groups. Within a group every template bank
+ * (TmpltBank) feeds one matched filter (Inspiral), the filter results are coincidence
+ * tested together (Thinca), the coincident triggers fan out again into trigger banks
+ * (TrigBank) and a second Inspiral stage, and a final Thinca aggregates the group.
+ * Inspiral tasks dominate the runtime. Runtimes in seconds and data sizes in MB follow
+ * published Pegasus traces.
+ */
+public class LigoShape implements WorkflowShape {
+    // Number of template banks per group
+    private static final int BANKS_PER_GROUP = 10;
+
+    @Override
+    public String getName() {
+        return "ligo";
+    }
+
+    @Override
+    public WorkflowJson generate(String name, int numTasks, RandomGenerator random) {
+        ShapeBuilder builder = new ShapeBuilder(random);
+
+        // A group with k banks has 4k + 2 tasks
+        int groupSize = 4 * BANKS_PER_GROUP + 2;
+        int groups = Math.max(1, Math.round((float) numTasks / groupSize));
+        int banks = Math.max(1, Math.min(BANKS_PER_GROUP, Math.round(((float) numTasks / groups - 2) / 4)));
+
+        for (int group = 0; group < groups; group++) {
+            int firstThinca = builder.addTask("Thinca", 5.37);
+            for (int k = 0; k < banks; k++) {
+                int bank = builder.addTask("TmpltBank", 18.14);
+                int inspiral = builder.addTask("Inspiral", 460.23);
+                builder.addLink(bank, inspiral, 1.0);
+                builder.addLink(inspiral, firstThinca, 1.0);
+            }
+
+            int secondThinca = builder.addTask("Thinca", 5.37);
+            for (int k = 0; k < banks; k++) {
+                int trigBank = builder.addTask("TrigBank", 5.11);
+                builder.addLink(firstThinca, trigBank, 1.0);
+                int inspiral = builder.addTask("Inspiral", 460.23);
+                builder.addLink(trigBank, inspiral, 1.0);
+                builder.addLink(inspiral, secondThinca, 1.0);
+            }
+        }
+
+        return builder.build(name);
+    }
+}
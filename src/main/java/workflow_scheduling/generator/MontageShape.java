@@ -0,0 +1,84 @@
+// File: workflow_scheduling/generator/MontageShape.java
+package workflow_scheduling.generator;
+
+import java.util.random.RandomGenerator;
+
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * Montage astronomical image mosaic workflow
+ *
+ * Input images lie on a grid. Every image is reprojected (mProjectPP), every pair of
+ * overlapping neighbours is differenced (mDiffFit), all differences are aggregated
+ * (mConcatFit) into one background model (mBgModel), which is applied to every
+ * projection (mBackground). The corrected images are catalogued (mImgtbl), co-added
+ * into the mosaic (mAdd) and shrunk into a preview (mShrink, mJPEG). About five tasks
+ * per input image; runtimes in seconds and data sizes in MB follow published Pegasus
+ * traces.
+ */
+public class MontageShape implements WorkflowShape {
+
+    @Override
+    public String getName() {
+        return "montage";
+    }
+
+    @Override
+    public WorkflowJson generate(String name, int numTasks, RandomGenerator random) {
+        ShapeBuilder builder = new ShapeBuilder(random);
+
+        // Each image brings one projection, one background and about three differences
+        int images = Math.max(2, (numTasks - 6) / 5);
+        int columns = (int) Math.ceil(Math.sqrt(images));
+
+        int[] projections = new int[images];
+        for (int i = 0; i < images; i++) {
+            projections[i] = builder.addTask("mProjectPP", 1.73);
+        }
+
+        // Differences between overlapping neighbours: right, below and diagonally below
+        int[] diffs = new int[images * 3];
+        int diffCount = 0;
+        for (int i = 0; i < images; i++) {
+            int column = i % columns;
+            int[] neighbours = {
+                column + 1 < columns ? i + 1 : -1,
+                i + columns,
+                column + 1 < columns ? i + columns + 1 : -1
+            };
+            for (int neighbour : neighbours) {
+                if (neighbour >= 0 && neighbour < images) {
+                    int diff = builder.addTask("mDiffFit", 0.66);
+                    builder.addLink(projections[i], diff, 4.0);
+                    builder.addLink(projections[neighbour], diff, 4.0);
+                    diffs[diffCount++] = diff;
+                }
+            }
+        }
+
+        int concatFit = builder.addTask("mConcatFit", 143.26);
+        for (int k = 0; k < diffCount; k++) {
+            builder.addLink(diffs[k], concatFit, 1.0);
+        }
+        int bgModel = builder.addTask("mBgModel", 384.49);
+        builder.addLink(concatFit, bgModel, 2.0);
+
+        int imgtbl = builder.addTask("mImgtbl", 2.78);
+        int add = builder.addTask("mAdd", 282.37);
+        for (int i = 0; i < images; i++) {
+            int background = builder.addTask("mBackground", 1.72);
+            builder.addLink(bgModel, background, 1.0);
+            builder.addLink(projections[i], background, 4.0);
+            builder.addLink(background, imgtbl, 1.0);
+            builder.addLink(background, add, 4.0);
+        }
+        builder.addLink(imgtbl, add, 1.0);
+
+        int shrink = builder.addTask("mShrink", 66.10);
+        builder.addLink(add, shrink, 4.0 * images);
+        int jpeg = builder.addTask("mJPEG", 0.64);
+        builder.addLink(shrink, jpeg, 1.0 * images);
+
+        return builder.build(name);
+    }
+}
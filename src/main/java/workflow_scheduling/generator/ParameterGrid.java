@@ -0,0 +1,91 @@
+// File: workflow_scheduling/generator/ParameterGrid.java
+package workflow_scheduling.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cartesian product of generation parameters
+ * Points are ordered with the shape varying slowest, then the node count, and the data range
+ * fastest. Connectivity, execution time and data ranges apply to the layered shape only, so
+ * every other shape has one point per node count. Combinations that cannot be built are left
+ * out of the grid.
+ */
+public class ParameterGrid {
+    private final List<GenerationParameters> points = new ArrayList<>();
+    private int skippedCount;
+
+    /**
+     * Creates a grid of layered workflows
+     *
+     * @param nodeCounts Node counts to generate
+     * @param connectivities Connectivity levels (0.0-1.0)
+     * @param execTimeRanges Pairs of {minimum, maximum} task execution time
+     * @param dataAmountRanges Pairs of {minimum, maximum} data transfer amount
+     */
+    public ParameterGrid(int[] nodeCounts, double[] connectivities, int[][] execTimeRanges, int[][] dataAmountRanges) {
+        this(new String[] {LayeredShape.NAME}, nodeCounts, connectivities, execTimeRanges, dataAmountRanges);
+    }
+
+    /**
+     * Creates a grid
+     *
+     * @param shapes Names of the shapes to generate, see WorkflowShapes
+     * @param nodeCounts Node counts to generate
+     * @param connectivities Connectivity levels (0.0-1.0) of layered workflows
+     * @param execTimeRanges Pairs of {minimum, maximum} task execution time of layered workflows
+     * @param dataAmountRanges Pairs of {minimum, maximum} data transfer amount of layered workflows
+     * @throws IllegalArgumentException If a shape name is unknown
+     */
+    public ParameterGrid(String[] shapes, int[] nodeCounts, double[] connectivities,
+                         int[][] execTimeRanges, int[][] dataAmountRanges) {
+        for (String shapeName : shapes) {
+            String shape = WorkflowShapes.forName(shapeName).getName();
+            for (int numNodes : nodeCounts) {
+                if (!LayeredShape.NAME.equals(shape)) {
+                    add(new GenerationParameters(shape, numNodes));
+                    continue;
+                }
+                for (double connectivity : connectivities) {
+                    for (int[] execTimeRange : execTimeRanges) {
+                        for (int[] dataAmountRange : dataAmountRanges) {
+                            add(new GenerationParameters(numNodes, execTimeRange[0], execTimeRange[1],
+                                connectivity, dataAmountRange[0], dataAmountRange[1]));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void add(GenerationParameters point) {
+        if (point.isBuildable()) {
+            points.add(point);
+        } else {
+            skippedCount++;
+        }
+    }
+
+    /**
+     * Gets a grid point
+     *
+     * @param index Index of the point
+     * @return The parameters at that point
+     */
+    public GenerationParameters getPoint(int index) {
+        return points.get(index);
+    }
+
+    // Getters
+    public List<GenerationParameters> getPoints() {
+        return points;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+}
@@ -0,0 +1,67 @@
+// File: workflow_scheduling/generator/ShapeBuilder.java
+package workflow_scheduling.generator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import workflow_scheduling.model.GraphInfo;
+import workflow_scheduling.model.LinkInfo;
+import workflow_scheduling.model.NodeInfo;
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * Collects the tasks and links of a shaped workflow
+ * Tasks are named after their type with a per-type counter (e.g. mDiffFit_12). Runtimes
+ * and data sizes are drawn around the mean of their task or file type with a lognormal
+ * spread, rounded to whole units and at least 1.
+ */
+final class ShapeBuilder {
+    // Spread of the lognormal variation around the profile means
+    private static final double SIGMA = 0.25;
+
+    private final RandomGenerator random;
+    private final List<NodeInfo> nodes = new ArrayList<>();
+    private final List<LinkInfo> links = new ArrayList<>();
+    private final Map<String, Integer> typeCounters = new HashMap<>();
+
+    ShapeBuilder(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Adds a task
+     *
+     * @param type Task type, used as ID prefix
+     * @param meanRuntime Mean runtime of this task type
+     * @return Index of the new task
+     */
+    int addTask(String type, double meanRuntime) {
+        int number = typeCounters.merge(type, 1, Integer::sum);
+        nodes.add(new NodeInfo(type + "_" + number, sample(meanRuntime)));
+        return nodes.size() - 1;
+    }
+
+    /**
+     * Adds a data dependency between two tasks
+     *
+     * @param source Index of the producing task
+     * @param target Index of the consuming task
+     * @param meanDataAmount Mean size of the transferred file
+     */
+    void addLink(int source, int target, double meanDataAmount) {
+        links.add(new LinkInfo(nodes.get(source).getId(), nodes.get(target).getId(), sample(meanDataAmount)));
+    }
+
+    WorkflowJson build(String name) {
+        return new WorkflowJson(true, new GraphInfo(name),
+            nodes.toArray(new NodeInfo[0]), links.toArray(new LinkInfo[0]));
+    }
+
+    private int sample(double mean) {
+        double value = mean * Math.exp(SIGMA * random.nextGaussian() - SIGMA * SIGMA / 2);
+        return (int) Math.max(1, Math.round(value));
+    }
+}
@@ -0,0 +1,328 @@
+// File: workflow_scheduling/generator/StreamingWorkflowGenerator.java
+package workflow_scheduling.generator;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import workflow_scheduling.utils.WorkflowLoader;
+
+/**
+ * Generates layered DAG workflows straight into a JSON file
+ *
+ * Produces the same kind of workflow as WorkflowGenerator (one Start and one End node,
+ * layers of tasks in between, primary and secondary links from the previous layer, skip
+ * links over a few layers and some early links to End) without building a WorkflowJson.
+ * Node IDs follow from node indexes and nodes are numbered layer by layer, so besides the
+ * layer sizes only a flag per node of the previous layer is kept in memory. Nodes and links
+ * are written in two passes; each pass replays its own random stream split from the seed,
+ * so the output depends only on the seed and the parameters.
+ */
+public class StreamingWorkflowGenerator {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final long seed;
+
+    /**
+     * Creates a streaming generator with a random seed
+     */
+    public StreamingWorkflowGenerator() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a streaming generator with a specified seed for reproducible results
+     *
+     * @param seed The random seed to use
+     */
+    public StreamingWorkflowGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Generates a workflow and saves it as a JSON file
+     * If only a filename is provided (no path separators), it saves to the default directory
+     *
+     * @param filePath Path or filename where the JSON file should be saved
+     * @param name The name of the workflow
+     * @param numNodes The number of nodes to generate
+     * @param minExecTime Minimum task execution time
+     * @param maxExecTime Maximum task execution time
+     * @param connectivity Connectivity level (0.0-1.0) controlling edge density
+     * @param minDataAmount Minimum data transfer amount
+     * @param maxDataAmount Maximum data transfer amount
+     * @return The full path where the file was saved
+     * @throws IOException If the file cannot be written
+     */
+    public String saveToFile(
+            String filePath,
+            String name,
+            int numNodes,
+            int minExecTime,
+            int maxExecTime,
+            double connectivity,
+            int minDataAmount,
+            int maxDataAmount) throws IOException {
+
+        String fullPath = WorkflowLoader.resolveFilePath(filePath, WorkflowLoader.getDefaultJsonDir(), ".json");
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(fullPath), 1 << 16)) {
+            writeWorkflow(out, name, numNodes, minExecTime, maxExecTime, connectivity, minDataAmount, maxDataAmount);
+        }
+        return fullPath;
+    }
+
+    /**
+     * Generates a workflow and writes it as JSON to a stream
+     * The stream is not closed.
+     *
+     * @param out The stream to write to
+     * @param name The name of the workflow
+     * @param numNodes The number of nodes to generate
+     * @param minExecTime Minimum task execution time
+     * @param maxExecTime Maximum task execution time
+     * @param connectivity Connectivity level (0.0-1.0) controlling edge density
+     * @param minDataAmount Minimum data transfer amount
+     * @param maxDataAmount Maximum data transfer amount
+     * @return The number of links written
+     * @throws IOException If writing fails
+     */
+    public long writeWorkflow(
+            OutputStream out,
+            String name,
+            int numNodes,
+            int minExecTime,
+            int maxExecTime,
+            double connectivity,
+            int minDataAmount,
+            int maxDataAmount) throws IOException {
+
+        // Input validation
+        if (numNodes < 2) {
+            throw new IllegalArgumentException("Number of nodes must be at least 2");
+        }
+
+        if (connectivity < 0.0 || connectivity > 1.0) {
+            throw new IllegalArgumentException("Connectivity must be between 0.0 and 1.0");
+        }
+
+        // Independent streams for the layout, the nodes and the links
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom layoutRandom = root.split();
+        SplittableRandom nodeRandom = root.split();
+        SplittableRandom linkRandom = root.split();
+
+        int[] layerOffsets = createLayerOffsets(numNodes, connectivity, layoutRandom);
+
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.useDefaultPrettyPrinter();
+
+            json.writeStartObject();
+            json.writeBooleanField("directed", true);
+            json.writeObjectFieldStart("graph");
+            json.writeStringField("name", name);
+            json.writeEndObject();
+
+            json.writeArrayFieldStart("nodes");
+            for (int i = 0; i < numNodes; i++) {
+                json.writeStartObject();
+                json.writeStringField("id", nodeId(i, numNodes));
+                json.writeNumberField("execution_time", minExecTime + nodeRandom.nextInt(maxExecTime - minExecTime + 1));
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("links");
+            long linkCount = writeLinks(json, layerOffsets, connectivity, minDataAmount, maxDataAmount, linkRandom);
+            json.writeEndArray();
+
+            json.writeEndObject();
+            return linkCount;
+        }
+    }
+
+    /**
+     * Splits the nodes between Start and End into layers
+     * Uses as many layers as WorkflowGenerator; layer sizes vary randomly around the mean.
+     *
+     * @return Index of the first node of every layer, followed by the node count;
+     *         layer 0 holds Start and the last layer holds End
+     */
+    private int[] createLayerOffsets(int numNodes, double connectivity, SplittableRandom random) {
+        int layerInfluence = connectivity > 0.5 ? -1 : (connectivity < 0.2 ? 1 : 0);
+        int innerNodes = numNodes - 2;
+        int innerLayers = Math.min(innerNodes, Math.max(2, (int)Math.sqrt(numNodes) * 2 + layerInfluence - 2));
+
+        // Every layer gets one node plus a random share of the rest
+        int[] widths = new int[innerLayers];
+        double[] weights = new double[innerLayers];
+        double totalWeight = 0;
+        for (int layer = 0; layer < innerLayers; layer++) {
+            weights[layer] = 0.5 + random.nextDouble();
+            totalWeight += weights[layer];
+        }
+        int extraNodes = innerNodes - innerLayers;
+        int assigned = 0;
+        for (int layer = 0; layer < innerLayers; layer++) {
+            widths[layer] = 1 + (int)(extraNodes * weights[layer] / totalWeight);
+            assigned += widths[layer];
+        }
+        for (int layer = 0; assigned < innerNodes; layer = (layer + 1) % innerLayers) {
+            widths[layer]++;
+            assigned++;
+        }
+
+        int[] offsets = new int[innerLayers + 3];
+        offsets[1] = 1;
+        for (int layer = 0; layer < innerLayers; layer++) {
+            offsets[layer + 2] = offsets[layer + 1] + widths[layer];
+        }
+        offsets[innerLayers + 2] = numNodes;
+        return offsets;
+    }
+
+    /**
+     * Writes the links layer by layer
+     * Every node gets an incoming link from the previous layer and every node gets an
+     * outgoing link into the next layer, so all nodes lie on a path from Start to End.
+     *
+     * @return The number of links written
+     */
+    private long writeLinks(
+            JsonGenerator json,
+            int[] layerOffsets,
+            double connectivity,
+            int minDataAmount,
+            int maxDataAmount,
+            SplittableRandom random) throws IOException {
+
+        int numLayers = layerOffsets.length - 1;
+        int numNodes = layerOffsets[numLayers];
+        int endNodeIndex = numNodes - 1;
+        int dataRange = maxDataAmount - minDataAmount;
+
+        double secondaryConnectionProb = 0.2 + connectivity * 0.5;
+        int maxSkipDistance = 1 + (int)(connectivity * 2);
+        double skipConnectionProb = connectivity * 0.3;
+
+        // Direct links to End from the inner layers that are not next to End
+        int earlyEndCandidates = layerOffsets[numLayers - 2] - 1;
+        int earlierConnections = Math.max(1, (int)(numNodes / 10 * connectivity) + 1);
+        double earlyEndProb = earlyEndCandidates > 0 ? Math.min(1.0, (double)earlierConnections / earlyEndCandidates) : 0;
+
+        // Whether each node of the previous layer already has an outgoing link
+        int maxWidth = 0;
+        for (int layer = 0; layer < numLayers; layer++) {
+            maxWidth = Math.max(maxWidth, layerOffsets[layer + 1] - layerOffsets[layer]);
+        }
+        boolean[] hasOutgoing = new boolean[maxWidth];
+
+        long linkCount = 0;
+        for (int layer = 1; layer < numLayers; layer++) {
+            int previousFrom = layerOffsets[layer - 1];
+            int previousWidth = layerOffsets[layer] - previousFrom;
+            int currentFrom = layerOffsets[layer];
+            int currentWidth = layerOffsets[layer + 1] - currentFrom;
+            Arrays.fill(hasOutgoing, 0, previousWidth, false);
+
+            if (layer == numLayers - 1) {
+                // Connect the whole last inner layer to End
+                for (int k = 0; k < previousWidth; k++) {
+                    if (!hasOutgoing[k]) {
+                        writeLink(json, numNodes, previousFrom + k, endNodeIndex, minDataAmount + random.nextInt(dataRange + 1));
+                        linkCount++;
+                    }
+                }
+                break;
+            }
+
+            // Primary and secondary links from the previous layer
+            for (int target = 0; target < currentWidth; target++) {
+                int source = target % previousWidth;
+                writeLink(json, numNodes, previousFrom + source, currentFrom + target,
+                    minDataAmount + random.nextInt(dataRange + 1));
+                hasOutgoing[source] = true;
+                linkCount++;
+
+                if (previousWidth > 1 && random.nextDouble() < secondaryConnectionProb) {
+                    int secondSource;
+                    do {
+                        secondSource = random.nextInt(previousWidth);
+                    } while (secondSource == source);
+                    writeLink(json, numNodes, previousFrom + secondSource, currentFrom + target,
+                        minDataAmount + random.nextInt(dataRange / 2 + 1));
+                    hasOutgoing[secondSource] = true;
+                    linkCount++;
+                }
+            }
+
+            // Previous layer nodes that feed nothing get a link into this layer
+            for (int source = 0; source < previousWidth; source++) {
+                if (!hasOutgoing[source]) {
+                    writeLink(json, numNodes, previousFrom + source, currentFrom + random.nextInt(currentWidth),
+                        minDataAmount + random.nextInt(dataRange / 2 + 1));
+                    linkCount++;
+                }
+            }
+
+            // Skip links from earlier layers; Start counts as layer 0
+            for (int skipDist = 2; skipDist <= maxSkipDistance && skipDist <= layer; skipDist++) {
+                double adjustedProb = skipConnectionProb / skipDist;
+                for (int source = layerOffsets[layer - skipDist]; source < layerOffsets[layer - skipDist + 1]; source++) {
+                    if (random.nextDouble() < adjustedProb) {
+                        writeLink(json, numNodes, source, currentFrom + random.nextInt(currentWidth),
+                            minDataAmount + random.nextInt(dataRange / 2 + 1));
+                        linkCount++;
+                    }
+                }
+            }
+
+            // Early links to End from layers not adjacent to End
+            if (layer < numLayers - 2) {
+                for (int node = currentFrom; node < currentFrom + currentWidth; node++) {
+                    if (random.nextDouble() < earlyEndProb) {
+                        writeLink(json, numNodes, node, endNodeIndex, minDataAmount + random.nextInt(dataRange / 3 + 1));
+                        linkCount++;
+                    }
+                }
+            }
+        }
+        return linkCount;
+    }
+
+    private static void writeLink(JsonGenerator json, int numNodes, int source, int target, int dataAmount)
+            throws IOException {
+        json.writeStartObject();
+        json.writeStringField("source", nodeId(source, numNodes));
+        json.writeStringField("target", nodeId(target, numNodes));
+        json.writeNumberField("data_amount", dataAmount);
+        json.writeEndObject();
+    }
+
+    private static String nodeId(int index, int numNodes) {
+        if (index == 0) {
+            return "Start";
+        }
+        if (index == numNodes - 1) {
+            return "End";
+        }
+        return WorkflowGenerator.getNodeId(index);
+    }
+
+    /**
+     * Gets the random seed being used by this generator
+     *
+     * @return The random seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -2,14 +2,12 @@
 package workflow_scheduling.generator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Random;
-import java.util.Set;
+import java.util.random.RandomGenerator;
 
 import workflow_scheduling.model.GraphInfo;
 import workflow_scheduling.model.LinkInfo;
@@ -22,7 +20,7 @@ import workflow_scheduling.model.WorkflowJson;
  */
 public class WorkflowGenerator {
     
-    private Random random;
+    private RandomGenerator random;
     private int seed;
     
     /**
@@ -43,6 +41,18 @@ public class WorkflowGenerator {
         this.random = new Random(seed);
     }
     
+    /**
+     * Creates a new workflow generator that draws from the given random source
+     * Used for bulk generation, where each workflow gets its own stream (see CorpusGenerator).
+     * getSeed() returns 0 for generators created this way.
+     * 
+     * @param random The random number source to use
+     */
+    public WorkflowGenerator(RandomGenerator random) {
+        this.seed = 0;
+        this.random = random;
+    }
+    
     /**
      * Generates a streamlined workflow as a directed acyclic graph (DAG)
      * 
@@ -98,15 +108,19 @@ public class WorkflowGenerator {
         int layerInfluence = connectivity > 0.5 ? -1 : (connectivity < 0.2 ? 1 : 0);
         Map<Integer, List<Integer>> layerMap = createVerticalStructure(numNodes, layerInfluence);
         
+        // Index the links as they are created so existence checks and traversals
+        // do not scan the whole link list
+        EdgeIndex edges = new EdgeIndex(numNodes);
+        
         // Create primary flow path with minimal branching
         // Connectivity affects the probability of secondary connections
-        createPrimaryFlowPaths(nodes, links, layerMap, connectivity, minDataAmount, maxDataAmount);
+        createPrimaryFlowPaths(nodes, links, edges, layerMap, connectivity, minDataAmount, maxDataAmount);
         
         // Add additional connections based on connectivity
-        addAdditionalConnections(nodes, links, layerMap, connectivity, minDataAmount, maxDataAmount);
+        addAdditionalConnections(nodes, links, edges, layerMap, connectivity, minDataAmount, maxDataAmount);
         
         // Ensure all nodes reach the end
-        ensureAllNodesReachEnd(nodes, links, minDataAmount, maxDataAmount);
+        ensureAllNodesReachEnd(nodes, links, edges, minDataAmount, maxDataAmount);
         
         // Return the workflow
         return new WorkflowJson(true, graphInfo, nodes, links.toArray(new LinkInfo[0]));
@@ -123,9 +137,8 @@ public class WorkflowGenerator {
         // Lower connectivity results in more layers (more height)
         int numLayers = Math.max(4, (int)Math.sqrt(numNodes) * 2 + layerInfluence);
         
-        // Start and End nodes are fixed
+        // Start node is fixed; End goes into the layer after the last one filled below
         layerMap.put(0, List.of(0)); // Start node
-        layerMap.put(numLayers - 1, List.of(numNodes - 1)); // End node
         
         // Distribute remaining nodes with a preference for sequential flow
         int remainingNodes = numNodes - 2;
@@ -165,6 +178,10 @@ public class WorkflowGenerator {
             }
         }
         
+        // Small workflows can run out of nodes before numLayers - 1; keep the layer
+        // numbers contiguous so that every layer below layerMap.size() exists
+        layerMap.put(layerMap.size(), List.of(numNodes - 1)); // End node
+        
         return layerMap;
     }
     
@@ -174,6 +191,7 @@ public class WorkflowGenerator {
     private void createPrimaryFlowPaths(
             NodeInfo[] nodes, 
             List<LinkInfo> links, 
+            EdgeIndex edges,
             Map<Integer, List<Integer>> layerMap,
             double connectivity,
             int minDataAmount, 
@@ -181,9 +199,14 @@ public class WorkflowGenerator {
         
         int numLayers = layerMap.size();
         
-        // Track which nodes have incoming connections
-        Set<Integer> nodesWithIncoming = new HashSet<>();
-        nodesWithIncoming.add(0); // Start node doesn't need incoming connections
+        // Layer of each node, -1 for nodes that did not fit into any layer
+        int[] nodeLayers = new int[nodes.length];
+        Arrays.fill(nodeLayers, -1);
+        for (int layer = 1; layer < numLayers; layer++) {
+            for (int nodeIdx : layerMap.get(layer)) {
+                nodeLayers[nodeIdx] = layer;
+            }
+        }
         
         // Calculate secondary connection probability based on connectivity
         double secondaryConnectionProb = 0.2 + connectivity * 0.5; // 0.2 to 0.7 based on connectivity
@@ -206,10 +229,7 @@ public class WorkflowGenerator {
                 
                 // Create primary connection
                 int dataAmount = minDataAmount + random.nextInt(maxDataAmount - minDataAmount + 1);
-                links.add(new LinkInfo(nodes[sourceNodeIdx].getId(), nodes[targetNodeIdx].getId(), dataAmount));
-                
-                // Mark this node as having an incoming connection
-                nodesWithIncoming.add(targetNodeIdx);
+                addLink(nodes, links, edges, sourceNodeIdx, targetNodeIdx, dataAmount);
                 
                 // Add second source based on connectivity level
                 if (previousLayerNodes.size() > 1 && random.nextDouble() < secondaryConnectionProb) {
@@ -223,7 +243,7 @@ public class WorkflowGenerator {
                     
                     // Create secondary connection with less data
                     int secondaryDataAmount = minDataAmount + random.nextInt((maxDataAmount - minDataAmount) / 2 + 1);
-                    links.add(new LinkInfo(nodes[secondSourceNodeIdx].getId(), nodes[targetNodeIdx].getId(), secondaryDataAmount));
+                    addLink(nodes, links, edges, secondSourceNodeIdx, targetNodeIdx, secondaryDataAmount);
                 }
             }
         }
@@ -231,24 +251,14 @@ public class WorkflowGenerator {
         // Ensure all nodes (except start) have at least one incoming connection
         // This fixes any issues with disconnected nodes in any layer
         for (int i = 1; i < nodes.length; i++) {
-            if (!nodesWithIncoming.contains(i)) {
+            int nodeLayer = nodeLayers[i];
+            if (edges.getInDegree(i) == 0 && nodeLayer > 0) {
                 // Find a suitable source node from the previous layer
-                int nodeLayer = -1;
-                for (int layer = 1; layer < numLayers; layer++) {
-                    if (layerMap.get(layer).contains(i)) {
-                        nodeLayer = layer;
-                        break;
-                    }
-                }
-                
-                if (nodeLayer > 0) {
-                    List<Integer> previousLayerNodes = layerMap.get(nodeLayer - 1);
-                    if (!previousLayerNodes.isEmpty()) {
-                        int sourceNodeIdx = previousLayerNodes.get(random.nextInt(previousLayerNodes.size()));
-                        int dataAmount = minDataAmount + random.nextInt(maxDataAmount - minDataAmount + 1);
-                        links.add(new LinkInfo(nodes[sourceNodeIdx].getId(), nodes[i].getId(), dataAmount));
-                        nodesWithIncoming.add(i);
-                    }
+                List<Integer> previousLayerNodes = layerMap.get(nodeLayer - 1);
+                if (!previousLayerNodes.isEmpty()) {
+                    int sourceNodeIdx = previousLayerNodes.get(random.nextInt(previousLayerNodes.size()));
+                    int dataAmount = minDataAmount + random.nextInt(maxDataAmount - minDataAmount + 1);
+                    addLink(nodes, links, edges, sourceNodeIdx, i, dataAmount);
                 }
             }
         }
@@ -260,6 +270,7 @@ public class WorkflowGenerator {
     private void addAdditionalConnections(
             NodeInfo[] nodes, 
             List<LinkInfo> links, 
+            EdgeIndex edges,
             Map<Integer, List<Integer>> layerMap,
             double connectivity,
             int minDataAmount, 
@@ -291,17 +302,10 @@ public class WorkflowGenerator {
                         if (!targetLayerNodes.isEmpty()) {
                             int targetNodeIdx = targetLayerNodes.get(random.nextInt(targetLayerNodes.size()));
                             
-                            // Don't connect to end node here
-                            if (targetNodeIdx != endNodeIndex) {
-                                // Check if connection already exists
-                                boolean exists = connectionExists(links, nodes[sourceNodeIdx].getId(), 
-                                                                nodes[targetNodeIdx].getId());
-                                
-                                if (!exists) {
-                                    int dataAmount = minDataAmount + random.nextInt((maxDataAmount - minDataAmount) / 2 + 1);
-                                    links.add(new LinkInfo(nodes[sourceNodeIdx].getId(), 
-                                                         nodes[targetNodeIdx].getId(), dataAmount));
-                                }
+                            // Don't connect to end node here, nor twice to the same target
+                            if (targetNodeIdx != endNodeIndex && !edges.contains(sourceNodeIdx, targetNodeIdx)) {
+                                int dataAmount = minDataAmount + random.nextInt((maxDataAmount - minDataAmount) / 2 + 1);
+                                addLink(nodes, links, edges, sourceNodeIdx, targetNodeIdx, dataAmount);
                             }
                         }
                     }
@@ -312,12 +316,9 @@ public class WorkflowGenerator {
         // Connect all penultimate layer nodes to end
         List<Integer> penultimateLayerNodes = layerMap.get(numLayers - 2);
         for (int nodeIdx : penultimateLayerNodes) {
-            // Ensure connection exists
-            boolean exists = connectionExists(links, nodes[nodeIdx].getId(), nodes[endNodeIndex].getId());
-            
-            if (!exists) {
+            if (!edges.contains(nodeIdx, endNodeIndex)) {
                 int dataAmount = minDataAmount + random.nextInt(maxDataAmount - minDataAmount + 1);
-                links.add(new LinkInfo(nodes[nodeIdx].getId(), nodes[endNodeIndex].getId(), dataAmount));
+                addLink(nodes, links, edges, nodeIdx, endNodeIndex, dataAmount);
             }
         }
         
@@ -325,29 +326,32 @@ public class WorkflowGenerator {
         int earlierConnections = Math.max(1, (int)(nodes.length / 10 * connectivity) + 1);
         if (earlierConnections > 0 && numLayers > 3) {
             // Consider nodes from layers not adjacent to start or end
-            List<Integer> candidates = new ArrayList<>();
+            int candidateCount = 0;
             for (int layer = 1; layer < numLayers - 2; layer++) {
-                candidates.addAll(layerMap.get(layer));
+                candidateCount += layerMap.get(layer).size();
+            }
+            int[] candidates = new int[candidateCount];
+            int next = 0;
+            for (int layer = 1; layer < numLayers - 2; layer++) {
+                for (int nodeIdx : layerMap.get(layer)) {
+                    candidates[next++] = nodeIdx;
+                }
             }
             
             // Shuffle and take the first few
-            for (int i = candidates.size() - 1; i > 0; i--) {
+            for (int i = candidates.length - 1; i > 0; i--) {
                 int j = random.nextInt(i + 1);
-                int temp = candidates.get(i);
-                candidates.set(i, candidates.get(j));
-                candidates.set(j, temp);
+                int temp = candidates[i];
+                candidates[i] = candidates[j];
+                candidates[j] = temp;
             }
             
             // Create direct connections for these selected nodes
-            for (int i = 0; i < Math.min(earlierConnections, candidates.size()); i++) {
-                int nodeIdx = candidates.get(i);
-                
-                // Check if connection already exists
-                boolean exists = connectionExists(links, nodes[nodeIdx].getId(), nodes[endNodeIndex].getId());
-                
-                if (!exists) {
+            for (int i = 0; i < Math.min(earlierConnections, candidates.length); i++) {
+                int nodeIdx = candidates[i];
+                if (!edges.contains(nodeIdx, endNodeIndex)) {
                     int dataAmount = minDataAmount + random.nextInt((maxDataAmount - minDataAmount) / 3 + 1);
-                    links.add(new LinkInfo(nodes[nodeIdx].getId(), nodes[endNodeIndex].getId(), dataAmount));
+                    addLink(nodes, links, edges, nodeIdx, endNodeIndex, dataAmount);
                 }
             }
         }
@@ -359,54 +363,62 @@ public class WorkflowGenerator {
     private void ensureAllNodesReachEnd(
             NodeInfo[] nodes, 
             List<LinkInfo> links, 
+            EdgeIndex edges,
             int minDataAmount, 
             int maxDataAmount) {
         
         int endNodeIndex = nodes.length - 1;
         
         // First, ensure all nodes have at least one incoming connection (except Start)
-        ensureAllNodesHaveIncomingConnections(nodes, links, minDataAmount, maxDataAmount);
+        ensureAllNodesHaveIncomingConnections(nodes, links, edges, minDataAmount, maxDataAmount);
         
         // Build a reverse reachability map from the end node
         boolean[] canReachEnd = new boolean[nodes.length];
         canReachEnd[endNodeIndex] = true;
         
-        // Use breadth-first search from the end node (backwards)
-        Queue<Integer> queue = new LinkedList<>();
-        queue.add(endNodeIndex);
+        // Breadth-first search from the end node (backwards) over the predecessor lists
+        int[] queue = new int[nodes.length];
+        int tail = 0;
+        queue[tail++] = endNodeIndex;
+        for (int head = 0; head < tail; head++) {
+            int targetIdx = queue[head];
+            for (int k = 0; k < edges.getInDegree(targetIdx); k++) {
+                int sourceIdx = edges.getPredecessor(targetIdx, k);
+                if (!canReachEnd[sourceIdx]) {
+                    canReachEnd[sourceIdx] = true;
+                    queue[tail++] = sourceIdx;
+                }
+            }
+        }
         
-        // Mapping from node ID to index
-        Map<String, Integer> idToIndex = new HashMap<>();
+        // New links must follow a topological order of the current graph, otherwise
+        // a link to an ancestor of the source would close a cycle
+        int[] ranks = edges.topologicalRanks();
+
+        // Nodes that reach the end, sorted by rank, as candidate targets
+        int[] targetsByRank = new int[nodes.length];
+        int targetCount = 0;
         for (int i = 0; i < nodes.length; i++) {
-            idToIndex.put(nodes[i].getId(), i);
+            if (canReachEnd[i] && i != endNodeIndex) {
+                targetsByRank[ranks[i]] = i + 1;
+            }
         }
-        
-        // BFS to mark all nodes that can reach the end
-        while (!queue.isEmpty()) {
-            int targetIdx = queue.poll();
-            
-            // Find all sources that connect to this target
-            for (LinkInfo link : links) {
-                if (link.getTarget().equals(nodes[targetIdx].getId())) {
-                    int sourceIdx = idToIndex.get(link.getSource());
-                    
-                    if (!canReachEnd[sourceIdx]) {
-                        canReachEnd[sourceIdx] = true;
-                        queue.add(sourceIdx);
-                    }
-                }
+        for (int rank = 0; rank < nodes.length; rank++) {
+            if (targetsByRank[rank] != 0) {
+                targetsByRank[targetCount++] = targetsByRank[rank] - 1;
             }
         }
-        
-        // Fix any nodes that cannot reach the end - prefer connecting to the next layer
+
+        // Fix any nodes that cannot reach the end
         for (int i = 0; i < nodes.length; i++) {
             if (!canReachEnd[i] && i != endNodeIndex) {
-                // Find a suitable target to connect to - prefer next layer
-                int targetIdx = findNearestForwardNodeThatReachesEnd(nodes, links, i, canReachEnd, idToIndex);
+                // Find a suitable target to connect to
+                int targetIdx = findNearestForwardNodeThatReachesEnd(
+                    edges, i, endNodeIndex, ranks, targetsByRank, targetCount);
                 
                 // Create a connection
                 int dataAmount = minDataAmount + random.nextInt((maxDataAmount - minDataAmount) / 2 + 1);
-                links.add(new LinkInfo(nodes[i].getId(), nodes[targetIdx].getId(), dataAmount));
+                addLink(nodes, links, edges, i, targetIdx, dataAmount);
             }
         }
     }
@@ -417,109 +429,113 @@ public class WorkflowGenerator {
     private void ensureAllNodesHaveIncomingConnections(
             NodeInfo[] nodes, 
             List<LinkInfo> links, 
+            EdgeIndex edges,
             int minDataAmount, 
             int maxDataAmount) {
         
-        // Mapping from node ID to index
-        Map<String, Integer> idToIndex = new HashMap<>();
-        for (int i = 0; i < nodes.length; i++) {
-            idToIndex.put(nodes[i].getId(), i);
-        }
-        
-        // Check each node for incoming connections
-        boolean[] hasIncoming = new boolean[nodes.length];
-        hasIncoming[0] = true; // Start node doesn't need incoming
-        
-        // Mark nodes with incoming connections
-        for (LinkInfo link : links) {
-            int targetIdx = idToIndex.get(link.getTarget());
-            hasIncoming[targetIdx] = true;
-        }
+        int fixedCount = 0;
         
         // Find nodes without incoming connections and create them
         for (int i = 1; i < nodes.length; i++) {
-            if (!hasIncoming[i]) {
-                // Need to create an incoming connection for this node
+            if (edges.getInDegree(i) == 0) {
+                // Pick a random source among the nodes before this one to avoid cycles
+                int sourceIdx = random.nextInt(i);
                 
-                // Find a suitable source node that isn't itself
-                List<Integer> potentialSources = new ArrayList<>();
-                for (int j = 0; j < i; j++) {
-                    // Only consider nodes that come before this one to avoid cycles
-                    potentialSources.add(j);
-                }
-                
-                if (!potentialSources.isEmpty()) {
-                    // Pick a random source from potential sources
-                    int sourceIdx = potentialSources.get(random.nextInt(potentialSources.size()));
-                    
-                    // Create a connection
-                    int dataAmount = minDataAmount + random.nextInt(maxDataAmount - minDataAmount + 1);
-                    links.add(new LinkInfo(nodes[sourceIdx].getId(), nodes[i].getId(), dataAmount));
-                    hasIncoming[i] = true;
-                    
-                    System.out.println("Fixed missing incoming connection for node: " + nodes[i].getId() +
-                                     " by connecting from: " + nodes[sourceIdx].getId());
-                }
+                // Create a connection
+                int dataAmount = minDataAmount + random.nextInt(maxDataAmount - minDataAmount + 1);
+                addLink(nodes, links, edges, sourceIdx, i, dataAmount);
+                fixedCount++;
             }
         }
+                
+        if (fixedCount > 0) {
+            System.out.println("Fixed missing incoming connections for " + fixedCount + " nodes");
+        }
     }
     
     /**
-     * Finds the nearest forward node that can reach the end
+     * Finds a forward node that can reach the end
+     *
+     * @param edges Index of the links created so far
+     * @param sourceIdx Node that needs a path to the end
+     * @param endNodeIndex Index of the end node
+     * @param ranks Topological rank of every node
+     * @param targetsByRank Nodes that reach the end, sorted by rank
+     * @param targetCount Number of entries in targetsByRank
+     * @return Index of the node to connect to
      */
     private int findNearestForwardNodeThatReachesEnd(
-            NodeInfo[] nodes, 
-            List<LinkInfo> links, 
+            EdgeIndex edges,
             int sourceIdx,
-            boolean[] canReachEnd,
-            Map<String, Integer> idToIndex) {
-        
-        int endNodeIndex = nodes.length - 1;
-        
-        // Get all existing outgoing connections
-        Set<Integer> existingTargets = new HashSet<>();
-        for (LinkInfo link : links) {
-            if (link.getSource().equals(nodes[sourceIdx].getId())) {
-                existingTargets.add(idToIndex.get(link.getTarget()));
-            }
-        }
+            int endNodeIndex,
+            int[] ranks,
+            int[] targetsByRank,
+            int targetCount) {
         
         // If very few connections, connect directly to end
-        if (existingTargets.isEmpty() || random.nextDouble() < 0.2) {
+        int outDegree = edges.getOutDegree(sourceIdx);
+        if (outDegree == 0 || random.nextDouble() < 0.2) {
             return endNodeIndex;
         }
         
-        // Try to find nodes in the next layer that can reach the end
-        // (Use both existing connections and the layer map to infer current layer)
-        // Since we don't have direct layer information of sourceIdx, infer from connections
-        
-        // Find nodes that are connected and can reach the end
-        List<Integer> reachableTargets = new ArrayList<>();
-        for (int i = 0; i < nodes.length; i++) {
-            if (canReachEnd[i] && i != sourceIdx && i != endNodeIndex &&
-                !connectionExists(links, nodes[sourceIdx].getId(), nodes[i].getId())) {
-                reachableTargets.add(i);
+        // Candidates are the nodes ranked after the source
+        int low = firstRankedFrom(ranks, targetsByRank, 0, targetCount, ranks[sourceIdx] + 1);
+        int candidateCount = targetCount - low;
+
+        // Positions of the candidates the source is already connected to, in ascending order
+        int[] connected = new int[outDegree];
+        int connectedCount = 0;
+        for (int k = 0; k < outDegree; k++) {
+            int successor = edges.getSuccessor(sourceIdx, k);
+            int position = firstRankedFrom(ranks, targetsByRank, low, targetCount, ranks[successor]);
+            if (position < targetCount && targetsByRank[position] == successor) {
+                connected[connectedCount++] = position;
             }
         }
-        
-        if (!reachableTargets.isEmpty()) {
-            return reachableTargets.get(random.nextInt(reachableTargets.size()));
+        Arrays.sort(connected, 0, connectedCount);
+
+        // Pick a random unconnected candidate with a single draw by skipping the connected ones
+        if (candidateCount > connectedCount) {
+            int position = low + random.nextInt(candidateCount - connectedCount);
+            for (int k = 0; k < connectedCount && connected[k] <= position; k++) {
+                position++;
+            }
+            return targetsByRank[position];
         }
         
         // Fall back to the end node
         return endNodeIndex;
     }
-    
+
     /**
-     * Checks if a connection already exists between two nodes
+     * Finds the first position in a rank-sorted range whose node has at least the given rank
      */
-    private boolean connectionExists(List<LinkInfo> links, String sourceId, String targetId) {
-        for (LinkInfo link : links) {
-            if (link.getSource().equals(sourceId) && link.getTarget().equals(targetId)) {
-                return true;
+    private static int firstRankedFrom(int[] ranks, int[] targetsByRank, int from, int to, int rank) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ranks[targetsByRank[middle]] < rank) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
-        return false;
+        return low;
+    }
+    
+    /**
+     * Adds a link between two nodes and records it in the index
+     */
+    private void addLink(
+            NodeInfo[] nodes,
+            List<LinkInfo> links,
+            EdgeIndex edges,
+            int sourceIdx,
+            int targetIdx,
+            int dataAmount) {
+        links.add(new LinkInfo(nodes[sourceIdx].getId(), nodes[targetIdx].getId(), dataAmount));
+        edges.add(sourceIdx, targetIdx);
     }
     
     /**
@@ -530,7 +546,7 @@ public class WorkflowGenerator {
      * @param index The index of the node
      * @return A node ID
      */
-    private String getNodeId(int index) {
+    static String getNodeId(int index) {
         if (index < 26) {
             // A-Z for first 26 nodes
             return String.valueOf((char)('A' + index));
@@ -0,0 +1,34 @@
+// File: workflow_scheduling/generator/WorkflowShape.java
+package workflow_scheduling.generator;
+
+import java.util.random.RandomGenerator;
+
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * A family of workflow topologies that can be generated at any size
+ *
+ * Implementations reproduce a characteristic structure (fan-out, fan-in, aggregation
+ * stages) and a task runtime and data size profile. Generation is driven entirely by
+ * the given random source, so a seeded source gives a reproducible workflow.
+ */
+public interface WorkflowShape {
+
+    /**
+     * Gets the name of the shape
+     *
+     * @return Short name, e.g. "montage"
+     */
+    String getName();
+
+    /**
+     * Generates a workflow of this shape
+     *
+     * @param name The name of the workflow
+     * @param numTasks Requested number of tasks; shapes made of fixed stages may round
+     *                 to the nearest size they can build
+     * @param random The random number source
+     * @return The generated workflow
+     */
+    WorkflowJson generate(String name, int numTasks, RandomGenerator random);
+}
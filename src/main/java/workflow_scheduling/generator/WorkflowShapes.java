@@ -0,0 +1,43 @@
+// File: workflow_scheduling/generator/WorkflowShapes.java
+package workflow_scheduling.generator;
+
+import java.util.List;
+
+/**
+ * The available workflow shapes
+ */
+public final class WorkflowShapes {
+
+    private WorkflowShapes() {
+    }
+
+    /**
+     * Gets one instance of every shape, the layered shape with its default parameters
+     *
+     * @return The shapes
+     */
+    public static List<WorkflowShape> all() {
+        return List.of(
+            new LayeredShape(),
+            new MontageShape(),
+            new CyberShakeShape(),
+            new EpigenomicsShape(),
+            new LigoShape());
+    }
+
+    /**
+     * Looks up a shape by name
+     *
+     * @param name Shape name as returned by WorkflowShape.getName(), case-insensitive
+     * @return The shape
+     * @throws IllegalArgumentException If no shape has that name
+     */
+    public static WorkflowShape forName(String name) {
+        for (WorkflowShape shape : all()) {
+            if (shape.getName().equalsIgnoreCase(name)) {
+                return shape;
+            }
+        }
+        throw new IllegalArgumentException("Unknown workflow shape: " + name);
+    }
+}
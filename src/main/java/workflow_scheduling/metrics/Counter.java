@@ -0,0 +1,36 @@
+// File: workflow_scheduling/metrics/Counter.java
+package workflow_scheduling.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing count, safe for concurrent updates
+ */
+public class Counter extends Metric {
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String[] labels) {
+        super(name, labels);
+    }
+
+    /**
+     * Increments the counter by one
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Adds to the counter
+     *
+     * @param amount The non-negative amount to add
+     */
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    // Getters
+    public long getCount() {
+        return value.sum();
+    }
+}
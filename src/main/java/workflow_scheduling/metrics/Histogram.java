@@ -0,0 +1,76 @@
+// File: workflow_scheduling/metrics/Histogram.java
+package workflow_scheduling.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of non-negative long values in power-of-two buckets
+ * Bucket b counts the values v with 2^(b-1) <= v < 2^b (bucket 0 holds zero), so recording
+ * is a few atomic additions regardless of the value range, and the relative error of a
+ * bucket bound is at most a factor of two.
+ */
+public class Histogram extends Metric {
+    static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    Histogram(String name, String[] labels) {
+        super(name, labels);
+    }
+
+    /**
+     * Records a value; negative values count as zero
+     *
+     * @param value The value to record
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(v));
+        count.increment();
+        sum.add(v);
+        max.accumulateAndGet(v, Math::max);
+    }
+
+    /**
+     * Gets the exclusive upper bound of a bucket
+     *
+     * @param bucket The bucket index
+     * @return 2^bucket, the smallest value not counted in the bucket
+     */
+    static double upperBound(int bucket) {
+        return Math.scalb(1.0, bucket);
+    }
+
+    /**
+     * Gets the number of values recorded in a bucket
+     *
+     * @param bucket The bucket index, 0 to 63
+     * @return The bucket count
+     */
+    public long getBucketCount(int bucket) {
+        return buckets.get(bucket);
+    }
+
+    // Getters
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) getSum() / n;
+    }
+}
@@ -0,0 +1,54 @@
+// File: workflow_scheduling/metrics/Metric.java
+package workflow_scheduling.metrics;
+
+/**
+ * Base of the metrics held by a MetricsRegistry: a name and label pairs
+ */
+public abstract class Metric {
+    private final String name;
+    private final String[] labels;
+
+    /**
+     * Creates a metric
+     *
+     * @param name The metric name, in Prometheus style (lowercase with underscores)
+     * @param labels Alternating label names and values
+     */
+    Metric(String name, String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name and value pairs");
+        }
+        this.name = name;
+        this.labels = labels.clone();
+    }
+
+    /**
+     * Builds the registry key of a metric from its name and labels
+     */
+    static String key(String name, String[] labels) {
+        if (labels.length == 0) {
+            return name;
+        }
+        StringBuilder key = new StringBuilder(name).append('{');
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(labels[i]).append("=\"").append(labels[i + 1]).append('"');
+        }
+        return key.append('}').toString();
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public String[] getLabels() {
+        return labels.clone();
+    }
+
+    String[] labels() {
+        return labels;
+    }
+}
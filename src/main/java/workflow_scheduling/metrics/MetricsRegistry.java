@@ -0,0 +1,300 @@
+// File: workflow_scheduling/metrics/MetricsRegistry.java
+package workflow_scheduling.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * In-process registry of counters, timers and histograms
+ *
+ * Metrics are identified by a name and label pairs and created on first use. The global
+ * registry collects the pipeline stage metrics of StageTimer; it is disabled unless the
+ * system property workflow.metrics is true or setEnabled(true) is called, and a disabled
+ * registry costs StageTimer one volatile read. The registry can be exported as JSON or in
+ * the Prometheus text exposition format.
+ */
+public class MetricsRegistry {
+    /** Timer of every stage run, labeled with the stage */
+    public static final String STAGE_DURATION = "workflow_stage_duration_seconds";
+    /** Histogram of the node count per stage run */
+    public static final String STAGE_NODES = "workflow_stage_nodes";
+    /** Histogram of the edge count per stage run */
+    public static final String STAGE_EDGES = "workflow_stage_edges";
+    /** Counter of the nodes processed by every stage */
+    public static final String STAGE_NODES_TOTAL = "workflow_stage_nodes_processed_total";
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry(Boolean.getBoolean("workflow.metrics"));
+
+    private final ConcurrentMap<String, Metric> metrics = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    // Stage metrics by stage ordinal, created on first use
+    private final StageMetrics[] stages = new StageMetrics[PipelineStage.values().length];
+
+    /**
+     * Creates a registry
+     *
+     * @param enabled Whether StageTimer records into this registry
+     */
+    public MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the registry the pipeline stages record into
+     *
+     * @return The global registry
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Gets or creates a counter
+     *
+     * @param name The metric name
+     * @param labels Alternating label names and values
+     * @return The counter
+     * @throws IllegalArgumentException If the name is registered as another metric type
+     */
+    public Counter counter(String name, String... labels) {
+        return get(name, labels, Counter.class);
+    }
+
+    /**
+     * Gets or creates a timer
+     *
+     * @param name The metric name, conventionally ending in _seconds
+     * @param labels Alternating label names and values
+     * @return The timer
+     * @throws IllegalArgumentException If the name is registered as another metric type
+     */
+    public Timer timer(String name, String... labels) {
+        return get(name, labels, Timer.class);
+    }
+
+    /**
+     * Gets or creates a histogram
+     *
+     * @param name The metric name
+     * @param labels Alternating label names and values
+     * @return The histogram
+     * @throws IllegalArgumentException If the name is registered as another metric type
+     */
+    public Histogram histogram(String name, String... labels) {
+        return get(name, labels, Histogram.class);
+    }
+
+    private <T extends Metric> T get(String name, String[] labels, Class<T> type) {
+        Metric metric = metrics.computeIfAbsent(Metric.key(name, labels), key -> {
+            if (type == Counter.class) {
+                return new Counter(name, labels);
+            } else if (type == Timer.class) {
+                return new Timer(name, labels);
+            }
+            return new Histogram(name, labels);
+        });
+        if (metric.getClass() != type) {
+            throw new IllegalArgumentException("Metric " + name + " is a " + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * Records one run of a pipeline stage
+     *
+     * @param stage The stage
+     * @param nanos The duration in nanoseconds
+     * @param nodes Number of nodes the stage processed
+     * @param edges Number of edges the stage processed
+     */
+    public void recordStage(PipelineStage stage, long nanos, int nodes, int edges) {
+        StageMetrics metrics = stages[stage.ordinal()];
+        if (metrics == null) {
+            metrics = new StageMetrics(this, stage);
+            stages[stage.ordinal()] = metrics; // Racing creators get the same registered metrics
+        }
+        metrics.duration.recordNanos(nanos);
+        metrics.nodes.record(nodes);
+        metrics.edges.record(edges);
+        metrics.nodesTotal.add(nodes);
+    }
+
+    /**
+     * Removes all metrics
+     */
+    public void clear() {
+        metrics.clear();
+        Arrays.fill(stages, null);
+    }
+
+    /**
+     * Gets all metrics, sorted by name and labels
+     *
+     * @return Snapshot of the registered metrics
+     */
+    public List<Metric> getMetrics() {
+        List<Metric> sorted = new ArrayList<>(metrics.values());
+        sorted.sort(Comparator.comparing((Metric metric) -> Metric.key(metric.getName(), metric.labels())));
+        return sorted;
+    }
+
+    /**
+     * Exports the registry as JSON
+     * Counters have a count; timers and histograms have count, sum, max, mean and the
+     * non-empty buckets with their exclusive upper bound. Timer values are in seconds.
+     *
+     * @return The JSON document
+     */
+    public String toJson() {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        ArrayNode counters = root.putArray("counters");
+        ArrayNode timers = root.putArray("timers");
+        ArrayNode histograms = root.putArray("histograms");
+        for (Metric metric : getMetrics()) {
+            ArrayNode target = metric instanceof Counter ? counters : metric instanceof Timer ? timers : histograms;
+            ObjectNode node = target.addObject();
+            node.put("name", metric.getName());
+            ObjectNode labels = node.putObject("labels");
+            String[] pairs = metric.labels();
+            for (int i = 0; i < pairs.length; i += 2) {
+                labels.put(pairs[i], pairs[i + 1]);
+            }
+            if (metric instanceof Counter counter) {
+                node.put("count", counter.getCount());
+                continue;
+            }
+            Histogram histogram = (Histogram) metric;
+            double divisor = metric instanceof Timer ? 1e9 : 1;
+            node.put("count", histogram.getCount());
+            node.put("sum", histogram.getSum() / divisor);
+            node.put("max", histogram.getMax() / divisor);
+            node.put("mean", histogram.getMean() / divisor);
+            ArrayNode buckets = node.putArray("buckets");
+            for (int b = 0; b < Histogram.BUCKETS; b++) {
+                long count = histogram.getBucketCount(b);
+                if (count > 0) {
+                    buckets.addObject().put("lessThan", Histogram.upperBound(b) / divisor).put("count", count);
+                }
+            }
+        }
+        return root.toPrettyString();
+    }
+
+    /**
+     * Exports the registry in the Prometheus text exposition format
+     * Timers and histograms become Prometheus histograms with cumulative buckets from the
+     * smallest to the largest non-empty one.
+     *
+     * @return The exposition text
+     */
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        String lastName = null;
+        for (Metric metric : getMetrics()) {
+            String name = metric.getName();
+            if (!name.equals(lastName)) {
+                out.append("# TYPE ").append(name).append(metric instanceof Counter ? " counter\n" : " histogram\n");
+                lastName = name;
+            }
+            if (metric instanceof Counter counter) {
+                out.append(Metric.key(name, metric.labels())).append(' ').append(counter.getCount()).append('\n');
+                continue;
+            }
+            Histogram histogram = (Histogram) metric;
+            double divisor = metric instanceof Timer ? 1e9 : 1;
+            int lowest = Histogram.BUCKETS;
+            int highest = -1;
+            for (int b = 0; b < Histogram.BUCKETS; b++) {
+                if (histogram.getBucketCount(b) > 0) {
+                    lowest = Math.min(lowest, b);
+                    highest = b;
+                }
+            }
+            // Values are integers, so bucket b holds values up to 2^b - 1 inclusive
+            long cumulative = 0;
+            for (int b = lowest; b <= highest; b++) {
+                cumulative += histogram.getBucketCount(b);
+                out.append(bucketKey(name, metric.labels(), formatDouble((Histogram.upperBound(b) - 1) / divisor)))
+                    .append(' ').append(cumulative).append('\n');
+            }
+            out.append(bucketKey(name, metric.labels(), "+Inf")).append(' ').append(histogram.getCount()).append('\n');
+            out.append(Metric.key(name + "_sum", metric.labels())).append(' ')
+                .append(formatDouble(histogram.getSum() / divisor)).append('\n');
+            out.append(Metric.key(name + "_count", metric.labels())).append(' ').append(histogram.getCount()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String bucketKey(String name, String[] labels, String bound) {
+        String[] withBound = Arrays.copyOf(labels, labels.length + 2);
+        withBound[labels.length] = "le";
+        withBound[labels.length + 1] = bound;
+        return Metric.key(name + "_bucket", withBound);
+    }
+
+    private static String formatDouble(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * Writes the registry to a file, as JSON if the name ends in .json and in the
+     * Prometheus text format otherwise
+     *
+     * @param file The file to write
+     * @throws IOException If the file cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        String content = file.getFileName().toString().toLowerCase().endsWith(".json") ? toJson() : toPrometheus();
+        try (Writer out = Files.newBufferedWriter(file)) {
+            out.write(content);
+        }
+    }
+
+    /**
+     * Enables or disables recording of pipeline stages into this registry
+     *
+     * @param enabled true to record
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // Getters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The registered metrics of one stage, looked up once instead of per run
+     */
+    private static final class StageMetrics {
+        final Timer duration;
+        final Histogram nodes;
+        final Histogram edges;
+        final Counter nodesTotal;
+
+        StageMetrics(MetricsRegistry registry, PipelineStage stage) {
+            String label = stage.getLabel();
+            this.duration = registry.timer(STAGE_DURATION, "stage", label);
+            this.nodes = registry.histogram(STAGE_NODES, "stage", label);
+            this.edges = registry.histogram(STAGE_EDGES, "stage", label);
+            this.nodesTotal = registry.counter(STAGE_NODES_TOTAL, "stage", label);
+        }
+    }
+}
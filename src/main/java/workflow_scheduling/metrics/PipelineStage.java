@@ -0,0 +1,33 @@
+// File: workflow_scheduling/metrics/PipelineStage.java
+package workflow_scheduling.metrics;
+
+/**
+ * Stages of the load, analyze and export pipeline that are timed by StageTimer
+ */
+public enum PipelineStage {
+    /** Reading a workflow file; the streaming loader also builds the graph in this stage */
+    PARSE("parse"),
+    /** Building a WorkflowGraph or CompactGraph */
+    GRAPH_BUILD("graph-build"),
+    /** Topological sort of a CompactGraph */
+    TOPOLOGICAL_SORT("topological-sort"),
+    /** CPM forward pass (earliest times) */
+    FORWARD_PASS("forward-pass"),
+    /** CPM backward pass (latest times) */
+    BACKWARD_PASS("backward-pass"),
+    /** Slack computation and marking of critical nodes and edges */
+    CRITICAL_MARKING("critical-marking"),
+    /** Writing a workflow out, e.g. as Argo YAML */
+    EXPORT("export");
+
+    private final String label;
+
+    PipelineStage(String label) {
+        this.label = label;
+    }
+
+    // Getters
+    public String getLabel() {
+        return label;
+    }
+}
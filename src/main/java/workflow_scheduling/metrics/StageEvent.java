@@ -0,0 +1,33 @@
+// File: workflow_scheduling/metrics/StageEvent.java
+package workflow_scheduling.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for one run of a pipeline stage
+ * Recorded by StageTimer; enable it in a recording with
+ * -XX:StartFlightRecording or jcmd JFR.start, and filter on workflow_scheduling.Stage.
+ */
+@Name("workflow_scheduling.Stage")
+@Label("Workflow Pipeline Stage")
+@Category({"Workflow Scheduling"})
+@Description("Duration and graph size of one pipeline stage")
+@StackTrace(false)
+public class StageEvent extends Event {
+    @Label("Stage")
+    String stage;
+
+    @Label("Workflow")
+    String workflow;
+
+    @Label("Nodes")
+    int nodes;
+
+    @Label("Edges")
+    int edges;
+}
@@ -0,0 +1,74 @@
+// File: workflow_scheduling/metrics/StageTimer.java
+package workflow_scheduling.metrics;
+
+import jdk.jfr.EventType;
+
+/**
+ * Times one run of a pipeline stage into the global MetricsRegistry and a JFR StageEvent
+ *
+ * Usage:
+ *   StageTimer timer = StageTimer.start(PipelineStage.FORWARD_PASS);
+ *   ... run the stage ...
+ *   timer.stop(graph.getName(), nodeCount, edgeCount);
+ *
+ * If neither the registry nor the JFR event is enabled, start returns a shared no-op timer
+ * without creating an event, so an instrumented stage costs a volatile read and an enabled
+ * check of the event type.
+ */
+public final class StageTimer {
+    private static final StageTimer DISABLED = new StageTimer(null, null, false, 0);
+    private static final EventType EVENT_TYPE = EventType.getEventType(StageEvent.class);
+
+    private final PipelineStage stage;
+    private final StageEvent event;
+    private final boolean record;
+    private final long startNanos;
+
+    private StageTimer(PipelineStage stage, StageEvent event, boolean record, long startNanos) {
+        this.stage = stage;
+        this.event = event;
+        this.record = record;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Starts timing a stage
+     *
+     * @param stage The stage
+     * @return The running timer
+     */
+    public static StageTimer start(PipelineStage stage) {
+        boolean record = MetricsRegistry.global().isEnabled();
+        if (!record && !EVENT_TYPE.isEnabled()) {
+            return DISABLED;
+        }
+        StageEvent event = new StageEvent();
+        event.begin();
+        return new StageTimer(stage, event, record, record ? System.nanoTime() : 0);
+    }
+
+    /**
+     * Stops timing and records the stage run
+     * A timer that is not stopped, for example because the stage failed, records nothing.
+     *
+     * @param workflow Name of the processed workflow
+     * @param nodes Number of nodes the stage processed
+     * @param edges Number of edges the stage processed
+     */
+    public void stop(String workflow, int nodes, int edges) {
+        if (stage == null) {
+            return;
+        }
+        if (record) {
+            MetricsRegistry.global().recordStage(stage, System.nanoTime() - startNanos, nodes, edges);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.stage = stage.getLabel();
+            event.workflow = workflow;
+            event.nodes = nodes;
+            event.edges = edges;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+// File: workflow_scheduling/metrics/Timer.java
+package workflow_scheduling.metrics;
+
+/**
+ * Histogram of durations in nanoseconds, exported in seconds
+ */
+public class Timer extends Histogram {
+
+    Timer(String name, String[] labels) {
+        super(name, labels);
+    }
+
+    /**
+     * Records a duration
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        record(nanos);
+    }
+
+    /**
+     * Gets the total recorded time
+     *
+     * @return The sum of all durations in seconds
+     */
+    public double getTotalSeconds() {
+        return getSum() / 1e9;
+    }
+}
@@ -0,0 +1,355 @@
+// File: workflow_scheduling/model/CompactGraph.java
+package workflow_scheduling.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import workflow_scheduling.metrics.PipelineStage;
+import workflow_scheduling.metrics.StageTimer;
+
+/**
+ * Frozen, int-indexed view of a workflow graph in compressed sparse row (CSR) form
+ *
+ * Nodes are identified by their ordinal (0..nodeCount-1) and edges by their position
+ * in the outgoing-edge arrays (0..edgeCount-1). Outgoing edges of node i occupy
+ * positions outOffsets[i]..outOffsets[i+1]-1, in the same order as
+ * WorkflowGraph.getOutgoingEdges(id). Incoming edges are stored in a second CSR block
+ * that refers back to the outgoing edge ids, so per-edge data is stored only once.
+ *
+ * The arrays returned by the getters are shared with this instance and must not be modified.
+ */
+public class CompactGraph {
+    private final String name;
+    private final String[] nodeIds;
+    private volatile Map<String, Integer> nodeIndex;
+    private final int[] executionTimes;
+
+    // Outgoing edges, indexed by edge id
+    private final int[] outOffsets;
+    private final int[] edgeSources;
+    private final int[] edgeTargets;
+    private final int[] edgeDataAmounts;
+    private final double[] edgeTransferTimes;
+
+    // Incoming edges, grouped by target node
+    private final int[] inOffsets;
+    private final int[] inEdges;
+
+    private volatile int[] topologicalOrder;
+    private volatile int[] topologicalRanks;
+    private volatile int[] sourceNodes;
+    private volatile int[] sinkNodes;
+    private volatile GraphLevels levels;
+
+    /**
+     * Builds a compact view of the given workflow graph
+     *
+     * @param graph The workflow graph to convert
+     */
+    public CompactGraph(WorkflowGraph graph) {
+        StageTimer timer = StageTimer.start(PipelineStage.GRAPH_BUILD);
+        Map<String, Node> nodes = graph.getNodes();
+        int nodeCount = nodes.size();
+        int edgeCount = graph.getEdges().size();
+
+        this.name = graph.getName();
+        this.nodeIds = new String[nodeCount];
+        Map<String, Integer> ids = new HashMap<>(nodeCount * 2);
+        this.executionTimes = new int[nodeCount];
+
+        int index = 0;
+        for (Node node : nodes.values()) {
+            nodeIds[index] = node.getId();
+            ids.put(node.getId(), index);
+            executionTimes[index] = node.getExecutionTime();
+            index++;
+        }
+
+        this.outOffsets = new int[nodeCount + 1];
+        this.edgeSources = new int[edgeCount];
+        this.edgeTargets = new int[edgeCount];
+        this.edgeDataAmounts = new int[edgeCount];
+        this.edgeTransferTimes = new double[edgeCount];
+
+        // Fill outgoing edges in adjacency-list order
+        int edgeId = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            outOffsets[i] = edgeId;
+            for (Edge edge : graph.getOutgoingEdges(nodeIds[i])) {
+                edgeSources[edgeId] = i;
+                edgeTargets[edgeId] = ids.get(edge.getTarget());
+                edgeDataAmounts[edgeId] = edge.getDataAmount();
+                edgeTransferTimes[edgeId] = edge.getTransferTime();
+                edgeId++;
+            }
+        }
+        outOffsets[nodeCount] = edgeId;
+        this.nodeIndex = ids;
+
+        this.inOffsets = new int[nodeCount + 1];
+        this.inEdges = new int[edgeId];
+        buildIncomingIndex(edgeId);
+        timer.stop(name, nodeCount, edgeId);
+    }
+
+    /**
+     * Builds a compact graph from arrays that are already in CSR form
+     * Used by loaders that read the layout from disk. The arrays are taken over, not copied,
+     * and the ID lookup behind indexOf is only built on first use.
+     *
+     * @param name The name of the workflow
+     * @param nodeIds Node IDs by ordinal
+     * @param executionTimes Execution times by node ordinal
+     * @param outOffsets Start of the outgoing edges of every node, followed by the edge count
+     * @param edgeTargets Target ordinal of every edge
+     * @param edgeDataAmounts Data amount of every edge
+     * @param transferRate The transfer rate for calculating transfer times
+     */
+    public CompactGraph(String name, String[] nodeIds, int[] executionTimes, int[] outOffsets,
+                        int[] edgeTargets, int[] edgeDataAmounts, double transferRate) {
+        int nodeCount = nodeIds.length;
+        int edgeCount = edgeTargets.length;
+
+        this.name = name;
+        this.nodeIds = nodeIds;
+        this.executionTimes = executionTimes;
+
+        this.outOffsets = outOffsets;
+        this.edgeTargets = edgeTargets;
+        this.edgeDataAmounts = edgeDataAmounts;
+        this.edgeSources = new int[edgeCount];
+        this.edgeTransferTimes = new double[edgeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            for (int e = outOffsets[i]; e < outOffsets[i + 1]; e++) {
+                edgeSources[e] = i;
+            }
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            // Same as Edge.getTransferTime()
+            edgeTransferTimes[e] = transferRate <= 0 ? 0 : edgeDataAmounts[e] / transferRate;
+        }
+
+        this.inOffsets = new int[nodeCount + 1];
+        this.inEdges = new int[edgeCount];
+        buildIncomingIndex(edgeCount);
+    }
+
+    /**
+     * Builds the incoming-edge CSR block with a counting sort over edge targets
+     */
+    private void buildIncomingIndex(int edgeCount) {
+        int nodeCount = nodeIds.length;
+        for (int e = 0; e < edgeCount; e++) {
+            inOffsets[edgeTargets[e] + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            inOffsets[i + 1] += inOffsets[i];
+        }
+
+        int[] cursor = new int[nodeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            int target = edgeTargets[e];
+            inEdges[inOffsets[target] + cursor[target]++] = e;
+        }
+    }
+
+    /**
+     * Gets the nodes in topological order, computed once and cached
+     *
+     * @return Node ordinals in topological order
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public int[] getTopologicalOrder() {
+        int[] order = topologicalOrder;
+        if (order == null) {
+            order = TopologicalSort.sort(this);
+            topologicalOrder = order;
+        }
+        return order;
+    }
+
+    /**
+     * Gets the position of every node in the topological order
+     *
+     * @return Array mapping node ordinal to its index in getTopologicalOrder()
+     */
+    public int[] getTopologicalRanks() {
+        int[] ranks = topologicalRanks;
+        if (ranks == null) {
+            int[] order = getTopologicalOrder();
+            ranks = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                ranks[order[i]] = i;
+            }
+            topologicalRanks = ranks;
+        }
+        return ranks;
+    }
+
+    /**
+     * Gets the depth levels of the graph, computed once and cached
+     *
+     * @return The level structure
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public GraphLevels getLevels() {
+        GraphLevels result = levels;
+        if (result == null) {
+            result = new GraphLevels(this);
+            levels = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the nodes without incoming edges
+     *
+     * @return Ordinals of the source nodes
+     */
+    public int[] getSourceNodes() {
+        int[] sources = sourceNodes;
+        if (sources == null) {
+            int count = 0;
+            for (int i = 0; i < nodeIds.length; i++) {
+                if (inOffsets[i] == inOffsets[i + 1]) {
+                    count++;
+                }
+            }
+            sources = new int[count];
+            count = 0;
+            for (int i = 0; i < nodeIds.length; i++) {
+                if (inOffsets[i] == inOffsets[i + 1]) {
+                    sources[count++] = i;
+                }
+            }
+            sourceNodes = sources;
+        }
+        return sources;
+    }
+
+    /**
+     * Gets the nodes without outgoing edges
+     *
+     * @return Ordinals of the sink nodes
+     */
+    public int[] getSinkNodes() {
+        int[] sinks = sinkNodes;
+        if (sinks == null) {
+            int count = 0;
+            for (int i = 0; i < nodeIds.length; i++) {
+                if (outOffsets[i] == outOffsets[i + 1]) {
+                    count++;
+                }
+            }
+            sinks = new int[count];
+            count = 0;
+            for (int i = 0; i < nodeIds.length; i++) {
+                if (outOffsets[i] == outOffsets[i + 1]) {
+                    sinks[count++] = i;
+                }
+            }
+            sinkNodes = sinks;
+        }
+        return sinks;
+    }
+
+    /**
+     * Gets the ordinal of a node
+     *
+     * @param nodeId The ID of the node
+     * @return The node ordinal, or -1 if the node is not part of the graph
+     */
+    public int indexOf(String nodeId) {
+        Map<String, Integer> ids = nodeIndex;
+        if (ids == null) {
+            ids = new HashMap<>(nodeIds.length * 2);
+            for (int i = 0; i < nodeIds.length; i++) {
+                ids.put(nodeIds[i], i);
+            }
+            nodeIndex = ids;
+        }
+        Integer index = ids.get(nodeId);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the edge id of an edge of the source workflow graph
+     *
+     * @param edge An edge of the workflow graph this view was built from
+     * @param graph The workflow graph this view was built from
+     * @return The edge id, or -1 if the edge is not part of the graph
+     */
+    public int edgeIndexOf(Edge edge, WorkflowGraph graph) {
+        int source = indexOf(edge.getSource());
+        if (source < 0) {
+            return -1;
+        }
+        List<Edge> outgoing = graph.getOutgoingEdges(edge.getSource());
+        for (int i = 0; i < outgoing.size(); i++) {
+            if (outgoing.get(i) == edge) {
+                return outOffsets[source] + i;
+            }
+        }
+        return -1;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public int getNodeCount() {
+        return nodeIds.length;
+    }
+
+    public int getEdgeCount() {
+        return edgeTargets.length;
+    }
+
+    public String getNodeId(int node) {
+        return nodeIds[node];
+    }
+
+    public int getExecutionTime(int node) {
+        return executionTimes[node];
+    }
+
+    public int[] getExecutionTimes() {
+        return executionTimes;
+    }
+
+    public int[] getOutOffsets() {
+        return outOffsets;
+    }
+
+    public int[] getEdgeSources() {
+        return edgeSources;
+    }
+
+    public int[] getEdgeTargets() {
+        return edgeTargets;
+    }
+
+    public int[] getEdgeDataAmounts() {
+        return edgeDataAmounts;
+    }
+
+    public double[] getEdgeTransferTimes() {
+        return edgeTransferTimes;
+    }
+
+    public int[] getInOffsets() {
+        return inOffsets;
+    }
+
+    public int[] getInEdges() {
+        return inEdges;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CompactGraph{name='%s', nodes=%d, edges=%d}",
+            name, nodeIds.length, edgeTargets.length);
+    }
+}
@@ -0,0 +1,39 @@
+// File: workflow_scheduling/model/CyclicGraphException.java
+package workflow_scheduling.model;
+
+import java.util.List;
+
+/**
+ * Thrown when a workflow graph that must be acyclic contains a cycle
+ * Carries one of the offending cycles so the broken dependencies can be located
+ */
+public class CyclicGraphException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> cycle;
+    private final int unsortedNodeCount;
+
+    /**
+     * Creates the exception
+     * 
+     * @param graphName Name of the cyclic graph
+     * @param cycle IDs of the nodes of one cycle, in edge direction
+     * @param unsortedNodeCount Number of nodes that are on or behind a cycle
+     */
+    public CyclicGraphException(String graphName, List<String> cycle, int unsortedNodeCount) {
+        super("Workflow graph '" + graphName + "' contains a cycle: "
+            + String.join(" -> ", cycle) + " -> " + cycle.get(0)
+            + " (" + unsortedNodeCount + " nodes cannot be ordered)");
+        this.cycle = List.copyOf(cycle);
+        this.unsortedNodeCount = unsortedNodeCount;
+    }
+
+    // Getters
+    public List<String> getCycle() {
+        return cycle;
+    }
+
+    public int getUnsortedNodeCount() {
+        return unsortedNodeCount;
+    }
+}
@@ -0,0 +1,236 @@
+// File: workflow_scheduling/model/DurationDistribution.java
+package workflow_scheduling.model;
+
+import java.util.random.RandomGenerator;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Probability distribution of a task duration or data amount
+ * Used by the stochastic CPM analysis; negative samples are clamped to zero.
+ *
+ * JSON examples:
+ *   {"type": "uniform", "min": 10, "max": 20}
+ *   {"type": "normal", "mean": 15, "stddev": 3}
+ *   {"type": "lognormal", "mean": 15, "stddev": 3}
+ *   {"type": "triangular", "min": 10, "mode": 12, "max": 20}
+ *   {"type": "exponential", "mean": 15}
+ */
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public class DurationDistribution {
+
+    /**
+     * Supported distribution families
+     */
+    public enum Type {
+        @JsonProperty("fixed") FIXED,
+        @JsonProperty("uniform") UNIFORM,
+        @JsonProperty("normal") NORMAL,
+        @JsonProperty("lognormal") LOGNORMAL,
+        @JsonProperty("triangular") TRIANGULAR,
+        @JsonProperty("exponential") EXPONENTIAL
+    }
+
+    @JsonProperty("type")
+    private Type type;
+
+    @JsonProperty("min")
+    private double min;
+
+    @JsonProperty("max")
+    private double max;
+
+    @JsonProperty("mode")
+    private double mode;
+
+    @JsonProperty("mean")
+    private double mean;
+
+    @JsonProperty("stddev")
+    private double stddev;
+
+    // Parameters of the underlying normal distribution, derived for lognormal
+    @JsonIgnore
+    private double logMean;
+    @JsonIgnore
+    private double logStddev;
+
+    // Default constructor needed by Jackson
+    public DurationDistribution() {
+    }
+
+    /**
+     * Creates a uniform distribution
+     *
+     * @param min Lower bound
+     * @param max Upper bound
+     * @return The distribution
+     */
+    public static DurationDistribution uniform(double min, double max) {
+        DurationDistribution distribution = new DurationDistribution();
+        distribution.type = Type.UNIFORM;
+        distribution.min = min;
+        distribution.max = max;
+        return distribution;
+    }
+
+    /**
+     * Creates a normal distribution
+     *
+     * @param mean Mean value
+     * @param stddev Standard deviation
+     * @return The distribution
+     */
+    public static DurationDistribution normal(double mean, double stddev) {
+        DurationDistribution distribution = new DurationDistribution();
+        distribution.type = Type.NORMAL;
+        distribution.mean = mean;
+        distribution.stddev = stddev;
+        return distribution;
+    }
+
+    /**
+     * Checks the parameters and prepares derived values
+     * Must be called once before sample() on instances created by Jackson or setters
+     *
+     * @throws IllegalArgumentException If the parameters do not describe a valid distribution
+     */
+    public void validate() {
+        if (type == null) {
+            throw new IllegalArgumentException("Distribution type is missing");
+        }
+        switch (type) {
+            case FIXED:
+                break;
+            case UNIFORM:
+                require(min <= max, "uniform requires min <= max");
+                break;
+            case NORMAL:
+                require(stddev >= 0, "normal requires stddev >= 0");
+                break;
+            case LOGNORMAL:
+                require(mean > 0 && stddev >= 0, "lognormal requires mean > 0 and stddev >= 0");
+                // Convert the mean and stddev of the samples to those of the underlying normal
+                double variance = Math.log(1 + (stddev * stddev) / (mean * mean));
+                logStddev = Math.sqrt(variance);
+                logMean = Math.log(mean) - variance / 2;
+                break;
+            case TRIANGULAR:
+                require(min <= mode && mode <= max, "triangular requires min <= mode <= max");
+                break;
+            case EXPONENTIAL:
+                require(mean > 0, "exponential requires mean > 0");
+                break;
+        }
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException("Invalid duration distribution: " + message);
+        }
+    }
+
+    /**
+     * Draws one sample
+     *
+     * @param random The random number source
+     * @param fixedValue The value used by the fixed type
+     * @return A non-negative sample
+     */
+    public double sample(RandomGenerator random, double fixedValue) {
+        double value;
+        switch (type) {
+            case UNIFORM:
+                value = min + (max - min) * random.nextDouble();
+                break;
+            case NORMAL:
+                value = mean + stddev * random.nextGaussian();
+                break;
+            case LOGNORMAL:
+                value = Math.exp(logMean + logStddev * random.nextGaussian());
+                break;
+            case TRIANGULAR:
+                value = sampleTriangular(random.nextDouble());
+                break;
+            case EXPONENTIAL:
+                value = mean * random.nextExponential();
+                break;
+            default:
+                value = fixedValue;
+                break;
+        }
+        return Math.max(0, value);
+    }
+
+    /**
+     * Inverse CDF of the triangular distribution
+     */
+    private double sampleTriangular(double u) {
+        double range = max - min;
+        if (range == 0) {
+            return min;
+        }
+        double split = (mode - min) / range;
+        if (u < split) {
+            return min + Math.sqrt(u * range * (mode - min));
+        }
+        return max - Math.sqrt((1 - u) * range * (max - mode));
+    }
+
+    // Getters and setters
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public void setMin(double min) {
+        this.min = min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public void setMax(double max) {
+        this.max = max;
+    }
+
+    public double getMode() {
+        return mode;
+    }
+
+    public void setMode(double mode) {
+        this.mode = mode;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public void setMean(double mean) {
+        this.mean = mean;
+    }
+
+    public double getStddev() {
+        return stddev;
+    }
+
+    public void setStddev(double stddev) {
+        this.stddev = stddev;
+    }
+
+    @Override
+    public String toString() {
+        return "DurationDistribution{type=" + type + ", min=" + min + ", max=" + max
+            + ", mode=" + mode + ", mean=" + mean + ", stddev=" + stddev + "}";
+    }
+}
@@ -9,6 +9,8 @@ public class Edge {
     private String source;
     private String target;
     private int dataAmount;
+    private DurationDistribution dataAmountDistribution;
+    private double transferRate;
     private double transferTime;
     private double weight;
     private boolean onCriticalPath = false;
@@ -25,6 +27,7 @@ public class Edge {
         this.source = source;
         this.target = target;
         this.dataAmount = dataAmount;
+        this.transferRate = transferRate;
         this.transferTime = calculateTransferTime(dataAmount, transferRate);
         this.weight = this.transferTime; // Default weight is transfer time
     }
@@ -39,6 +42,8 @@ public class Edge {
         this.source = info.getSource();
         this.target = info.getTarget();
         this.dataAmount = info.getDataAmount();
+        this.dataAmountDistribution = info.getDataAmountDistribution();
+        this.transferRate = transferRate;
         this.transferTime = calculateTransferTime(dataAmount, transferRate);
         this.weight = this.transferTime;
     }
@@ -88,6 +93,29 @@ public class Edge {
         return dataAmount;
     }
     
+    /**
+     * Changes the amount of data to transfer and recalculates the transfer time
+     * The weight is left unchanged
+     * 
+     * @param dataAmount The new amount of data to transfer
+     */
+    public void setDataAmount(int dataAmount) {
+        this.dataAmount = dataAmount;
+        this.transferTime = calculateTransferTime(dataAmount, transferRate);
+    }
+    
+    public DurationDistribution getDataAmountDistribution() {
+        return dataAmountDistribution;
+    }
+    
+    public void setDataAmountDistribution(DurationDistribution dataAmountDistribution) {
+        this.dataAmountDistribution = dataAmountDistribution;
+    }
+    
+    public double getTransferRate() {
+        return transferRate;
+    }
+    
     public double getTransferTime() {
         return transferTime;
     }
@@ -0,0 +1,99 @@
+// File: workflow_scheduling/model/GraphLevels.java
+package workflow_scheduling.model;
+
+/**
+ * Depth levels of a compact graph
+ * Level 0 holds the nodes without predecessors and every other node sits one level below
+ * its deepest predecessor, so all nodes of a level are independent of each other.
+ * Nodes of level l are stored in levelNodes[levelOffsets[l]..levelOffsets[l+1]-1].
+ *
+ * The arrays returned by the getters are shared with this instance and must not be modified.
+ */
+public class GraphLevels {
+    private final int[] levelOffsets;
+    private final int[] levelNodes;
+    private final int[] nodeLevels;
+
+    /**
+     * Computes the levels of a graph
+     *
+     * @param graph The compact graph
+     */
+    public GraphLevels(CompactGraph graph) {
+        int nodeCount = graph.getNodeCount();
+        int[] order = graph.getTopologicalOrder();
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+        int[] edgeSources = graph.getEdgeSources();
+
+        // Depth of each node, visiting predecessors first
+        this.nodeLevels = new int[nodeCount];
+        int levelCount = 0;
+        for (int node : order) {
+            int level = 0;
+            for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                level = Math.max(level, nodeLevels[edgeSources[inEdges[k]]] + 1);
+            }
+            nodeLevels[node] = level;
+            levelCount = Math.max(levelCount, level + 1);
+        }
+
+        // Bucket the nodes by level
+        this.levelOffsets = new int[levelCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            levelOffsets[nodeLevels[node] + 1]++;
+        }
+        for (int l = 0; l < levelCount; l++) {
+            levelOffsets[l + 1] += levelOffsets[l];
+        }
+        this.levelNodes = new int[nodeCount];
+        int[] cursor = new int[levelCount];
+        for (int node : order) {
+            int level = nodeLevels[node];
+            levelNodes[levelOffsets[level] + cursor[level]++] = node;
+        }
+    }
+
+    /**
+     * Gets the size of the widest level
+     *
+     * @return The maximum number of nodes in one level
+     */
+    public int getMaxWidth() {
+        int maxWidth = 0;
+        for (int l = 0; l < getLevelCount(); l++) {
+            maxWidth = Math.max(maxWidth, getLevelSize(l));
+        }
+        return maxWidth;
+    }
+
+    // Getters
+    public int getLevelCount() {
+        return levelOffsets.length - 1;
+    }
+
+    public int getLevelSize(int level) {
+        return levelOffsets[level + 1] - levelOffsets[level];
+    }
+
+    public int getLevel(int node) {
+        return nodeLevels[node];
+    }
+
+    public int[] getLevelOffsets() {
+        return levelOffsets;
+    }
+
+    public int[] getLevelNodes() {
+        return levelNodes;
+    }
+
+    public int[] getNodeLevels() {
+        return nodeLevels;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GraphLevels{levels=%d, maxWidth=%d}", getLevelCount(), getMaxWidth());
+    }
+}
@@ -1,6 +1,7 @@
 // File: workflow_scheduling/model/LinkInfo.java
 package workflow_scheduling.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -17,6 +18,11 @@ public class LinkInfo {
     @JsonProperty("data_amount")
     private int dataAmount;
     
+    // Optional, used by the stochastic analysis instead of dataAmount
+    @JsonProperty("data_amount_distribution")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private DurationDistribution dataAmountDistribution;
+    
     // Default constructor needed by Jackson
     public LinkInfo() {
     }
@@ -53,6 +59,14 @@ public class LinkInfo {
         this.dataAmount = dataAmount;
     }
     
+    public DurationDistribution getDataAmountDistribution() {
+        return dataAmountDistribution;
+    }
+    
+    public void setDataAmountDistribution(DurationDistribution dataAmountDistribution) {
+        this.dataAmountDistribution = dataAmountDistribution;
+    }
+    
     @Override
     public String toString() {
         return "LinkInfo{source='" + source + "', target='" + target + "', dataAmount=" + dataAmount + "}";
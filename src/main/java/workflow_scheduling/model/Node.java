@@ -8,6 +8,7 @@ package workflow_scheduling.model;
 public class Node {
     private String id;
     private int executionTime;
+    private DurationDistribution executionTimeDistribution;
     
     // Fields for CPM analysis
     private double earliestStart = 0;
@@ -36,6 +37,7 @@ public class Node {
     public Node(NodeInfo info) {
         this.id = info.getId();
         this.executionTime = info.getExecutionTime();
+        this.executionTimeDistribution = info.getExecutionTimeDistribution();
     }
     
     /**
@@ -72,6 +74,18 @@ public class Node {
         return executionTime;
     }
     
+    public void setExecutionTime(int executionTime) {
+        this.executionTime = executionTime;
+    }
+    
+    public DurationDistribution getExecutionTimeDistribution() {
+        return executionTimeDistribution;
+    }
+    
+    public void setExecutionTimeDistribution(DurationDistribution executionTimeDistribution) {
+        this.executionTimeDistribution = executionTimeDistribution;
+    }
+    
     public double getEarliestStart() {
         return earliestStart;
     }
@@ -1,6 +1,7 @@
 // File: workflow_scheduling/model/NodeInfo.java
 package workflow_scheduling.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -14,6 +15,11 @@ public class NodeInfo {
     @JsonProperty("execution_time")
     private int executionTime;
     
+    // Optional, used by the stochastic analysis instead of executionTime
+    @JsonProperty("execution_time_distribution")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private DurationDistribution executionTimeDistribution;
+    
     // Default constructor needed by Jackson
     public NodeInfo() {
     }
@@ -41,6 +47,14 @@ public class NodeInfo {
         this.executionTime = executionTime;
     }
     
+    public DurationDistribution getExecutionTimeDistribution() {
+        return executionTimeDistribution;
+    }
+    
+    public void setExecutionTimeDistribution(DurationDistribution executionTimeDistribution) {
+        this.executionTimeDistribution = executionTimeDistribution;
+    }
+    
     @Override
     public String toString() {
         return "NodeInfo{id='" + id + "', executionTime=" + executionTime + "}";
@@ -0,0 +1,429 @@
+// File: workflow_scheduling/model/ReachabilityIndex.java
+package workflow_scheduling.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Answers "can A reach B" and ancestor/descendant queries on a DAG
+ *
+ * The index has two representations, chosen by a memory budget:
+ *   - Closure bitsets: row r holds the topological ranks reachable from the node of rank r.
+ *     A node only reaches higher ranks, so each row starts at the word of its own rank and
+ *     the matrix takes about V^2 / 16 bytes. Rows are built in reverse topological order as
+ *     the union of the successor rows, split into column chunks that run in parallel.
+ *     Reachability is one bit test, a descendant set costs O(V/64) and an ancestor set one
+ *     bit test per lower rank.
+ *   - Interval labels, for graphs whose matrix exceeds the budget (up to millions of nodes):
+ *     several randomized depth-first traversals give every node the interval of post-order
+ *     numbers of its descendants. If A reaches B, every interval of B lies inside the one of
+ *     A, so most negative queries are answered from the labels and the topological ranks
+ *     alone; the rest run a depth-first search pruned by the same two tests. The labels
+ *     take 8 bytes per node and traversal, and are built in parallel.
+ *
+ * Nodes are the ordinals of the indexed CompactGraph. A node reaches itself. The index is
+ * immutable and safe to query from several threads.
+ */
+public class ReachabilityIndex {
+    /** Default limit for the closure bitsets; larger graphs use interval labels */
+    public static final long DEFAULT_MAX_MATRIX_BYTES = 128L << 20;
+    /** Number of interval labelings for graphs above the limit */
+    public static final int LABELINGS = 3;
+
+    // Fixed seed, so query times do not vary between runs on the same graph
+    private static final long LABEL_SEED = 0x5eed_1abe1L;
+
+    private final CompactGraph graph;
+    private final int[] order;
+    private final int[] ranks;
+    private final int words;
+
+    // Closure rows, or null in interval mode
+    private final long[] matrix;
+    // Interval labels by labeling * nodeCount + node, or null in bitset mode
+    private final int[] lows;
+    private final int[] posts;
+
+    /**
+     * Builds the index on the common fork-join pool with the default memory limit
+     *
+     * @param graph The graph to index
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public ReachabilityIndex(CompactGraph graph) {
+        this(graph, ForkJoinPool.commonPool(), DEFAULT_MAX_MATRIX_BYTES);
+    }
+
+    /**
+     * Builds the index
+     *
+     * @param graph The graph to index
+     * @param pool The fork-join pool to build on
+     * @param maxMatrixBytes Largest closure matrix to build; above it the index uses interval labels
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public ReachabilityIndex(CompactGraph graph, ForkJoinPool pool, long maxMatrixBytes) {
+        this.graph = graph;
+        this.order = graph.getTopologicalOrder();
+        this.ranks = graph.getTopologicalRanks();
+        int nodeCount = graph.getNodeCount();
+        this.words = (nodeCount + 63) >>> 6;
+
+        long matrixWords = rowOffset(nodeCount);
+        if (matrixWords * 8 <= maxMatrixBytes && matrixWords <= Integer.MAX_VALUE - 8) {
+            this.matrix = new long[(int) matrixWords];
+            this.lows = null;
+            this.posts = null;
+            buildMatrix(pool);
+        } else {
+            this.matrix = null;
+            this.lows = new int[LABELINGS * nodeCount];
+            this.posts = new int[LABELINGS * nodeCount];
+            buildLabels(pool);
+        }
+    }
+
+    /**
+     * Index of the first word of a row in the matrix
+     * Rows of ranks 64b .. 64b+63 all start at word b and hold words - b words.
+     */
+    private long rowOffset(int rank) {
+        long block = rank >>> 6;
+        long fullBlocks = 64 * (block * words - block * (block - 1) / 2);
+        return fullBlocks + (rank & 63) * (words - block);
+    }
+
+    /**
+     * Index of word 0 of a row, so that word w of the row is at this base plus w
+     */
+    private int rowBase(int rank) {
+        return (int) (rowOffset(rank) - (rank >>> 6));
+    }
+
+    private void buildMatrix(ForkJoinPool pool) {
+        int chunkWords = Math.max(1, words / (pool.getParallelism() * 4));
+        List<Callable<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < words; from += chunkWords) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(words, from + chunkWords);
+            chunks.add(() -> {
+                buildColumns(chunkFrom, chunkTo);
+                return null;
+            });
+        }
+
+        if (chunks.size() == 1) {
+            buildColumns(0, words);
+        } else {
+            runAll(pool, chunks);
+        }
+    }
+
+    /**
+     * Fills the words [from, to) of every row; chunks write disjoint words
+     */
+    private void buildColumns(int from, int to) {
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+
+        // Rows of higher ranks start after the chunk
+        for (int r = Math.min(order.length, to << 6) - 1; r >= 0; r--) {
+            int node = order[r];
+            int row = rowBase(r);
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                int targetRank = ranks[edgeTargets[e]];
+                int targetRow = rowBase(targetRank);
+                for (int w = Math.max(targetRank >>> 6, from); w < to; w++) {
+                    matrix[row + w] |= matrix[targetRow + w];
+                }
+                int word = targetRank >>> 6;
+                if (word >= from && word < to) {
+                    matrix[row + word] |= 1L << targetRank;
+                }
+            }
+        }
+    }
+
+    private void buildLabels(ForkJoinPool pool) {
+        List<Callable<Void>> labelings = new ArrayList<>();
+        for (int i = 0; i < LABELINGS; i++) {
+            int labeling = i;
+            labelings.add(() -> {
+                buildLabeling(labeling, new SplittableRandom(LABEL_SEED + labeling));
+                return null;
+            });
+        }
+        runAll(pool, labelings);
+    }
+
+    /**
+     * Numbers the nodes in the post-order of a randomized depth-first traversal and gives
+     * every node the smallest number among its descendants
+     */
+    private void buildLabeling(int labeling, SplittableRandom random) {
+        int nodeCount = graph.getNodeCount();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        int base = labeling * nodeCount;
+
+        int[] roots = graph.getSourceNodes().clone();
+        for (int i = roots.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = roots[i];
+            roots[i] = roots[j];
+            roots[j] = swap;
+        }
+
+        // Each node visits its successors from a random edge on, wrapping around
+        boolean[] visited = new boolean[nodeCount];
+        int[] stackNodes = new int[nodeCount];
+        int[] stackFirst = new int[nodeCount];
+        int[] stackVisited = new int[nodeCount];
+        int post = 0;
+        for (int root : roots) {
+            int depth = 0;
+            visited[root] = true;
+            stackNodes[0] = root;
+            stackFirst[0] = firstEdge(outOffsets, root, random);
+            stackVisited[0] = 0;
+            depth++;
+
+            while (depth > 0) {
+                int node = stackNodes[depth - 1];
+                int degree = outOffsets[node + 1] - outOffsets[node];
+                if (stackVisited[depth - 1] == degree) {
+                    int low = ++post;
+                    for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                        low = Math.min(low, lows[base + edgeTargets[e]]);
+                    }
+                    lows[base + node] = low;
+                    posts[base + node] = post;
+                    depth--;
+                    continue;
+                }
+                int k = stackFirst[depth - 1] + stackVisited[depth - 1]++;
+                int target = edgeTargets[outOffsets[node] + (k < degree ? k : k - degree)];
+                if (!visited[target]) {
+                    visited[target] = true;
+                    stackNodes[depth] = target;
+                    stackFirst[depth] = firstEdge(outOffsets, target, random);
+                    stackVisited[depth] = 0;
+                    depth++;
+                }
+            }
+        }
+    }
+
+    private static int firstEdge(int[] outOffsets, int node, SplittableRandom random) {
+        int degree = outOffsets[node + 1] - outOffsets[node];
+        return degree > 1 ? random.nextInt(degree) : 0;
+    }
+
+    /**
+     * Checks whether there is a path from one node to another
+     *
+     * @param from The start node ordinal
+     * @param to The end node ordinal
+     * @return true if to is reachable from from, or both are the same node
+     */
+    public boolean canReach(int from, int to) {
+        int fromRank = ranks[from];
+        int toRank = ranks[to];
+        if (fromRank >= toRank) {
+            return fromRank == toRank;
+        }
+        if (matrix != null) {
+            return (matrix[rowBase(fromRank) + (toRank >>> 6)] & (1L << toRank)) != 0;
+        }
+        if (!labelsContain(from, to)) {
+            return false;
+        }
+
+        // Depth-first search through the nodes whose labels and ranks still allow a path
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        BitSet visited = new BitSet();
+        int[] stack = new int[16];
+        int size = 0;
+        stack[size++] = from;
+        while (size > 0) {
+            int node = stack[--size];
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                int target = edgeTargets[e];
+                if (target == to) {
+                    return true;
+                }
+                if (ranks[target] < toRank && !visited.get(target) && labelsContain(target, to)) {
+                    visited.set(target);
+                    if (size == stack.length) {
+                        stack = Arrays.copyOf(stack, size * 2);
+                    }
+                    stack[size++] = target;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether there is a path from one node to another, by node ID
+     *
+     * @param fromId The ID of the start node
+     * @param toId The ID of the end node
+     * @return true if the end node is reachable from the start node, or both are the same node
+     * @throws IllegalArgumentException If a node is not part of the graph
+     */
+    public boolean canReach(String fromId, String toId) {
+        return canReach(requireNode(fromId), requireNode(toId));
+    }
+
+    /**
+     * Checks whether every interval of a node contains the intervals of another
+     */
+    private boolean labelsContain(int node, int other) {
+        int nodeCount = graph.getNodeCount();
+        for (int base = 0; base < lows.length; base += nodeCount) {
+            if (lows[base + other] < lows[base + node] || posts[base + other] > posts[base + node]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the nodes reachable from a node, for example the tasks a delay can affect
+     *
+     * @param node The node ordinal
+     * @return Set of node ordinals, without the node itself
+     */
+    public BitSet getDescendants(int node) {
+        BitSet descendants = new BitSet(order.length);
+        if (matrix != null) {
+            int rank = ranks[node];
+            int row = rowBase(rank);
+            for (int w = rank >>> 6; w < words; w++) {
+                long bits = matrix[row + w];
+                while (bits != 0) {
+                    descendants.set(order[(w << 6) + Long.numberOfTrailingZeros(bits)]);
+                    bits &= bits - 1;
+                }
+            }
+            return descendants;
+        }
+        return search(node, graph.getOutOffsets(), null, graph.getEdgeTargets());
+    }
+
+    /**
+     * Gets the nodes a node can be reached from, the tasks it depends on directly or indirectly
+     *
+     * @param node The node ordinal
+     * @return Set of node ordinals, without the node itself
+     */
+    public BitSet getAncestors(int node) {
+        if (matrix != null) {
+            BitSet ancestors = new BitSet(order.length);
+            int rank = ranks[node];
+            int word = rank >>> 6;
+            long mask = 1L << rank;
+            for (int r = 0; r < rank; r++) {
+                if ((matrix[rowBase(r) + word] & mask) != 0) {
+                    ancestors.set(order[r]);
+                }
+            }
+            return ancestors;
+        }
+        return search(node, graph.getInOffsets(), graph.getInEdges(), graph.getEdgeSources());
+    }
+
+    /**
+     * Breadth-first search along outgoing or incoming edges
+     *
+     * @param adjacency Edge ids by position, or null if positions are the edge ids
+     * @param neighbours The node at the other end of each edge id
+     */
+    private BitSet search(int node, int[] offsets, int[] adjacency, int[] neighbours) {
+        BitSet found = new BitSet(order.length);
+        int[] queue = new int[16];
+        int tail = 0;
+        queue[tail++] = node;
+        for (int head = 0; head < tail; head++) {
+            int current = queue[head];
+            for (int k = offsets[current]; k < offsets[current + 1]; k++) {
+                int next = neighbours[adjacency != null ? adjacency[k] : k];
+                if (!found.get(next)) {
+                    found.set(next);
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, tail * 2);
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return found;
+    }
+
+    private int requireNode(String nodeId) {
+        int node = graph.indexOf(nodeId);
+        if (node < 0) {
+            throw new IllegalArgumentException("Unknown node: " + nodeId);
+        }
+        return node;
+    }
+
+    private static void runAll(ForkJoinPool pool, List<Callable<Void>> tasks) {
+        for (Future<Void> task : pool.invokeAll(tasks)) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while building the reachability index", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * Gets the memory held by the index, without the graph and its topological order
+     *
+     * @return Size of the index arrays in bytes
+     */
+    public long getMemoryBytes() {
+        if (matrix != null) {
+            return (long) matrix.length * Long.BYTES;
+        }
+        return ((long) lows.length + posts.length) * Integer.BYTES;
+    }
+
+    // Getters
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Checks whether queries are answered from closure bitsets rather than interval labels
+     *
+     * @return true for closure bitsets
+     */
+    public boolean usesBitsets() {
+        return matrix != null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReachabilityIndex{graph='%s', nodes=%d, %s, memory=%.1f MB}",
+            graph.getName(), order.length, matrix != null ? "bitsets" : "interval labels",
+            getMemoryBytes() / (1024.0 * 1024.0));
+    }
+}
@@ -0,0 +1,106 @@
+// File: workflow_scheduling/model/TopologicalSort.java
+package workflow_scheduling.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import workflow_scheduling.metrics.PipelineStage;
+import workflow_scheduling.metrics.StageTimer;
+
+/**
+ * Iterative topological sort (Kahn's algorithm) over the int-indexed arrays of a CompactGraph
+ *
+ * Uses no recursion, so arbitrarily deep chains are safe, and allocates only two int
+ * arrays of node count length. The result array doubles as the queue of ready nodes.
+ */
+public final class TopologicalSort {
+
+    private TopologicalSort() {
+    }
+
+    /**
+     * Sorts the nodes of a graph topologically
+     * Nodes without dependencies between them keep their ordinal order within a wave
+     *
+     * @param graph The compact graph
+     * @return Node ordinals in topological order
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public static int[] sort(CompactGraph graph) {
+        StageTimer timer = StageTimer.start(PipelineStage.TOPOLOGICAL_SORT);
+        int nodeCount = graph.getNodeCount();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        int[] inOffsets = graph.getInOffsets();
+
+        int[] inDegree = new int[nodeCount];
+        int[] order = new int[nodeCount];
+        int tail = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            inDegree[i] = inOffsets[i + 1] - inOffsets[i];
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+
+        int head = 0;
+        while (head < tail) {
+            int node = order[head++];
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                if (--inDegree[edgeTargets[e]] == 0) {
+                    order[tail++] = edgeTargets[e];
+                }
+            }
+        }
+
+        if (tail != nodeCount) {
+            throw new CyclicGraphException(graph.getName(), findCycle(graph, inDegree), nodeCount - tail);
+        }
+        timer.stop(graph.getName(), nodeCount, graph.getEdgeCount());
+        return order;
+    }
+
+    /**
+     * Extracts one cycle from the nodes Kahn's algorithm could not order
+     * Every such node still has an unordered predecessor, so walking predecessors
+     * from any of them must eventually revisit a node.
+     *
+     * @param graph The compact graph
+     * @param inDegree Remaining in-degrees; non-zero exactly for the unordered nodes
+     * @return IDs of the cycle nodes in edge direction
+     */
+    private static List<String> findCycle(CompactGraph graph, int[] inDegree) {
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+        int[] edgeSources = graph.getEdgeSources();
+
+        int node = 0;
+        while (inDegree[node] == 0) {
+            node++;
+        }
+
+        // Step number at which each node was visited, 0 if not yet visited
+        int[] visitedAt = new int[graph.getNodeCount()];
+        int[] walk = new int[graph.getNodeCount() + 1];
+        int steps = 0;
+        while (visitedAt[node] == 0) {
+            walk[steps++] = node;
+            visitedAt[node] = steps;
+            int next = -1;
+            for (int k = inOffsets[node]; k < inOffsets[node + 1] && next < 0; k++) {
+                int source = edgeSources[inEdges[k]];
+                if (inDegree[source] != 0) {
+                    next = source;
+                }
+            }
+            node = next;
+        }
+
+        // The walk follows edges backwards, so reverse the loop part
+        List<String> cycle = new ArrayList<>();
+        for (int i = steps - 1; i >= visitedAt[node] - 1; i--) {
+            cycle.add(graph.getNodeId(walk[i]));
+        }
+        return cycle;
+    }
+}
@@ -0,0 +1,342 @@
+// File: workflow_scheduling/model/TransitiveReduction.java
+package workflow_scheduling.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Removes precedence edges that are implied by longer paths
+ *
+ * An edge u -> v is redundant if v is also reachable from another successor w of u.
+ * Reachability is computed with bitsets over topological ranks: processing nodes in reverse
+ * topological order, the row of a node is the union of the rows of its successors plus the
+ * successors themselves. A full V x V matrix does not fit in memory for large workflows, so
+ * the target ranks are split into column chunks whose rows fit a memory budget. Chunks are
+ * independent and run in parallel on a fork-join pool; every edge is decided by the chunk
+ * that holds its target.
+ *
+ * The precedence-only reduction keeps the same reachability, which is all that Argo
+ * dependencies express. The timing-preserving reduction additionally keeps the critical path
+ * timing of DataTransferCPM: u -> v is only dropped if there is a successor w of u that
+ * reaches v with cost(u -> w) + duration(w) >= cost(u -> v). With non-negative costs the
+ * path through w then delays v at least as much as the edge did, so every earliest and
+ * latest time is unchanged. Parallel edges between the same two nodes are always kept.
+ */
+public class TransitiveReduction {
+    /** Default memory budget for the reachability rows of one chunk */
+    public static final long DEFAULT_CHUNK_BYTES = 16L << 20;
+
+    private final ForkJoinPool pool;
+    private final long chunkBytes;
+
+    /**
+     * Creates a reduction on the common fork-join pool with the default memory budget
+     */
+    public TransitiveReduction() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Creates a reduction
+     *
+     * @param pool The fork-join pool to run the chunks on
+     * @param chunkBytes Memory budget for the reachability rows of one chunk; the peak
+     *                   is about this times the parallelism of the pool
+     */
+    public TransitiveReduction(ForkJoinPool pool, long chunkBytes) {
+        if (chunkBytes < 8) {
+            throw new IllegalArgumentException("Chunk budget must be at least 8 bytes");
+        }
+        this.pool = pool;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * Finds the edges that are implied by other paths
+     *
+     * @param graph The graph to reduce
+     * @return Flag per edge id, true for redundant edges
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public boolean[] findRedundantEdges(CompactGraph graph) {
+        return findRedundantEdges(graph, null, null);
+    }
+
+    /**
+     * Finds the edges that can be removed without changing the CPM timing
+     *
+     * @param graph The graph to reduce
+     * @param nodeCosts Duration of each node, or null for the precedence-only reduction
+     * @param edgeCosts Cost of each edge, or null for the precedence-only reduction
+     * @return Flag per edge id, true for redundant edges
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public boolean[] findRedundantEdges(CompactGraph graph, double[] nodeCosts, double[] edgeCosts) {
+        if ((nodeCosts == null) != (edgeCosts == null)) {
+            throw new IllegalArgumentException("Node and edge costs must be given together");
+        }
+        int nodeCount = graph.getNodeCount();
+        boolean[] redundant = new boolean[graph.getEdgeCount()];
+        if (nodeCount == 0) {
+            return redundant;
+        }
+
+        // The last chunk holds a row for every node, which bounds the chunk width
+        int[] ranks = graph.getTopologicalRanks();
+        int totalWords = (nodeCount + 63) >>> 6;
+        long budgetWords = Math.min(chunkBytes / 8, Integer.MAX_VALUE) / nodeCount;
+        int words = (int) Math.max(1, Math.min(totalWords, budgetWords));
+        int width = words << 6;
+
+        List<Callable<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < nodeCount; from += width) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(nodeCount, from + width);
+            chunks.add(() -> {
+                reduceChunk(graph, ranks, chunkFrom, chunkTo, nodeCosts, edgeCosts, redundant);
+                return null;
+            });
+        }
+
+        if (chunks.size() == 1) {
+            reduceChunk(graph, ranks, 0, nodeCount, nodeCosts, edgeCosts, redundant);
+        } else {
+            for (Future<Void> chunk : pool.invokeAll(chunks)) {
+                join(chunk);
+            }
+        }
+        return redundant;
+    }
+
+    /**
+     * Decides every edge whose target rank lies in [from, to)
+     */
+    private static void reduceChunk(CompactGraph graph, int[] ranks, int from, int to,
+                                    double[] nodeCosts, double[] edgeCosts, boolean[] redundant) {
+        int[] order = graph.getTopologicalOrder();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        int words = ((to - from) + 63) >>> 6;
+
+        // Row r: which ranks in [from, to) are reachable from the node of rank r.
+        // Nodes of rank >= to cannot reach the chunk and get no row.
+        long[] reach = new long[to * words];
+        for (int r = to - 1; r >= 0; r--) {
+            int node = order[r];
+            int row = r * words;
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                int targetRank = ranks[edgeTargets[e]];
+                if (targetRank >= to) {
+                    continue;
+                }
+                int targetRow = targetRank * words;
+                for (int k = 0; k < words; k++) {
+                    reach[row + k] |= reach[targetRow + k];
+                }
+                if (targetRank >= from) {
+                    int bit = targetRank - from;
+                    reach[row + (bit >>> 6)] |= 1L << bit;
+                }
+            }
+        }
+
+        for (int r = 0; r < to; r++) {
+            int node = order[r];
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                int targetRank = ranks[edgeTargets[e]];
+                if (targetRank < from || targetRank >= to) {
+                    continue;
+                }
+                int bit = targetRank - from;
+                long mask = 1L << bit;
+                for (int f = outOffsets[node]; f < outOffsets[node + 1]; f++) {
+                    int witness = edgeTargets[f];
+                    int witnessRank = ranks[witness];
+                    // Only a node ordered before the target can reach it
+                    if (witnessRank >= targetRank
+                            || (reach[witnessRank * words + (bit >>> 6)] & mask) == 0) {
+                        continue;
+                    }
+                    if (edgeCosts == null || edgeCosts[f] + nodeCosts[witness] >= edgeCosts[e]) {
+                        redundant[e] = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds a copy of a workflow graph without its redundant edges
+     * Nodes and kept edges are copied, so analyses of the two graphs do not interfere.
+     *
+     * @param graph The graph to reduce
+     * @param preserveTransferTiming true to keep every edge whose data amount affects
+     *                               the DataTransferCPM timing
+     * @return The reduced graph
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public WorkflowGraph reduce(WorkflowGraph graph, boolean preserveTransferTiming) {
+        CompactGraph compact = graph.getCompactGraph();
+        int nodeCount = compact.getNodeCount();
+        int[] outOffsets = compact.getOutOffsets();
+
+        // Costs as DataTransferCPM sees them: current execution times and data amounts
+        double[] nodeCosts = null;
+        double[] edgeCosts = null;
+        if (preserveTransferTiming) {
+            nodeCosts = new double[nodeCount];
+            edgeCosts = new double[compact.getEdgeCount()];
+            for (int i = 0; i < nodeCount; i++) {
+                nodeCosts[i] = graph.getNode(compact.getNodeId(i)).getExecutionTime();
+                List<Edge> outgoing = graph.getOutgoingEdges(compact.getNodeId(i));
+                for (int k = 0; k < outgoing.size(); k++) {
+                    edgeCosts[outOffsets[i] + k] = outgoing.get(k).getDataAmount();
+                }
+            }
+        }
+        boolean[] redundant = findRedundantEdges(compact, nodeCosts, edgeCosts);
+
+        Set<Edge> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < nodeCount; i++) {
+            List<Edge> outgoing = graph.getOutgoingEdges(compact.getNodeId(i));
+            for (int k = 0; k < outgoing.size(); k++) {
+                if (redundant[outOffsets[i] + k]) {
+                    removed.add(outgoing.get(k));
+                }
+            }
+        }
+
+        WorkflowGraph reduced = new WorkflowGraph(graph.getName());
+        for (Node node : graph.getNodes().values()) {
+            Node copy = new Node(node.getId(), node.getExecutionTime());
+            copy.setExecutionTimeDistribution(node.getExecutionTimeDistribution());
+            reduced.addNode(copy);
+        }
+        for (Edge edge : graph.getEdges()) {
+            if (!removed.contains(edge)) {
+                Edge copy = new Edge(edge.getSource(), edge.getTarget(), edge.getDataAmount(), edge.getTransferRate());
+                copy.setDataAmountDistribution(edge.getDataAmountDistribution());
+                copy.setWeight(edge.getWeight());
+                reduced.addEdge(copy);
+            }
+        }
+        return reduced;
+    }
+
+    /**
+     * Builds a copy of a workflow without its redundant links, for example before an Argo export
+     * The kept links stay in their original order; node and link objects are shared.
+     *
+     * @param workflow The workflow to reduce
+     * @param preserveTransferTiming true to keep every link whose data amount affects
+     *                               the DataTransferCPM timing
+     * @return The reduced workflow
+     * @throws CyclicGraphException If the workflow contains a cycle
+     * @throws IllegalArgumentException If a link refers to an unknown node
+     */
+    public WorkflowJson reduce(WorkflowJson workflow, boolean preserveTransferTiming) {
+        NodeInfo[] nodes = workflow.getNodes();
+        LinkInfo[] links = workflow.getLinks();
+        int nodeCount = nodes.length;
+        int linkCount = links.length;
+
+        String[] nodeIds = new String[nodeCount];
+        int[] executionTimes = new int[nodeCount];
+        Map<String, Integer> nodeIndex = new HashMap<>(nodeCount * 2);
+        for (int i = 0; i < nodeCount; i++) {
+            nodeIds[i] = nodes[i].getId();
+            executionTimes[i] = nodes[i].getExecutionTime();
+            nodeIndex.put(nodeIds[i], i);
+        }
+
+        // Group the links by source with a stable counting sort, remembering each link's edge id
+        int[] linkSources = new int[linkCount];
+        int[] linkTargets = new int[linkCount];
+        int[] outOffsets = new int[nodeCount + 1];
+        for (int k = 0; k < linkCount; k++) {
+            linkSources[k] = requireNode(nodeIndex, links[k].getSource());
+            linkTargets[k] = requireNode(nodeIndex, links[k].getTarget());
+            outOffsets[linkSources[k] + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            outOffsets[i + 1] += outOffsets[i];
+        }
+        int[] edgeTargets = new int[linkCount];
+        int[] edgeDataAmounts = new int[linkCount];
+        int[] linkEdges = new int[linkCount];
+        int[] cursor = new int[nodeCount];
+        for (int k = 0; k < linkCount; k++) {
+            int edge = outOffsets[linkSources[k]] + cursor[linkSources[k]]++;
+            edgeTargets[edge] = linkTargets[k];
+            edgeDataAmounts[edge] = links[k].getDataAmount();
+            linkEdges[k] = edge;
+        }
+
+        CompactGraph compact = new CompactGraph(workflow.getGraph().getName(), nodeIds, executionTimes,
+            outOffsets, edgeTargets, edgeDataAmounts, 0);
+        boolean[] redundant;
+        if (preserveTransferTiming) {
+            double[] nodeCosts = new double[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                nodeCosts[i] = executionTimes[i];
+            }
+            double[] edgeCosts = new double[linkCount];
+            for (int e = 0; e < linkCount; e++) {
+                edgeCosts[e] = edgeDataAmounts[e];
+            }
+            redundant = findRedundantEdges(compact, nodeCosts, edgeCosts);
+        } else {
+            redundant = findRedundantEdges(compact);
+        }
+
+        List<LinkInfo> kept = new ArrayList<>(linkCount);
+        for (int k = 0; k < linkCount; k++) {
+            if (!redundant[linkEdges[k]]) {
+                kept.add(links[k]);
+            }
+        }
+        return new WorkflowJson(workflow.isDirected(), workflow.getGraph(), nodes, kept.toArray(new LinkInfo[0]));
+    }
+
+    private static int requireNode(Map<String, Integer> nodeIndex, String nodeId) {
+        Integer index = nodeIndex.get(nodeId);
+        if (index == null) {
+            throw new IllegalArgumentException("Link refers to unknown node: " + nodeId);
+        }
+        return index;
+    }
+
+    private static void join(Future<Void> chunk) {
+        try {
+            chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during transitive reduction", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // Getters
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public long getChunkBytes() {
+        return chunkBytes;
+    }
+}
@@ -1,14 +1,24 @@
 // File: workflow_scheduling/model/WorkflowGraph.java
 package workflow_scheduling.model;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents a workflow graph with nodes and edges
  * This is the main operational model used for algorithms
+ *
+ * Structural views (compact graph, topological order, levels, sources and sinks) are
+ * computed lazily and cached until the next addNode or addEdge call. Changes made through
+ * the maps and lists returned by the getters are not tracked and must be avoided.
  */
 public class WorkflowGraph {
     private String name;
@@ -17,6 +27,18 @@ public class WorkflowGraph {
     private Map<String, List<Edge>> outgoingEdges; // adjacency list
     private Map<String, List<Edge>> incomingEdges; // reverse adjacency list
     
+    // Structural caches, valid while cacheVersion == modificationCount
+    private int modificationCount;
+    private int cacheVersion = -1;
+    private CompactGraph compactGraph;
+    private List<Node> topologicalOrder;
+    private List<Node> sourceNodes;
+    private List<Node> sinkNodes;
+    private ReachabilityIndex reachabilityIndex;
+    
+    // Topological ranks by node ID, repaired on addEdge instead of being rebuilt
+    private Map<String, Integer> topologicalRanks;
+    
     /**
      * Creates a new workflow graph
      * 
@@ -39,6 +61,7 @@ public class WorkflowGraph {
         nodes.put(node.getId(), node);
         outgoingEdges.put(node.getId(), new ArrayList<>());
         incomingEdges.put(node.getId(), new ArrayList<>());
+        modificationCount++;
     }
     
     /**
@@ -50,6 +73,10 @@ public class WorkflowGraph {
         edges.add(edge);
         outgoingEdges.get(edge.getSource()).add(edge);
         incomingEdges.get(edge.getTarget()).add(edge);
+        modificationCount++;
+        if (topologicalRanks != null && !reorderRanks(edge.getSource(), edge.getTarget())) {
+            topologicalRanks = null;
+        }
     }
     
     /**
@@ -82,6 +109,261 @@ public class WorkflowGraph {
         return incomingEdges.getOrDefault(nodeId, new ArrayList<>());
     }
     
+    /**
+     * Gets the compact view of this graph, rebuilt only after structural changes
+     * The execution times and data amounts stored in it are those at build time;
+     * the CPM analyzers read current costs from the nodes and edges.
+     * 
+     * @return The cached compact graph
+     */
+    public CompactGraph getCompactGraph() {
+        validateCache();
+        if (compactGraph == null) {
+            compactGraph = new CompactGraph(this);
+        }
+        return compactGraph;
+    }
+    
+    /**
+     * Gets the nodes in topological order, computed once per structural version
+     * 
+     * @return Unmodifiable list of nodes, each after all of its predecessors
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public List<Node> getTopologicalOrder() {
+        validateCache();
+        if (topologicalOrder == null) {
+            topologicalOrder = toNodes(getCompactGraph().getTopologicalOrder());
+        }
+        return topologicalOrder;
+    }
+    
+    /**
+     * Gets the depth levels of the graph, computed once per structural version
+     * Node ordinals in the levels refer to getCompactGraph()
+     * 
+     * @return The level structure
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public GraphLevels getLevels() {
+        return getCompactGraph().getLevels();
+    }
+    
+    /**
+     * Gets the nodes without incoming edges
+     * 
+     * @return Unmodifiable list of source nodes
+     */
+    public List<Node> getSourceNodes() {
+        validateCache();
+        if (sourceNodes == null) {
+            sourceNodes = toNodes(getCompactGraph().getSourceNodes());
+        }
+        return sourceNodes;
+    }
+    
+    /**
+     * Gets the nodes without outgoing edges
+     * 
+     * @return Unmodifiable list of sink nodes
+     */
+    public List<Node> getSinkNodes() {
+        validateCache();
+        if (sinkNodes == null) {
+            sinkNodes = toNodes(getCompactGraph().getSinkNodes());
+        }
+        return sinkNodes;
+    }
+    
+    /**
+     * Gets the reachability index of the graph, built once per structural version
+     * Node ordinals in the index refer to getCompactGraph()
+     * 
+     * @return The cached index
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public ReachabilityIndex getReachabilityIndex() {
+        validateCache();
+        if (reachabilityIndex == null) {
+            reachabilityIndex = new ReachabilityIndex(getCompactGraph());
+        }
+        return reachabilityIndex;
+    }
+    
+    /**
+     * Checks whether adding an edge would close a cycle, before calling addEdge
+     * Uses the reachability index if one is cached for the current structure. Otherwise,
+     * as in a check-then-add loop where every addEdge invalidates the index, it searches
+     * forward from the target and skips nodes ranked after the source in topological order.
+     * 
+     * @param sourceId The ID of the source node of the new edge
+     * @param targetId The ID of the target node of the new edge
+     * @return true if the target already reaches the source, or both are the same node
+     * @throws CyclicGraphException If the graph already contains a cycle
+     */
+    public boolean wouldCreateCycle(String sourceId, String targetId) {
+        if (sourceId.equals(targetId)) {
+            return true;
+        }
+        // Nodes that are not in the graph yet have no paths
+        if (!nodes.containsKey(sourceId) || !nodes.containsKey(targetId)) {
+            return false;
+        }
+        validateCache();
+        if (reachabilityIndex != null) {
+            CompactGraph indexed = reachabilityIndex.getGraph();
+            return reachabilityIndex.canReach(indexed.indexOf(targetId), indexed.indexOf(sourceId));
+        }
+        
+        Map<String, Integer> ranks = getTopologicalRanks(sourceId, targetId);
+        int sourceRank = ranks.get(sourceId);
+        if (ranks.get(targetId) > sourceRank) {
+            return false;
+        }
+        
+        // Nodes ranked after the source cannot reach it
+        Set<String> visited = new HashSet<>();
+        Deque<String> stack = new ArrayDeque<>();
+        visited.add(targetId);
+        stack.push(targetId);
+        while (!stack.isEmpty()) {
+            for (Edge edge : outgoingEdges.get(stack.pop())) {
+                String next = edge.getTarget();
+                if (next.equals(sourceId)) {
+                    return true;
+                }
+                if (ranks.get(next) < sourceRank && visited.add(next)) {
+                    stack.push(next);
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Builds a copy of this graph without the edges that are implied by longer paths
+     * 
+     * @param preserveTransferTiming true to keep every edge whose data amount affects
+     *                               the DataTransferCPM timing, false to keep only reachability
+     * @return The reduced copy; this graph is not modified
+     * @throws CyclicGraphException If the graph contains a cycle
+     */
+    public WorkflowGraph transitiveReduction(boolean preserveTransferTiming) {
+        return new TransitiveReduction().reduce(this, preserveTransferTiming);
+    }
+    
+    /**
+     * Drops the structural caches if the graph changed since they were built
+     */
+    private void validateCache() {
+        if (cacheVersion != modificationCount) {
+            compactGraph = null;
+            topologicalOrder = null;
+            sourceNodes = null;
+            sinkNodes = null;
+            reachabilityIndex = null;
+            cacheVersion = modificationCount;
+        }
+    }
+    
+    /**
+     * Gets topological ranks covering the given nodes, rebuilt only if an edge closed
+     * a cycle or the nodes were added after the ranking
+     */
+    private Map<String, Integer> getTopologicalRanks(String... nodeIds) {
+        if (topologicalRanks != null) {
+            for (String nodeId : nodeIds) {
+                if (!topologicalRanks.containsKey(nodeId)) {
+                    topologicalRanks = null;
+                    break;
+                }
+            }
+        }
+        if (topologicalRanks == null) {
+            List<Node> order = getTopologicalOrder();
+            topologicalRanks = new HashMap<>(order.size() * 2);
+            for (int rank = 0; rank < order.size(); rank++) {
+                topologicalRanks.put(order.get(rank).getId(), rank);
+            }
+        }
+        return topologicalRanks;
+    }
+    
+    /**
+     * Repairs the topological ranks after adding an edge, moving only the nodes ranked
+     * between its target and source (Pearce and Kelly's dynamic topological order)
+     * 
+     * @return false if the ranks do not cover both nodes or the edge closed a cycle
+     */
+    private boolean reorderRanks(String sourceId, String targetId) {
+        Integer sourceRank = topologicalRanks.get(sourceId);
+        Integer targetRank = topologicalRanks.get(targetId);
+        if (sourceRank == null || targetRank == null) {
+            return false;
+        }
+        if (sourceRank < targetRank) {
+            return true;
+        }
+        
+        // Nodes the target reaches within the window must move after the source
+        List<String> forward = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> stack = new ArrayDeque<>();
+        visited.add(targetId);
+        stack.push(targetId);
+        while (!stack.isEmpty()) {
+            String current = stack.pop();
+            forward.add(current);
+            for (Edge edge : outgoingEdges.get(current)) {
+                String next = edge.getTarget();
+                if (next.equals(sourceId)) {
+                    return false;
+                }
+                if (topologicalRanks.get(next) < sourceRank && visited.add(next)) {
+                    stack.push(next);
+                }
+            }
+        }
+        
+        // Nodes that reach the source within the window keep their place before the target
+        List<String> backward = new ArrayList<>();
+        visited.add(sourceId);
+        stack.push(sourceId);
+        while (!stack.isEmpty()) {
+            String current = stack.pop();
+            backward.add(current);
+            for (Edge edge : incomingEdges.get(current)) {
+                String previous = edge.getSource();
+                if (topologicalRanks.get(previous) > targetRank && visited.add(previous)) {
+                    stack.push(previous);
+                }
+            }
+        }
+        
+        // Reuse the ranks of both sets, giving the lower ones to the backward set
+        backward.sort((a, b) -> Integer.compare(topologicalRanks.get(a), topologicalRanks.get(b)));
+        forward.sort((a, b) -> Integer.compare(topologicalRanks.get(a), topologicalRanks.get(b)));
+        List<String> moved = new ArrayList<>(backward);
+        moved.addAll(forward);
+        int[] ranks = new int[moved.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = topologicalRanks.get(moved.get(i));
+        }
+        Arrays.sort(ranks);
+        for (int i = 0; i < ranks.length; i++) {
+            topologicalRanks.put(moved.get(i), ranks[i]);
+        }
+        return true;
+    }
+    
+    private List<Node> toNodes(int[] ordinals) {
+        List<Node> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(nodes.get(compactGraph.getNodeId(ordinal)));
+        }
+        return Collections.unmodifiableList(result);
+    }
+    
     // Getters
     public String getName() {
         return name;
@@ -103,6 +385,10 @@ public class WorkflowGraph {
         return incomingEdges;
     }
     
+    public int getModificationCount() {
+        return modificationCount;
+    }
+    
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -0,0 +1,135 @@
+// File: workflow_scheduling/scheduling/Cluster.java
+package workflow_scheduling.scheduling;
+
+import java.util.List;
+
+/**
+ * A set of machines and the bandwidth between them
+ *
+ * Bandwidth is a relative factor applied to an edge's transfer time: sending data from
+ * machine a to machine b takes transferTime / bandwidth(a, b). Data exchanged between
+ * tasks on the same machine is free.
+ */
+public class Cluster {
+    private final List<Machine> machines;
+    private final double[][] bandwidth;
+
+    /**
+     * Creates a cluster with the same bandwidth between every pair of machines
+     * 
+     * @param machines The machines
+     * @param bandwidth Relative bandwidth between any two machines (1.0 = nominal transfer time)
+     */
+    public Cluster(List<Machine> machines, double bandwidth) {
+        this(machines, uniformBandwidth(machines.size(), bandwidth));
+    }
+
+    /**
+     * Creates a cluster with individual bandwidths
+     * 
+     * @param machines The machines
+     * @param bandwidth Matrix of relative bandwidths, bandwidth[a][b] from machine a to machine b
+     */
+    public Cluster(List<Machine> machines, double[][] bandwidth) {
+        if (machines.isEmpty()) {
+            throw new IllegalArgumentException("A cluster needs at least one machine");
+        }
+        if (bandwidth.length != machines.size()) {
+            throw new IllegalArgumentException("Bandwidth matrix must be " + machines.size() + "x" + machines.size());
+        }
+        for (int a = 0; a < bandwidth.length; a++) {
+            if (bandwidth[a].length != machines.size()) {
+                throw new IllegalArgumentException("Bandwidth matrix must be " + machines.size() + "x" + machines.size());
+            }
+            for (int b = 0; b < bandwidth.length; b++) {
+                if (a != b && bandwidth[a][b] <= 0) {
+                    throw new IllegalArgumentException("Bandwidth between machines must be positive");
+                }
+            }
+        }
+        this.machines = List.copyOf(machines);
+        this.bandwidth = bandwidth;
+    }
+
+    private static double[][] uniformBandwidth(int size, double value) {
+        double[][] matrix = new double[size][size];
+        for (int a = 0; a < size; a++) {
+            for (int b = 0; b < size; b++) {
+                matrix[a][b] = value;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Gets the time needed to move an edge's data between two machines
+     * 
+     * @param transferTime The nominal transfer time of the edge
+     * @param from Index of the sending machine
+     * @param to Index of the receiving machine
+     * @return The transfer time, 0 if both tasks run on the same machine
+     */
+    public double communicationTime(double transferTime, int from, int to) {
+        if (from == to) {
+            return 0;
+        }
+        return transferTime / bandwidth[from][to];
+    }
+
+    /**
+     * Gets the mean of 1 / bandwidth over all ordered pairs of distinct machines
+     * Used to estimate communication costs before tasks are placed
+     * 
+     * @return The mean inverse bandwidth, 0 for a single machine
+     */
+    public double getMeanInverseBandwidth() {
+        int size = machines.size();
+        if (size < 2) {
+            return 0;
+        }
+        double sum = 0;
+        for (int a = 0; a < size; a++) {
+            for (int b = 0; b < size; b++) {
+                if (a != b) {
+                    sum += 1 / bandwidth[a][b];
+                }
+            }
+        }
+        return sum / (size * (size - 1));
+    }
+
+    /**
+     * Gets the mean of 1 / speed over all machines
+     * 
+     * @return The mean inverse speed
+     */
+    public double getMeanInverseSpeed() {
+        double sum = 0;
+        for (Machine machine : machines) {
+            sum += 1 / machine.getSpeed();
+        }
+        return sum / machines.size();
+    }
+
+    // Getters
+    public List<Machine> getMachines() {
+        return machines;
+    }
+
+    public Machine getMachine(int index) {
+        return machines.get(index);
+    }
+
+    public int size() {
+        return machines.size();
+    }
+
+    public double getBandwidth(int from, int to) {
+        return bandwidth[from][to];
+    }
+
+    @Override
+    public String toString() {
+        return "Cluster{machines=" + machines.size() + "}";
+    }
+}
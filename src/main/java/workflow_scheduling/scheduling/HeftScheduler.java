@@ -0,0 +1,166 @@
+// File: workflow_scheduling/scheduling/HeftScheduler.java
+package workflow_scheduling.scheduling;
+
+import java.util.Arrays;
+import java.util.List;
+
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.CyclicGraphException;
+import workflow_scheduling.model.Edge;
+import workflow_scheduling.model.WorkflowGraph;
+
+/**
+ * Heterogeneous Earliest Finish Time (HEFT) list scheduler
+ *
+ * Tasks are prioritized by their upward rank, the length of the longest path from the task
+ * to the end of the workflow using execution and transfer times averaged over the cluster.
+ * In that order, each task is placed on the machine where it finishes earliest, allowing it
+ * to fill idle gaps left between already placed tasks (insertion policy). Ties in rank are
+ * broken by topological position, so a task is never placed before its predecessors.
+ *
+ * Execution times come from Node.executionTime and transfer times from Edge.transferTime.
+ */
+public class HeftScheduler {
+    private final Cluster cluster;
+
+    /**
+     * Creates a scheduler for a cluster
+     * 
+     * @param cluster The machines to schedule on
+     */
+    public HeftScheduler(Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Schedules a workflow
+     * 
+     * @param graph The workflow graph to schedule
+     * @return The machine assignment and start time of every task
+     * @throws CyclicGraphException If the workflow contains a cycle
+     */
+    public Schedule schedule(WorkflowGraph graph) {
+        CompactGraph compactGraph = graph.getCompactGraph();
+        int nodeCount = compactGraph.getNodeCount();
+
+        // Read current costs from the nodes and edges, like the CPM analyzers
+        double[] executionTimes = new double[nodeCount];
+        double[] transferTimes = new double[compactGraph.getEdgeCount()];
+        int[] outOffsets = compactGraph.getOutOffsets();
+        for (int i = 0; i < nodeCount; i++) {
+            String nodeId = compactGraph.getNodeId(i);
+            executionTimes[i] = graph.getNode(nodeId).getExecutionTime();
+            List<Edge> outgoing = graph.getOutgoingEdges(nodeId);
+            for (int k = 0; k < outgoing.size(); k++) {
+                transferTimes[outOffsets[i] + k] = outgoing.get(k).getTransferTime();
+            }
+        }
+
+        int[] order = prioritize(compactGraph, upwardRanks(compactGraph, executionTimes, transferTimes));
+        return assign(compactGraph, order, executionTimes, transferTimes);
+    }
+
+    /**
+     * Computes the upward rank of every task in reverse topological order
+     * 
+     * @return Upward rank per node ordinal
+     */
+    private double[] upwardRanks(CompactGraph graph, double[] executionTimes, double[] transferTimes) {
+        int[] order = graph.getTopologicalOrder();
+        int[] outOffsets = graph.getOutOffsets();
+        int[] edgeTargets = graph.getEdgeTargets();
+        double meanInverseSpeed = cluster.getMeanInverseSpeed();
+        double meanInverseBandwidth = cluster.getMeanInverseBandwidth();
+
+        double[] ranks = new double[graph.getNodeCount()];
+        for (int i = order.length - 1; i >= 0; i--) {
+            int node = order[i];
+            double successorRank = 0;
+            for (int edge = outOffsets[node]; edge < outOffsets[node + 1]; edge++) {
+                successorRank = Math.max(successorRank,
+                    transferTimes[edge] * meanInverseBandwidth + ranks[edgeTargets[edge]]);
+            }
+            ranks[node] = executionTimes[node] * meanInverseSpeed + successorRank;
+        }
+        return ranks;
+    }
+
+    /**
+     * Orders the tasks by decreasing upward rank, ties by topological position
+     * 
+     * @return Node ordinals in scheduling order
+     */
+    private int[] prioritize(CompactGraph graph, double[] ranks) {
+        int[] topologicalOrder = graph.getTopologicalOrder();
+        Integer[] order = new Integer[topologicalOrder.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = topologicalOrder[i];
+        }
+        // The sort is stable, so equal ranks keep their topological order
+        Arrays.sort(order, (a, b) -> Double.compare(ranks[b], ranks[a]));
+
+        int[] result = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+    /**
+     * Places every task on the machine where it finishes earliest
+     */
+    private Schedule assign(CompactGraph graph, int[] order, double[] executionTimes, double[] transferTimes) {
+        int nodeCount = graph.getNodeCount();
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+        int[] edgeSources = graph.getEdgeSources();
+
+        int machineCount = cluster.size();
+        MachineTimeline[] timelines = new MachineTimeline[machineCount];
+        for (int m = 0; m < machineCount; m++) {
+            timelines[m] = new MachineTimeline();
+        }
+
+        int[] machines = new int[nodeCount];
+        double[] startTimes = new double[nodeCount];
+        double[] finishTimes = new double[nodeCount];
+
+        for (int node : order) {
+            int bestMachine = -1;
+            double bestStart = 0;
+            double bestFinish = Double.POSITIVE_INFINITY;
+
+            for (int m = 0; m < machineCount; m++) {
+                // All inputs must have arrived on machine m
+                double ready = 0;
+                for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                    int edge = inEdges[k];
+                    int source = edgeSources[edge];
+                    double arrival = finishTimes[source]
+                        + cluster.communicationTime(transferTimes[edge], machines[source], m);
+                    ready = Math.max(ready, arrival);
+                }
+
+                double duration = cluster.getMachine(m).executionTime(executionTimes[node]);
+                double start = timelines[m].findStart(ready, duration);
+                if (start + duration < bestFinish) {
+                    bestMachine = m;
+                    bestStart = start;
+                    bestFinish = start + duration;
+                }
+            }
+
+            timelines[bestMachine].reserve(bestStart, bestFinish);
+            machines[node] = bestMachine;
+            startTimes[node] = bestStart;
+            finishTimes[node] = bestFinish;
+        }
+
+        return new Schedule(graph, cluster, machines, startTimes, finishTimes);
+    }
+
+    // Getters
+    public Cluster getCluster() {
+        return cluster;
+    }
+}
@@ -0,0 +1,56 @@
+// File: workflow_scheduling/scheduling/Machine.java
+package workflow_scheduling.scheduling;
+
+/**
+ * A machine that tasks can be scheduled on
+ * A task with execution time t takes t / speed on this machine
+ */
+public class Machine {
+    private final String name;
+    private final String hostname;
+    private final double speed;
+
+    /**
+     * Creates a machine
+     * 
+     * @param name Display name of the machine
+     * @param hostname Kubernetes hostname used in the nodeSelector
+     * @param speed Relative processing speed (1.0 = nominal execution time)
+     */
+    public Machine(String name, String hostname, double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Machine speed must be positive: " + name);
+        }
+        this.name = name;
+        this.hostname = hostname;
+        this.speed = speed;
+    }
+
+    /**
+     * Gets the time a task takes on this machine
+     * 
+     * @param executionTime The nominal execution time of the task
+     * @return The execution time scaled by the machine speed
+     */
+    public double executionTime(double executionTime) {
+        return executionTime / speed;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public String getHostname() {
+        return hostname;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    @Override
+    public String toString() {
+        return "Machine{name='" + name + "', hostname='" + hostname + "', speed=" + speed + "}";
+    }
+}
@@ -0,0 +1,99 @@
+// File: workflow_scheduling/scheduling/MachineTimeline.java
+package workflow_scheduling.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Idle time of one machine, kept as a sorted list of gaps plus the open end after the last task
+ * Supports the insertion policy of HEFT: a task may be placed into an idle gap
+ * between already scheduled tasks if it fits there. Only gaps are stored, so a densely
+ * packed machine is searched in constant time.
+ */
+final class MachineTimeline {
+    private double[] gapStarts = new double[16];
+    private double[] gapEnds = new double[16];
+    private int gapCount;
+    private double end;
+
+    /**
+     * Finds the earliest start of a task on this machine
+     *
+     * @param ready Time at which all inputs of the task are available
+     * @param duration Execution time of the task on this machine
+     * @return The earliest start time not before ready at which the machine is idle for duration
+     */
+    double findStart(double ready, double duration) {
+        for (int i = firstGapEndingAfter(ready); i < gapCount; i++) {
+            double start = Math.max(ready, gapStarts[i]);
+            if (start + duration <= gapEnds[i]) {
+                return start;
+            }
+        }
+        return Math.max(ready, end);
+    }
+
+    /**
+     * Marks the machine busy during [start, finish)
+     * The interval must lie within idle time, as returned by findStart
+     */
+    void reserve(double start, double finish) {
+        if (finish <= start) {
+            // Zero-length tasks do not occupy the machine
+            return;
+        }
+        if (start >= end) {
+            if (start > end) {
+                insertGap(gapCount, end, start);
+            }
+            end = finish;
+            return;
+        }
+
+        // Split the gap the task was placed into
+        int i = firstGapEndingAfter(start);
+        double gapStart = gapStarts[i];
+        double gapEnd = gapEnds[i];
+        removeGap(i);
+        if (finish < gapEnd) {
+            insertGap(i, finish, gapEnd);
+        }
+        if (gapStart < start) {
+            insertGap(i, gapStart, start);
+        }
+    }
+
+    /**
+     * Binary search for the first gap that ends after the given time
+     */
+    private int firstGapEndingAfter(double time) {
+        int low = 0;
+        int high = gapCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (gapEnds[middle] <= time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void insertGap(int index, double gapStart, double gapEnd) {
+        if (gapCount == gapStarts.length) {
+            gapStarts = Arrays.copyOf(gapStarts, gapCount * 2);
+            gapEnds = Arrays.copyOf(gapEnds, gapCount * 2);
+        }
+        System.arraycopy(gapStarts, index, gapStarts, index + 1, gapCount - index);
+        System.arraycopy(gapEnds, index, gapEnds, index + 1, gapCount - index);
+        gapStarts[index] = gapStart;
+        gapEnds[index] = gapEnd;
+        gapCount++;
+    }
+
+    private void removeGap(int index) {
+        System.arraycopy(gapStarts, index + 1, gapStarts, index, gapCount - index - 1);
+        System.arraycopy(gapEnds, index + 1, gapEnds, index, gapCount - index - 1);
+        gapCount--;
+    }
+}
@@ -0,0 +1,187 @@
+// File: workflow_scheduling/scheduling/Schedule.java
+package workflow_scheduling.scheduling;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Static schedule of a workflow on a cluster
+ * Task data is stored in arrays indexed by the node ordinals of the scheduled CompactGraph.
+ *
+ * The arrays returned by the getters are shared with this instance and must not be modified.
+ */
+public class Schedule {
+    private final CompactGraph graph;
+    private final Cluster cluster;
+    private final int[] machines;
+    private final double[] startTimes;
+    private final double[] finishTimes;
+    private final double makespan;
+
+    /**
+     * Creates a schedule
+     * 
+     * @param graph The scheduled compact graph
+     * @param cluster The cluster the tasks are assigned to
+     * @param machines Machine index of each task
+     * @param startTimes Start time of each task
+     * @param finishTimes Finish time of each task
+     */
+    public Schedule(CompactGraph graph, Cluster cluster, int[] machines, double[] startTimes, double[] finishTimes) {
+        this.graph = graph;
+        this.cluster = cluster;
+        this.machines = machines;
+        this.startTimes = startTimes;
+        this.finishTimes = finishTimes;
+        double latestFinish = 0;
+        for (double finish : finishTimes) {
+            latestFinish = Math.max(latestFinish, finish);
+        }
+        this.makespan = latestFinish;
+    }
+
+    /**
+     * Gets the machine a task is assigned to
+     * 
+     * @param nodeId The ID of the task
+     * @return The assigned machine
+     * @throws IllegalArgumentException If the task is not part of the schedule
+     */
+    public Machine getMachine(String nodeId) {
+        return cluster.getMachine(machines[ordinal(nodeId)]);
+    }
+
+    /**
+     * Gets the start time of a task
+     * 
+     * @param nodeId The ID of the task
+     * @return The scheduled start time
+     * @throws IllegalArgumentException If the task is not part of the schedule
+     */
+    public double getStartTime(String nodeId) {
+        return startTimes[ordinal(nodeId)];
+    }
+
+    /**
+     * Gets the finish time of a task
+     * 
+     * @param nodeId The ID of the task
+     * @return The scheduled finish time
+     * @throws IllegalArgumentException If the task is not part of the schedule
+     */
+    public double getFinishTime(String nodeId) {
+        return finishTimes[ordinal(nodeId)];
+    }
+
+    private int ordinal(String nodeId) {
+        int node = graph.indexOf(nodeId);
+        if (node < 0) {
+            throw new IllegalArgumentException("Unknown task: " + nodeId);
+        }
+        return node;
+    }
+
+    /**
+     * Gets the hostname assigned to every task, for use as Argo nodeSelector
+     * 
+     * @return Map of task ID to machine hostname
+     */
+    public Map<String, String> getHostnameAssignments() {
+        Map<String, String> assignments = new HashMap<>(graph.getNodeCount() * 2);
+        for (int i = 0; i < graph.getNodeCount(); i++) {
+            assignments.put(graph.getNodeId(i), cluster.getMachine(machines[i]).getHostname());
+        }
+        return assignments;
+    }
+
+    /**
+     * Gets the fraction of the makespan each machine spends executing tasks
+     * 
+     * @return Utilization per machine index, between 0 and 1
+     */
+    public double[] getUtilization() {
+        double[] busy = new double[cluster.size()];
+        for (int i = 0; i < machines.length; i++) {
+            busy[machines[i]] += finishTimes[i] - startTimes[i];
+        }
+        for (int m = 0; m < busy.length; m++) {
+            busy[m] = makespan > 0 ? busy[m] / makespan : 0;
+        }
+        return busy;
+    }
+
+    /**
+     * Prints the schedule, one line per task in start time order
+     */
+    public void printSchedule() {
+        System.out.println("\n=== Schedule ===");
+        System.out.println("Workflow: " + graph.getName());
+        System.out.printf("Makespan: %.1f%n", makespan);
+
+        Integer[] order = new Integer[machines.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(startTimes[a], startTimes[b]));
+
+        System.out.println("\nTask | Machine | Start | Finish");
+        System.out.println("-----------------------------------");
+        for (int node : order) {
+            System.out.printf("%s | %s | %.1f | %.1f%n",
+                graph.getNodeId(node), cluster.getMachine(machines[node]).getName(),
+                startTimes[node], finishTimes[node]);
+        }
+
+        double[] utilization = getUtilization();
+        System.out.println("\nMachine utilization:");
+        for (int m = 0; m < utilization.length; m++) {
+            System.out.printf("  %s: %.1f%%%n", cluster.getMachine(m).getName(), utilization[m] * 100);
+        }
+    }
+
+    // Getters
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    public double getMakespan() {
+        return makespan;
+    }
+
+    public int getMachineIndex(int node) {
+        return machines[node];
+    }
+
+    public double getStartTime(int node) {
+        return startTimes[node];
+    }
+
+    public double getFinishTime(int node) {
+        return finishTimes[node];
+    }
+
+    public int[] getMachineIndexes() {
+        return machines;
+    }
+
+    public double[] getStartTimes() {
+        return startTimes;
+    }
+
+    public double[] getFinishTimes() {
+        return finishTimes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Schedule{graph='%s', machines=%d, makespan=%.1f}",
+            graph.getName(), cluster.size(), makespan);
+    }
+}
@@ -0,0 +1,84 @@
+// File: workflow_scheduling/simulation/ClusterConfig.java
+package workflow_scheduling.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Description of a simulated cluster
+ *
+ * Each worker runs up to slotsPerWorker tasks at once, a task with execution time t
+ * taking t / speed on it. Every worker sends data through a single uplink of
+ * linkBandwidth data units per time unit; transfers leaving the same worker queue up
+ * behind each other. Data exchanged between tasks on the same worker is free.
+ */
+public class ClusterConfig {
+    private final int workerCount;
+    private final int slotsPerWorker;
+    private final double linkBandwidth;
+    private final double[] speeds;
+
+    /**
+     * Creates a cluster of identical workers
+     * 
+     * @param workerCount Number of workers
+     * @param slotsPerWorker Number of tasks a worker can run concurrently
+     * @param linkBandwidth Data units per time unit of each worker's uplink
+     */
+    public ClusterConfig(int workerCount, int slotsPerWorker, double linkBandwidth) {
+        this(slotsPerWorker, linkBandwidth, uniformSpeeds(workerCount));
+    }
+
+    /**
+     * Creates a cluster of workers with individual speeds
+     * 
+     * @param slotsPerWorker Number of tasks a worker can run concurrently
+     * @param linkBandwidth Data units per time unit of each worker's uplink
+     * @param speeds Relative speed of each worker (1.0 = nominal execution time)
+     */
+    public ClusterConfig(int slotsPerWorker, double linkBandwidth, double[] speeds) {
+        if (speeds.length < 1 || slotsPerWorker < 1) {
+            throw new IllegalArgumentException("A cluster needs at least one worker with one slot");
+        }
+        if (linkBandwidth <= 0) {
+            throw new IllegalArgumentException("Link bandwidth must be positive");
+        }
+        for (double speed : speeds) {
+            if (speed <= 0) {
+                throw new IllegalArgumentException("Worker speeds must be positive");
+            }
+        }
+        this.workerCount = speeds.length;
+        this.slotsPerWorker = slotsPerWorker;
+        this.linkBandwidth = linkBandwidth;
+        this.speeds = speeds.clone();
+    }
+
+    private static double[] uniformSpeeds(int workerCount) {
+        double[] speeds = new double[Math.max(0, workerCount)];
+        Arrays.fill(speeds, 1.0);
+        return speeds;
+    }
+
+    // Getters
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    public int getSlotsPerWorker() {
+        return slotsPerWorker;
+    }
+
+    public double getLinkBandwidth() {
+        return linkBandwidth;
+    }
+
+    public double getSpeed(int worker) {
+        return speeds[worker];
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterConfig{workers=" + workerCount + ", slots=" + slotsPerWorker
+            + ", linkBandwidth=" + linkBandwidth + "}";
+    }
+}
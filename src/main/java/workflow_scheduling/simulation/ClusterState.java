@@ -0,0 +1,51 @@
+// File: workflow_scheduling/simulation/ClusterState.java
+package workflow_scheduling.simulation;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Read-only view of a running simulation, offered to placement policies
+ * Tasks and edges are identified by the node ordinals and edge ids of the CompactGraph.
+ */
+public interface ClusterState {
+
+    /**
+     * @return The graph being simulated
+     */
+    CompactGraph getGraph();
+
+    /**
+     * @return The cluster being simulated
+     */
+    ClusterConfig getCluster();
+
+    /**
+     * @return The current simulation time
+     */
+    double getTime();
+
+    /**
+     * @param worker A worker index
+     * @return Number of tasks currently running on the worker
+     */
+    int getRunningTasks(int worker);
+
+    /**
+     * @param worker A worker index
+     * @return Number of tasks placed on the worker that have not finished yet,
+     *         including running ones and those still waiting for input data
+     */
+    int getAssignedTasks(int worker);
+
+    /**
+     * @param task A task ordinal
+     * @return The worker the task was placed on, or -1 if it has not been placed yet
+     */
+    int getWorkerOf(int task);
+
+    /**
+     * @param edge An edge id
+     * @return The amount of data sent along the edge
+     */
+    double getDataAmount(int edge);
+}
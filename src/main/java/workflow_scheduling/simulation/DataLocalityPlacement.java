@@ -0,0 +1,46 @@
+// File: workflow_scheduling/simulation/DataLocalityPlacement.java
+package workflow_scheduling.simulation;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Places each task on the worker that already holds most of its input data,
+ * unless that worker has more unfinished tasks than slots; falls back to the least
+ * loaded worker otherwise
+ */
+public class DataLocalityPlacement implements PlacementPolicy {
+    private final LeastLoadedPlacement fallback = new LeastLoadedPlacement();
+    private double[] localData;
+
+    @Override
+    public void reset(ClusterState state) {
+        localData = new double[state.getCluster().getWorkerCount()];
+    }
+
+    @Override
+    public int selectWorker(int task, ClusterState state) {
+        CompactGraph graph = state.getGraph();
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+        int[] edgeSources = graph.getEdgeSources();
+
+        int best = -1;
+        for (int k = inOffsets[task]; k < inOffsets[task + 1]; k++) {
+            int edge = inEdges[k];
+            int worker = state.getWorkerOf(edgeSources[edge]);
+            localData[worker] += state.getDataAmount(edge);
+            if (best < 0 || localData[worker] > localData[best]) {
+                best = worker;
+            }
+        }
+        // Clear only the entries touched above
+        for (int k = inOffsets[task]; k < inOffsets[task + 1]; k++) {
+            localData[state.getWorkerOf(edgeSources[inEdges[k]])] = 0;
+        }
+
+        if (best >= 0 && state.getAssignedTasks(best) < state.getCluster().getSlotsPerWorker()) {
+            return best;
+        }
+        return fallback.selectWorker(task, state);
+    }
+}
@@ -0,0 +1,101 @@
+// File: workflow_scheduling/simulation/EventQueue.java
+package workflow_scheduling.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of simulation events stored in parallel primitive arrays
+ * Events are ordered by time, and events at the same time by insertion order,
+ * so simulations are deterministic. Each event carries a single int payload.
+ */
+final class EventQueue {
+    private double[] times = new double[64];
+    private long[] sequences = new long[64];
+    private int[] payloads = new int[64];
+    private int size;
+    private long nextSequence;
+
+    /**
+     * Adds an event
+     *
+     * @param time The event time
+     * @param payload The event data
+     */
+    void add(double time, int payload) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            sequences = Arrays.copyOf(sequences, size * 2);
+            payloads = Arrays.copyOf(payloads, size * 2);
+        }
+        long sequence = nextSequence++;
+        int i = size++;
+        // Sift up
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(time, sequence, times[parent], sequences[parent])) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        times[i] = time;
+        sequences[i] = sequence;
+        payloads[i] = payload;
+    }
+
+    /**
+     * Gets the time of the earliest event
+     */
+    double peekTime() {
+        return times[0];
+    }
+
+    /**
+     * Removes the earliest event
+     *
+     * @return Its payload
+     */
+    int poll() {
+        int result = payloads[0];
+        size--;
+        if (size > 0) {
+            double time = times[size];
+            long sequence = sequences[size];
+            int payload = payloads[size];
+            int i = 0;
+            // Sift down
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(times[child + 1], sequences[child + 1], times[child], sequences[child])) {
+                    child++;
+                }
+                if (!before(times[child], sequences[child], time, sequence)) {
+                    break;
+                }
+                move(child, i);
+                i = child;
+            }
+            times[i] = time;
+            sequences[i] = sequence;
+            payloads[i] = payload;
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static boolean before(double time, long sequence, double otherTime, long otherSequence) {
+        return time < otherTime || (time == otherTime && sequence < otherSequence);
+    }
+
+    private void move(int from, int to) {
+        times[to] = times[from];
+        sequences[to] = sequences[from];
+        payloads[to] = payloads[from];
+    }
+}
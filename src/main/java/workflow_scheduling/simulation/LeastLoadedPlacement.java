@@ -0,0 +1,24 @@
+// File: workflow_scheduling/simulation/LeastLoadedPlacement.java
+package workflow_scheduling.simulation;
+
+/**
+ * Places each task on the worker with the fewest unfinished tasks per slot,
+ * weighted by worker speed; ties go to the lowest worker index
+ */
+public class LeastLoadedPlacement implements PlacementPolicy {
+
+    @Override
+    public int selectWorker(int task, ClusterState state) {
+        ClusterConfig cluster = state.getCluster();
+        int best = 0;
+        double bestLoad = Double.POSITIVE_INFINITY;
+        for (int w = 0; w < cluster.getWorkerCount(); w++) {
+            double load = (state.getAssignedTasks(w) + 1) / cluster.getSpeed(w);
+            if (load < bestLoad) {
+                best = w;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,27 @@
+// File: workflow_scheduling/simulation/PlacementPolicy.java
+package workflow_scheduling.simulation;
+
+/**
+ * Decides which worker a task runs on
+ * Called once per task, at the moment all of its predecessors have finished.
+ */
+@FunctionalInterface
+public interface PlacementPolicy {
+
+    /**
+     * Selects the worker for a task
+     * 
+     * @param task The ordinal of the task to place
+     * @param state The current state of the simulation
+     * @return A worker index between 0 and the worker count (exclusive)
+     */
+    int selectWorker(int task, ClusterState state);
+
+    /**
+     * Called before a simulation run starts, so stateful policies can reset
+     * 
+     * @param state The state of the new run
+     */
+    default void reset(ClusterState state) {
+    }
+}
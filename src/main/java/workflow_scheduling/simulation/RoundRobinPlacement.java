@@ -0,0 +1,21 @@
+// File: workflow_scheduling/simulation/RoundRobinPlacement.java
+package workflow_scheduling.simulation;
+
+/**
+ * Places tasks on the workers in turn, ignoring load and data location
+ */
+public class RoundRobinPlacement implements PlacementPolicy {
+    private int next;
+
+    @Override
+    public int selectWorker(int task, ClusterState state) {
+        int worker = next;
+        next = (next + 1) % state.getCluster().getWorkerCount();
+        return worker;
+    }
+
+    @Override
+    public void reset(ClusterState state) {
+        next = 0;
+    }
+}
@@ -0,0 +1,172 @@
+// File: workflow_scheduling/simulation/SimulationResult.java
+package workflow_scheduling.simulation;
+
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Outcome of one simulated workflow execution
+ * Per-task data is indexed by the node ordinals of the simulated CompactGraph.
+ *
+ * The arrays returned by the getters are shared with this instance and must not be modified.
+ */
+public class SimulationResult {
+    private final CompactGraph graph;
+    private final ClusterConfig cluster;
+    private final int[] workers;
+    private final double[] startTimes;
+    private final double[] finishTimes;
+    private final double[] queueingDelays;
+    private final double[] busyTimes;
+    private final double makespan;
+    private final double totalTransferTime;
+    private final long eventCount;
+
+    SimulationResult(CompactGraph graph, ClusterConfig cluster, int[] workers, double[] startTimes,
+                     double[] finishTimes, double[] queueingDelays, double[] busyTimes,
+                     double totalTransferTime, long eventCount) {
+        this.graph = graph;
+        this.cluster = cluster;
+        this.workers = workers;
+        this.startTimes = startTimes;
+        this.finishTimes = finishTimes;
+        this.queueingDelays = queueingDelays;
+        this.busyTimes = busyTimes;
+        this.totalTransferTime = totalTransferTime;
+        this.eventCount = eventCount;
+        double latestFinish = 0;
+        for (double finish : finishTimes) {
+            latestFinish = Math.max(latestFinish, finish);
+        }
+        this.makespan = latestFinish;
+    }
+
+    /**
+     * Gets the fraction of a worker's slot time spent executing tasks
+     * 
+     * @param worker The worker index
+     * @return Utilization between 0 and 1
+     */
+    public double getUtilization(int worker) {
+        if (makespan == 0) {
+            return 0;
+        }
+        return busyTimes[worker] / (makespan * cluster.getSlotsPerWorker());
+    }
+
+    /**
+     * Gets the utilization of the whole cluster
+     * 
+     * @return Busy slot time divided by available slot time
+     */
+    public double getMeanUtilization() {
+        double sum = 0;
+        for (int w = 0; w < busyTimes.length; w++) {
+            sum += getUtilization(w);
+        }
+        return sum / busyTimes.length;
+    }
+
+    /**
+     * Gets the mean time tasks waited for a free slot after their inputs arrived
+     * 
+     * @return The mean queueing delay
+     */
+    public double getMeanQueueingDelay() {
+        double sum = 0;
+        for (double delay : queueingDelays) {
+            sum += delay;
+        }
+        return queueingDelays.length == 0 ? 0 : sum / queueingDelays.length;
+    }
+
+    /**
+     * Gets the longest time a task waited for a free slot after its inputs arrived
+     * 
+     * @return The maximum queueing delay
+     */
+    public double getMaxQueueingDelay() {
+        double max = 0;
+        for (double delay : queueingDelays) {
+            max = Math.max(max, delay);
+        }
+        return max;
+    }
+
+    /**
+     * Prints makespan, utilization and queueing statistics
+     */
+    public void printResults() {
+        System.out.println("\n=== Simulation Results ===");
+        System.out.println("Workflow: " + graph.getName());
+        System.out.println("Cluster: " + cluster);
+        System.out.printf("Makespan: %.1f%n", makespan);
+        System.out.printf("Mean utilization: %.1f%%%n", getMeanUtilization() * 100);
+        System.out.printf("Queueing delay: mean %.2f, max %.2f%n", getMeanQueueingDelay(), getMaxQueueingDelay());
+        System.out.printf("Total transfer time: %.1f%n", totalTransferTime);
+        System.out.println("Events processed: " + eventCount);
+
+        System.out.println("\nWorker utilization:");
+        for (int w = 0; w < busyTimes.length; w++) {
+            System.out.printf("  worker %d: %.1f%%%n", w, getUtilization(w) * 100);
+        }
+    }
+
+    // Getters
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public ClusterConfig getCluster() {
+        return cluster;
+    }
+
+    public double getMakespan() {
+        return makespan;
+    }
+
+    public double getTotalTransferTime() {
+        return totalTransferTime;
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public int getWorker(int task) {
+        return workers[task];
+    }
+
+    public double getStartTime(int task) {
+        return startTimes[task];
+    }
+
+    public double getFinishTime(int task) {
+        return finishTimes[task];
+    }
+
+    public double getQueueingDelay(int task) {
+        return queueingDelays[task];
+    }
+
+    public int[] getWorkers() {
+        return workers;
+    }
+
+    public double[] getStartTimes() {
+        return startTimes;
+    }
+
+    public double[] getFinishTimes() {
+        return finishTimes;
+    }
+
+    public double[] getQueueingDelays() {
+        return queueingDelays;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimulationResult{graph='%s', makespan=%.1f, utilization=%.3f, meanQueueingDelay=%.2f}",
+            graph.getName(), makespan, getMeanUtilization(), getMeanQueueingDelay());
+    }
+}
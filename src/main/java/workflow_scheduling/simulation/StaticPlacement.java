@@ -0,0 +1,37 @@
+// File: workflow_scheduling/simulation/StaticPlacement.java
+package workflow_scheduling.simulation;
+
+import workflow_scheduling.scheduling.Schedule;
+
+/**
+ * Places every task on a fixed worker, for example one chosen by a static scheduler
+ */
+public class StaticPlacement implements PlacementPolicy {
+    private final int[] workers;
+
+    /**
+     * Creates a placement from a task-to-worker array
+     * 
+     * @param workers Worker index of each task ordinal
+     */
+    public StaticPlacement(int[] workers) {
+        this.workers = workers.clone();
+    }
+
+    /**
+     * Creates a placement that follows the machine assignment of a schedule
+     * Machine i of the schedule's cluster maps to worker i of the simulated cluster,
+     * so both must describe the same set of machines
+     * 
+     * @param schedule The schedule to replay
+     * @return The placement
+     */
+    public static StaticPlacement fromSchedule(Schedule schedule) {
+        return new StaticPlacement(schedule.getMachineIndexes());
+    }
+
+    @Override
+    public int selectWorker(int task, ClusterState state) {
+        return workers[task];
+    }
+}
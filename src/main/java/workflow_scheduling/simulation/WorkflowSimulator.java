@@ -0,0 +1,295 @@
+// File: workflow_scheduling/simulation/WorkflowSimulator.java
+package workflow_scheduling.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.Edge;
+import workflow_scheduling.model.WorkflowGraph;
+
+/**
+ * Discrete-event simulation of a workflow running on a cluster
+ *
+ * A task is placed by the placement policy as soon as all of its predecessors have
+ * finished. Its inputs are then sent from the predecessors' workers, each transfer
+ * queueing behind earlier transfers on the sending worker's uplink. Once all inputs have
+ * arrived the task waits for a free slot on its worker (first come, first served) and runs
+ * for executionTime / speed. Only two kinds of events exist, task completion and transfer
+ * arrival; both live in a primitive heap, so the loop itself does not allocate.
+ *
+ * Execution times come from Node.executionTime and data sizes from Edge.dataAmount.
+ */
+public class WorkflowSimulator {
+    private static final int TASK_FINISHED = 0;
+    private static final int TRANSFER_ARRIVED = 1;
+
+    private final ClusterConfig cluster;
+
+    /**
+     * Creates a simulator for a cluster
+     *
+     * @param cluster The simulated cluster
+     */
+    public WorkflowSimulator(ClusterConfig cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Simulates one execution of a workflow
+     *
+     * @param graph The workflow to execute
+     * @param policy Decides where each task runs
+     * @return Makespan, utilization and queueing statistics
+     * @throws workflow_scheduling.model.CyclicGraphException If the workflow contains a cycle
+     */
+    public SimulationResult simulate(WorkflowGraph graph, PlacementPolicy policy) {
+        CompactGraph compactGraph = graph.getCompactGraph();
+        // Fail fast on cycles; the event loop would otherwise stop with unfinished tasks
+        compactGraph.getTopologicalOrder();
+
+        int nodeCount = compactGraph.getNodeCount();
+        double[] executionTimes = new double[nodeCount];
+        double[] dataAmounts = new double[compactGraph.getEdgeCount()];
+        int[] outOffsets = compactGraph.getOutOffsets();
+        for (int i = 0; i < nodeCount; i++) {
+            String nodeId = compactGraph.getNodeId(i);
+            executionTimes[i] = graph.getNode(nodeId).getExecutionTime();
+            List<Edge> outgoing = graph.getOutgoingEdges(nodeId);
+            for (int k = 0; k < outgoing.size(); k++) {
+                dataAmounts[outOffsets[i] + k] = outgoing.get(k).getDataAmount();
+            }
+        }
+
+        Run run = new Run(compactGraph, executionTimes, dataAmounts, policy);
+        return run.execute();
+    }
+
+    /**
+     * State of a single simulation run
+     */
+    private final class Run implements ClusterState {
+        private final CompactGraph graph;
+        private final double[] executionTimes;
+        private final double[] dataAmounts;
+        private final PlacementPolicy policy;
+        private final EventQueue events = new EventQueue();
+        private double now;
+        private long eventCount;
+
+        // Per task
+        private final int[] workers;
+        private final int[] pendingPredecessors;
+        private final int[] pendingInputs;
+        private final double[] inputsReadyTimes;
+        private final double[] startTimes;
+        private final double[] finishTimes;
+        private final double[] queueingDelays;
+        private final int[] nextInQueue;
+
+        // Per worker
+        private final int[] freeSlots;
+        private final int[] runningTasks;
+        private final int[] assignedTasks;
+        private final int[] queueHeads;
+        private final int[] queueTails;
+        private final double[] uplinkFreeTimes;
+        private final double[] busyTimes;
+        private double totalTransferTime;
+
+        Run(CompactGraph graph, double[] executionTimes, double[] dataAmounts, PlacementPolicy policy) {
+            this.graph = graph;
+            this.executionTimes = executionTimes;
+            this.dataAmounts = dataAmounts;
+            this.policy = policy;
+
+            int nodeCount = graph.getNodeCount();
+            int[] inOffsets = graph.getInOffsets();
+            this.workers = new int[nodeCount];
+            Arrays.fill(workers, -1);
+            this.pendingPredecessors = new int[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                pendingPredecessors[i] = inOffsets[i + 1] - inOffsets[i];
+            }
+            this.pendingInputs = new int[nodeCount];
+            this.inputsReadyTimes = new double[nodeCount];
+            this.startTimes = new double[nodeCount];
+            this.finishTimes = new double[nodeCount];
+            this.queueingDelays = new double[nodeCount];
+            this.nextInQueue = new int[nodeCount];
+
+            int workerCount = cluster.getWorkerCount();
+            this.freeSlots = new int[workerCount];
+            Arrays.fill(freeSlots, cluster.getSlotsPerWorker());
+            this.runningTasks = new int[workerCount];
+            this.assignedTasks = new int[workerCount];
+            this.queueHeads = new int[workerCount];
+            this.queueTails = new int[workerCount];
+            Arrays.fill(queueHeads, -1);
+            Arrays.fill(queueTails, -1);
+            this.uplinkFreeTimes = new double[workerCount];
+            this.busyTimes = new double[workerCount];
+        }
+
+        SimulationResult execute() {
+            policy.reset(this);
+            for (int source : graph.getSourceNodes()) {
+                place(source);
+            }
+
+            while (!events.isEmpty()) {
+                now = events.peekTime();
+                int event = events.poll();
+                eventCount++;
+                if ((event & 1) == TASK_FINISHED) {
+                    finish(event >>> 1);
+                } else {
+                    inputArrived(graph.getEdgeTargets()[event >>> 1]);
+                }
+            }
+
+            return new SimulationResult(graph, cluster, workers, startTimes, finishTimes,
+                queueingDelays, busyTimes, totalTransferTime, eventCount);
+        }
+
+        /**
+         * Places a task whose predecessors have all finished and sends its inputs
+         */
+        private void place(int task) {
+            int worker = policy.selectWorker(task, this);
+            if (worker < 0 || worker >= cluster.getWorkerCount()) {
+                throw new IllegalStateException("Placement policy chose invalid worker " + worker
+                    + " for task " + graph.getNodeId(task));
+            }
+            workers[task] = worker;
+            assignedTasks[worker]++;
+
+            int[] inOffsets = graph.getInOffsets();
+            int[] inEdges = graph.getInEdges();
+            int[] edgeSources = graph.getEdgeSources();
+            int pending = 0;
+            for (int k = inOffsets[task]; k < inOffsets[task + 1]; k++) {
+                int edge = inEdges[k];
+                int sender = workers[edgeSources[edge]];
+                if (sender == worker || dataAmounts[edge] <= 0) {
+                    continue;
+                }
+                // Transfers from one worker share its uplink in FIFO order
+                double duration = dataAmounts[edge] / cluster.getLinkBandwidth();
+                double start = Math.max(now, uplinkFreeTimes[sender]);
+                uplinkFreeTimes[sender] = start + duration;
+                totalTransferTime += duration;
+                events.add(start + duration, (edge << 1) | TRANSFER_ARRIVED);
+                pending++;
+            }
+
+            pendingInputs[task] = pending;
+            if (pending == 0) {
+                enqueue(task);
+            }
+        }
+
+        private void inputArrived(int task) {
+            if (--pendingInputs[task] == 0) {
+                enqueue(task);
+            }
+        }
+
+        /**
+         * Starts a task whose inputs are all present, or queues it if its worker is full
+         */
+        private void enqueue(int task) {
+            inputsReadyTimes[task] = now;
+            int worker = workers[task];
+            if (freeSlots[worker] > 0) {
+                start(task);
+                return;
+            }
+            nextInQueue[task] = -1;
+            if (queueTails[worker] < 0) {
+                queueHeads[worker] = task;
+            } else {
+                nextInQueue[queueTails[worker]] = task;
+            }
+            queueTails[worker] = task;
+        }
+
+        private void start(int task) {
+            int worker = workers[task];
+            freeSlots[worker]--;
+            runningTasks[worker]++;
+            startTimes[task] = now;
+            queueingDelays[task] = now - inputsReadyTimes[task];
+            double duration = executionTimes[task] / cluster.getSpeed(worker);
+            busyTimes[worker] += duration;
+            events.add(now + duration, (task << 1) | TASK_FINISHED);
+        }
+
+        private void finish(int task) {
+            int worker = workers[task];
+            finishTimes[task] = now;
+            freeSlots[worker]++;
+            runningTasks[worker]--;
+            assignedTasks[worker]--;
+
+            // Hand the slot to the next waiting task
+            int next = queueHeads[worker];
+            if (next >= 0) {
+                queueHeads[worker] = nextInQueue[next];
+                if (queueHeads[worker] < 0) {
+                    queueTails[worker] = -1;
+                }
+                start(next);
+            }
+
+            int[] outOffsets = graph.getOutOffsets();
+            int[] edgeTargets = graph.getEdgeTargets();
+            for (int edge = outOffsets[task]; edge < outOffsets[task + 1]; edge++) {
+                int successor = edgeTargets[edge];
+                if (--pendingPredecessors[successor] == 0) {
+                    place(successor);
+                }
+            }
+        }
+
+        @Override
+        public CompactGraph getGraph() {
+            return graph;
+        }
+
+        @Override
+        public ClusterConfig getCluster() {
+            return cluster;
+        }
+
+        @Override
+        public double getTime() {
+            return now;
+        }
+
+        @Override
+        public int getRunningTasks(int worker) {
+            return runningTasks[worker];
+        }
+
+        @Override
+        public int getAssignedTasks(int worker) {
+            return assignedTasks[worker];
+        }
+
+        @Override
+        public int getWorkerOf(int task) {
+            return workers[task];
+        }
+
+        @Override
+        public double getDataAmount(int edge) {
+            return dataAmounts[edge];
+        }
+    }
+
+    // Getters
+    public ClusterConfig getCluster() {
+        return cluster;
+    }
+}
@@ -3,17 +3,32 @@ package workflow_scheduling.utils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
+import workflow_scheduling.metrics.PipelineStage;
+import workflow_scheduling.metrics.StageTimer;
 import workflow_scheduling.model.LinkInfo;
 import workflow_scheduling.model.NodeInfo;
 import workflow_scheduling.model.WorkflowJson;
 
 /**
  * Utility class for converting workflow data to Argo Workflow YAML format for Kubernetes
+ *
+ * The manifest is streamed to a Writer. Besides the output, an export holds one task name
+ * per node and the dependency lists of the nodes, so its cost is linear in the size of
+ * the workflow.
  */
 public class ArgoYamlConverter {
     
@@ -30,152 +45,237 @@ public class ArgoYamlConverter {
             String criticalPathHostname, 
             String[] criticalPathNodes) {
         
-        StringBuilder yaml = new StringBuilder();
+        StringWriter yaml = new StringWriter();
+        try {
+            writeArgoYaml(workflow, yaml, criticalPathHostname, criticalPathNodes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringWriter does not throw
+        }
+        return yaml.toString();
+    }
+    
+    /**
+     * Converts a workflow to Argo Workflow YAML format with a hostname per task
+     * Typically used with the assignments of a static schedule (Schedule.getHostnameAssignments)
+     * 
+     * @param workflow The workflow to convert
+     * @param nodeHostnames Map of node ID to the hostname it must run on; nodes without
+     *                      an entry are left to Kubernetes
+     * @return Argo Workflow YAML representation as a string
+     */
+    public static String workflowToArgoYaml(WorkflowJson workflow, Map<String, String> nodeHostnames) {
+        StringWriter yaml = new StringWriter();
+        try {
+            writeArgoYaml(workflow, yaml, nodeHostnames);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringWriter does not throw
+        }
+        return yaml.toString();
+    }
+    
+    /**
+     * Writes a workflow in Argo Workflow YAML format
+     * The writer is neither buffered nor closed by this method.
+     * 
+     * @param workflow The workflow to convert
+     * @param out The writer to write the YAML to
+     * @param criticalPathHostname The hostname to use for critical path nodes
+     * @param criticalPathNodes Optional array of node IDs that form the critical path
+     * @throws IOException If writing fails
+     */
+    public static void writeArgoYaml(
+            WorkflowJson workflow,
+            Writer out,
+            String criticalPathHostname,
+            String[] criticalPathNodes) throws IOException {
+        
+        // Add nodeSelector ONLY for critical path nodes
+        Set<String> criticalNodes = criticalPathNodes != null && criticalPathHostname != null
+                && !criticalPathHostname.trim().isEmpty()
+            ? new HashSet<>(Arrays.asList(criticalPathNodes))
+            : Set.of();
+        writeArgoYaml(workflow, out, nodeId -> criticalNodes.contains(nodeId) ? criticalPathHostname : null,
+            "Critical path node");
+    }
+    
+    /**
+     * Writes a workflow in Argo Workflow YAML format with a hostname per task
+     * The writer is neither buffered nor closed by this method.
+     * 
+     * @param workflow The workflow to convert
+     * @param out The writer to write the YAML to
+     * @param nodeHostnames Map of node ID to the hostname it must run on; nodes without
+     *                      an entry are left to Kubernetes
+     * @throws IOException If writing fails
+     */
+    public static void writeArgoYaml(WorkflowJson workflow, Writer out, Map<String, String> nodeHostnames)
+            throws IOException {
+        writeArgoYaml(workflow, out, nodeHostnames::get, "Scheduled node");
+    }
+    
+    /**
+     * Streams the Argo Workflow YAML
+     * 
+     * @param workflow The workflow to convert
+     * @param out The writer to write the YAML to
+     * @param hostnameOf Gives the hostname for a node ID, or null to leave placement to Kubernetes
+     * @param selectorComment Comment appended to each nodeSelector hostname
+     * @throws IOException If writing fails
+     */
+    private static void writeArgoYaml(
+            WorkflowJson workflow,
+            Writer out,
+            Function<String, String> hostnameOf,
+            String selectorComment) throws IOException {
+        
+        StageTimer timer = StageTimer.start(PipelineStage.EXPORT);
         
         // Get workflow name (sanitized for Kubernetes)
         String workflowName = sanitizeKubernetesName(workflow.getGraph().getName());
         
         // Add Argo Workflow header
-        yaml.append("apiVersion: argoproj.io/v1alpha1\n");
-        yaml.append("kind: Workflow\n");
-        yaml.append("metadata:\n");
-        yaml.append("  name: ").append(workflowName).append("\n");
-        yaml.append("spec:\n");
-        yaml.append("  entrypoint: workflow-dag\n");
+        out.write("apiVersion: argoproj.io/v1alpha1\n");
+        out.write("kind: Workflow\n");
+        out.write("metadata:\n");
+        out.write("  name: " + workflowName + "\n");
+        out.write("spec:\n");
+        out.write("  entrypoint: workflow-dag\n");
         
-        yaml.append("  volumes:\n");
-        yaml.append("  - name: workflow-data\n");
-        yaml.append("    emptyDir: {}\n");
+        out.write("  volumes:\n");
+        out.write("  - name: workflow-data\n");
+        out.write("    emptyDir: {}\n");
         
         // Add templates section
-        yaml.append("  templates:\n");
+        out.write("  templates:\n");
         
         // Create DAG template
-        yaml.append("    - name: workflow-dag\n");
-        yaml.append("      dag:\n");
-        yaml.append("        tasks:\n");
+        out.write("    - name: workflow-dag\n");
+        out.write("      dag:\n");
+        out.write("        tasks:\n");
+        
+        // Sanitize every node ID once; dependency lists share the resulting strings
+        Map<String, String> taskNames = new HashMap<>(workflow.getNodes().length * 2);
+        for (NodeInfo node : workflow.getNodes()) {
+            taskNames.computeIfAbsent(node.getId(), id -> sanitizeKubernetesName(id).toLowerCase());
+        }
         
         // Find dependency relations for each node
-        Map<String, String[]> dependencies = findDependencies(workflow);
+        Map<String, List<String>> dependencies = findDependencies(workflow, taskNames);
         
         // Add task definitions to DAG
         for (NodeInfo node : workflow.getNodes()) {
-            String nodeId = node.getId();
-            String taskName = sanitizeKubernetesName(nodeId).toLowerCase();
-            String templateName = taskName + "-template";
+            String taskName = taskNames.get(node.getId());
             
-            yaml.append("        - name: ").append(taskName).append("\n");
+            out.write("        - name: ");
+            out.write(taskName);
+            out.write("\n");
             
             // Add dependencies if any
-            String[] deps = dependencies.get(nodeId);
-            if (deps != null && deps.length > 0) {
-                yaml.append("          dependencies: [");
-                for (int i = 0; i < deps.length; i++) {
+            List<String> deps = dependencies.get(node.getId());
+            if (deps != null) {
+                out.write("          dependencies: [");
+                for (int i = 0; i < deps.size(); i++) {
                     if (i > 0) {
-                        yaml.append(", ");
+                        out.write(", ");
                     }
-                    yaml.append(sanitizeKubernetesName(deps[i]).toLowerCase());
+                    out.write(deps.get(i));
                 }
-                yaml.append("]\n");
+                out.write("]\n");
             }
             
-            yaml.append("          template: ").append(templateName).append("\n");
+            out.write("          template: ");
+            out.write(taskName);
+            out.write("-template\n");
         }
         
         // Add task templates
         for (NodeInfo node : workflow.getNodes()) {
             String nodeId = node.getId();
-            String taskName = sanitizeKubernetesName(nodeId).toLowerCase();
-            String templateName = taskName + "-template";
             
-            yaml.append("\n");
-            yaml.append("    - name: ").append(templateName).append("\n");
+            out.write("\n");
+            out.write("    - name: ");
+            out.write(taskNames.get(nodeId));
+            out.write("-template\n");
             
-            // Determine if this node is on the critical path
-            boolean isOnCriticalPath = false;
-            if (criticalPathNodes != null) {
-                for (String cpNode : criticalPathNodes) {
-                    if (nodeId.equals(cpNode)) {
-                        isOnCriticalPath = true;
-                        break;
-                    }
-                }
-            }
-            
-            // Add nodeSelector ONLY for critical path nodes
-            if (isOnCriticalPath && criticalPathHostname != null && !criticalPathHostname.trim().isEmpty()) {
-                yaml.append("      nodeSelector:\n");
-                yaml.append("        kubernetes.io/hostname: ").append(criticalPathHostname);
-                yaml.append("  # Critical path node\n");
+            // Add nodeSelector only for nodes pinned to a host
+            String hostname = hostnameOf.apply(nodeId);
+            if (hostname != null) {
+                out.write("      nodeSelector:\n");
+                out.write("        kubernetes.io/hostname: ");
+                out.write(hostname);
+                out.write("  # ");
+                out.write(selectorComment);
+                out.write("\n");
             }
             
             // Add container specification
-            yaml.append("      container:\n");
-            yaml.append("        image: ubuntu:22.04\n");
-            yaml.append("        command: [\"/bin/bash\", \"-c\"]\n");
-            yaml.append("        args: [\"echo 'Executing ").append(nodeId)
-                .append(" task'; sleep ").append(node.getExecutionTime() / 1000.0).append("\"]\n");
+            out.write("      container:\n");
+            out.write("        image: ubuntu:22.04\n");
+            out.write("        command: [\"/bin/bash\", \"-c\"]\n");
+            out.write("        args: [\"echo 'Executing ");
+            out.write(nodeId);
+            out.write(" task'; sleep ");
+            out.write(Double.toString(node.getExecutionTime() / 1000.0));
+            out.write("\"]\n");
             
-            yaml.append("        volumeMounts:\n");
-            yaml.append("        - name: workflow-data\n");
-            yaml.append("          mountPath: /data\n");
+            out.write("        volumeMounts:\n");
+            out.write("        - name: workflow-data\n");
+            out.write("          mountPath: /data\n");
         }
         
-        return yaml.toString();
+        timer.stop(workflow.getGraph().getName(), workflow.getNodes().length, workflow.getLinks().length);
     }
     
     /**
      * Finds dependencies for each node based on incoming links
      * 
      * @param workflow The workflow
-     * @return Map of node ID to array of dependency node IDs
+     * @param taskNames Map of node ID to its task name
+     * @return Map of node ID to the task names of its dependencies, in link order
      */
-    private static Map<String, String[]> findDependencies(WorkflowJson workflow) {
-        // Create a map to track dependencies (target -> [sources])
-        Map<String, String[]> dependencyMap = new HashMap<>();
-        
-        // First, create multimap of target to sources
-        Map<String, java.util.List<String>> targetToSources = new HashMap<>();
-        
-        // Process all links to find dependencies
+    private static Map<String, List<String>> findDependencies(WorkflowJson workflow, Map<String, String> taskNames) {
+        Map<String, List<String>> targetToSources = new HashMap<>();
         for (LinkInfo link : workflow.getLinks()) {
-            String target = link.getTarget();
-            String source = link.getSource();
-            
-            if (!targetToSources.containsKey(target)) {
-                targetToSources.put(target, new java.util.ArrayList<>());
+            String source = taskNames.get(link.getSource());
+            if (source == null) {
+                // Links to undeclared nodes still produce a dependency, as before
+                source = sanitizeKubernetesName(link.getSource()).toLowerCase();
             }
-            targetToSources.get(target).add(source);
-        }
-        
-        // Convert to array format expected by the output
-        for (Map.Entry<String, java.util.List<String>> entry : targetToSources.entrySet()) {
-            String target = entry.getKey();
-            java.util.List<String> sources = entry.getValue();
-            dependencyMap.put(target, sources.toArray(new String[0]));
+            targetToSources.computeIfAbsent(link.getTarget(), target -> new ArrayList<>(2)).add(source);
         }
-        
-        return dependencyMap;
+        return targetToSources;
     }
     
     /**
-     * Sanitizes a name for Kubernetes (lowercase, alphanumeric with dashes)
+     * Sanitizes a name for Kubernetes (alphanumeric with dashes)
+     * Every run of other characters becomes a single dash, and leading and trailing
+     * dashes are dropped.
      * 
      * @param name The name to sanitize
      * @return Sanitized name
      */
-    private static String sanitizeKubernetesName(String name) {
-        // Replace spaces, underscores, and other non-alphanumeric chars with dashes
-        String sanitized = name.replaceAll("[^a-zA-Z0-9]", "-")
-                              .replaceAll("-+", "-") // Collapse multiple dashes
-                              .replaceAll("^-|-$", ""); // Remove leading/trailing dashes
+    static String sanitizeKubernetesName(String name) {
+        StringBuilder sanitized = new StringBuilder(name.length());
+        boolean pendingDash = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                if (pendingDash && sanitized.length() > 0) {
+                    sanitized.append('-');
+                }
+                pendingDash = false;
+                sanitized.append(c);
+            } else {
+                pendingDash = true;
+            }
+        }
         
         // Ensure it's not empty
-        if (sanitized.isEmpty()) {
-            sanitized = "task";
+        if (sanitized.length() == 0) {
+            return "task";
         }
         
-        return sanitized;
+        return sanitized.toString();
     }
     
     /**
@@ -201,9 +301,6 @@ public class ArgoYamlConverter {
         // Resolve the file path
         String fullPath = WorkflowLoader.resolveFilePath(filePath, defaultYamlDir, ".yaml");
         
-        // Generate YAML content
-        String yamlContent = workflowToArgoYaml(workflow, criticalPathHostname, criticalPathNodes);
-        
         // Ensure the directory exists
         File file = new File(fullPath);
         File parent = file.getParentFile();
@@ -211,9 +308,38 @@ public class ArgoYamlConverter {
             parent.mkdirs();
         }
         
-        // Write the content
-        Files.writeString(Paths.get(fullPath), yamlContent);
+        // Stream the content
+        try (Writer out = Files.newBufferedWriter(Paths.get(fullPath))) {
+            writeArgoYaml(workflow, out, criticalPathHostname, criticalPathNodes);
+        }
+        
+        return fullPath;
+    }
+    
+    /**
+     * Saves a workflow to an Argo Workflow YAML file with a hostname per task
+     * If only a filename is provided (no path separators), it saves to the default directory
+     * 
+     * @param workflow The workflow to save
+     * @param filePath Path or filename where the YAML file should be saved
+     * @param nodeHostnames Map of node ID to the hostname it must run on
+     * @return The full path where the file was saved
+     * @throws IOException If the file cannot be written
+     */
+    public static String saveToArgoYamlFile(
+            WorkflowJson workflow,
+            String filePath,
+            Map<String, String> nodeHostnames) throws IOException {
+        
+        String fullPath = WorkflowLoader.resolveFilePath(filePath, WorkflowLoader.getDefaultYamlDir(), ".yaml");
+        File parent = new File(fullPath).getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (Writer out = Files.newBufferedWriter(Paths.get(fullPath))) {
+            writeArgoYaml(workflow, out, nodeHostnames);
+        }
         
         return fullPath;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,308 @@
+// File: workflow_scheduling/utils/BinaryWorkflowFormat.java
+package workflow_scheduling.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.LinkInfo;
+import workflow_scheduling.model.NodeInfo;
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * Compact binary workflow format ("WFBN") and converters to and from JSON
+ *
+ * All values are little-endian. The file starts with a 32-byte header:
+ *   magic "WFBN", int version, int nodeCount, int edgeCount,
+ *   int nameBytes, int idBytes, long reserved (0)
+ * followed by these sections, each padded to a multiple of 4 bytes:
+ *   workflow name         UTF-8, nameBytes
+ *   execution times       int[nodeCount]
+ *   outgoing offsets      int[nodeCount + 1]   edges of node i are outOffsets[i]..outOffsets[i+1]-1
+ *   edge targets          int[edgeCount]
+ *   edge data amounts     int[edgeCount]
+ *   incoming offsets      int[nodeCount + 1]   same CSR layout over the incoming edge ids
+ *   incoming edge ids     int[edgeCount]
+ *   node ID offsets       int[nodeCount + 1]   byte offsets into the node ID bytes
+ *   node ID bytes         UTF-8, idBytes
+ *
+ * Nodes keep their order from the JSON file and the edges of a node keep their link order,
+ * so edge ids match those of the CompactGraph built by MappedWorkflow.toCompactGraph. A
+ * CompactGraph built from a WorkflowGraph follows HashMap order and numbers them differently.
+ * Distributions for the stochastic analysis are not stored. Every section is limited to
+ * 2 GB, i.e. about 500 million edges.
+ */
+public final class BinaryWorkflowFormat {
+    /** File magic */
+    public static final byte[] MAGIC = {'W', 'F', 'B', 'N'};
+
+    /** Current format version */
+    public static final int VERSION = 1;
+
+    /** Size of the header in bytes */
+    public static final int HEADER_SIZE = 32;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private BinaryWorkflowFormat() {
+    }
+
+    /**
+     * Converts a JSON workflow file to the binary format
+     *
+     * @param jsonFile The JSON workflow file
+     * @param binaryFile The binary file to write
+     * @throws IOException If a file cannot be read or written
+     */
+    public static void jsonToBinary(Path jsonFile, Path binaryFile) throws IOException {
+        write(WorkflowLoader.loadFromFile(jsonFile.toString()), binaryFile);
+    }
+
+    /**
+     * Converts a binary workflow file to JSON
+     * Streams from the mapped file, so the workflow is never materialized.
+     *
+     * @param binaryFile The binary workflow file
+     * @param jsonFile The JSON file to write
+     * @throws IOException If a file cannot be read or written
+     */
+    public static void binaryToJson(Path binaryFile, Path jsonFile) throws IOException {
+        try (MappedWorkflow workflow = MappedWorkflow.open(binaryFile);
+             OutputStream out = Files.newOutputStream(jsonFile);
+             JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            json.useDefaultPrettyPrinter();
+
+            json.writeStartObject();
+            json.writeBooleanField("directed", true);
+            json.writeObjectFieldStart("graph");
+            json.writeStringField("name", workflow.getName());
+            json.writeEndObject();
+
+            json.writeArrayFieldStart("nodes");
+            for (int i = 0; i < workflow.getNodeCount(); i++) {
+                json.writeStartObject();
+                json.writeStringField("id", workflow.getNodeId(i));
+                json.writeNumberField("execution_time", workflow.getExecutionTime(i));
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("links");
+            for (int i = 0; i < workflow.getNodeCount(); i++) {
+                String source = workflow.getNodeId(i);
+                for (int e = workflow.getOutOffset(i); e < workflow.getOutOffset(i + 1); e++) {
+                    json.writeStartObject();
+                    json.writeStringField("source", source);
+                    json.writeStringField("target", workflow.getNodeId(workflow.getEdgeTarget(e)));
+                    json.writeNumberField("data_amount", workflow.getEdgeDataAmount(e));
+                    json.writeEndObject();
+                }
+            }
+            json.writeEndArray();
+
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes a workflow in the binary format
+     *
+     * @param workflow The workflow to write
+     * @param file The file to write
+     * @throws IOException If the file cannot be written
+     * @throws IllegalArgumentException If a link refers to an unknown node
+     */
+    public static void write(WorkflowJson workflow, Path file) throws IOException {
+        NodeInfo[] nodes = workflow.getNodes();
+        LinkInfo[] links = workflow.getLinks();
+        int nodeCount = nodes.length;
+        int edgeCount = links.length;
+
+        String[] nodeIds = new String[nodeCount];
+        int[] executionTimes = new int[nodeCount];
+        Map<String, Integer> nodeIndex = new HashMap<>(nodeCount * 2);
+        for (int i = 0; i < nodeCount; i++) {
+            nodeIds[i] = nodes[i].getId();
+            executionTimes[i] = nodes[i].getExecutionTime();
+            nodeIndex.put(nodeIds[i], i);
+        }
+
+        // Group the links by source with a stable counting sort
+        int[] linkSources = new int[edgeCount];
+        int[] linkTargets = new int[edgeCount];
+        int[] outOffsets = new int[nodeCount + 1];
+        for (int k = 0; k < edgeCount; k++) {
+            linkSources[k] = requireNode(nodeIndex, links[k].getSource());
+            linkTargets[k] = requireNode(nodeIndex, links[k].getTarget());
+            outOffsets[linkSources[k] + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            outOffsets[i + 1] += outOffsets[i];
+        }
+        int[] edgeTargets = new int[edgeCount];
+        int[] edgeDataAmounts = new int[edgeCount];
+        int[] cursor = new int[nodeCount];
+        for (int k = 0; k < edgeCount; k++) {
+            int edge = outOffsets[linkSources[k]] + cursor[linkSources[k]]++;
+            edgeTargets[edge] = linkTargets[k];
+            edgeDataAmounts[edge] = links[k].getDataAmount();
+        }
+
+        write(new CompactGraph(workflow.getGraph().getName(), nodeIds, executionTimes,
+            outOffsets, edgeTargets, edgeDataAmounts, 0), file);
+    }
+
+    /**
+     * Writes a compact graph in the binary format
+     *
+     * @param graph The graph to write
+     * @param file The file to write
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(CompactGraph graph, Path file) throws IOException {
+        int nodeCount = graph.getNodeCount();
+        int edgeCount = graph.getEdgeCount();
+        byte[] name = graph.getName() == null ? new byte[0] : graph.getName().getBytes(StandardCharsets.UTF_8);
+
+        byte[][] idBytes = new byte[nodeCount][];
+        int[] idOffsets = new int[nodeCount + 1];
+        long totalIdBytes = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            idBytes[i] = graph.getNodeId(i).getBytes(StandardCharsets.UTF_8);
+            totalIdBytes += idBytes[i].length;
+            if (totalIdBytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Node IDs exceed the 2 GB limit of the binary format");
+            }
+            idOffsets[i + 1] = (int) totalIdBytes;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SectionWriter out = new SectionWriter(channel);
+
+            out.putBytes(MAGIC);
+            out.putInt(VERSION);
+            out.putInt(nodeCount);
+            out.putInt(edgeCount);
+            out.putInt(name.length);
+            out.putInt((int) totalIdBytes);
+            out.putLong(0);
+
+            out.putBytes(name);
+            out.pad();
+            out.putInts(graph.getExecutionTimes());
+            out.putInts(graph.getOutOffsets());
+            out.putInts(graph.getEdgeTargets());
+            out.putInts(graph.getEdgeDataAmounts());
+            out.putInts(graph.getInOffsets());
+            out.putInts(graph.getInEdges());
+            out.putInts(idOffsets);
+            for (byte[] id : idBytes) {
+                out.putBytes(id);
+            }
+            out.pad();
+            out.flush();
+        }
+    }
+
+    /**
+     * Gets the size of a section padded to a multiple of 4 bytes
+     *
+     * @param bytes Unpadded size in bytes
+     * @return Padded size in bytes
+     */
+    static long padded(long bytes) {
+        return (bytes + 3) & ~3L;
+    }
+
+    private static int requireNode(Map<String, Integer> nodeIndex, String nodeId) {
+        Integer index = nodeIndex.get(nodeId);
+        if (index == null) {
+            throw new IllegalArgumentException("Link refers to unknown node: " + nodeId);
+        }
+        return index;
+    }
+
+    /**
+     * Buffered little-endian writer on a file channel
+     */
+    private static final class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        SectionWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+            position += Integer.BYTES;
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+            position += Long.BYTES;
+        }
+
+        void putInts(int[] values) throws IOException {
+            int offset = 0;
+            while (offset < values.length) {
+                ensureRemaining(Integer.BYTES);
+                int count = Math.min(values.length - offset, buffer.remaining() / Integer.BYTES);
+                buffer.asIntBuffer().put(values, offset, count);
+                buffer.position(buffer.position() + count * Integer.BYTES);
+                offset += count;
+            }
+            position += (long) values.length * Integer.BYTES;
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRemaining(1);
+                int count = Math.min(bytes.length - offset, buffer.remaining());
+                buffer.put(bytes, offset, count);
+                offset += count;
+            }
+            position += bytes.length;
+        }
+
+        void pad() throws IOException {
+            while (position % 4 != 0) {
+                ensureRemaining(1);
+                buffer.put((byte) 0);
+                position++;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+// File: workflow_scheduling/utils/MappedWorkflow.java
+package workflow_scheduling.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import workflow_scheduling.model.CompactGraph;
+import workflow_scheduling.model.GraphInfo;
+import workflow_scheduling.model.LinkInfo;
+import workflow_scheduling.model.NodeInfo;
+import workflow_scheduling.model.WorkflowJson;
+
+/**
+ * Read-only view of a binary workflow file (see BinaryWorkflowFormat)
+ *
+ * Every section is memory-mapped through FileChannel.map, so opening a file only reads
+ * the header and the operating system pages data in on first access. Accessors read
+ * straight from the mapped sections; only getNodeId creates objects.
+ */
+public class MappedWorkflow implements AutoCloseable {
+    private final FileChannel channel;
+    private final String name;
+    private final int nodeCount;
+    private final int edgeCount;
+
+    private final IntBuffer executionTimes;
+    private final IntBuffer outOffsets;
+    private final IntBuffer edgeTargets;
+    private final IntBuffer edgeDataAmounts;
+    private final IntBuffer inOffsets;
+    private final IntBuffer inEdges;
+    private final IntBuffer idOffsets;
+    private final ByteBuffer idBytes;
+
+    private MappedWorkflow(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        ByteBuffer header = ByteBuffer.allocate(BinaryWorkflowFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("Not a binary workflow file: header is truncated");
+            }
+        }
+        header.flip();
+
+        byte[] magic = new byte[BinaryWorkflowFormat.MAGIC.length];
+        header.get(magic);
+        if (!Arrays.equals(magic, BinaryWorkflowFormat.MAGIC)) {
+            throw new IOException("Not a binary workflow file: bad magic");
+        }
+        int version = header.getInt();
+        if (version != BinaryWorkflowFormat.VERSION) {
+            throw new IOException("Unsupported binary workflow version " + version
+                + " (expected " + BinaryWorkflowFormat.VERSION + ")");
+        }
+        this.nodeCount = header.getInt();
+        this.edgeCount = header.getInt();
+        int nameBytes = header.getInt();
+        int idByteCount = header.getInt();
+        if (nodeCount < 0 || edgeCount < 0 || nameBytes < 0 || idByteCount < 0) {
+            throw new IOException("Corrupt binary workflow header");
+        }
+
+        long expectedSize = BinaryWorkflowFormat.HEADER_SIZE
+            + BinaryWorkflowFormat.padded(nameBytes)
+            + 4L * (nodeCount + 3L * (nodeCount + 1) + 3L * edgeCount)
+            + BinaryWorkflowFormat.padded(idByteCount);
+        if (channel.size() != expectedSize) {
+            throw new IOException("Corrupt binary workflow file: size " + channel.size()
+                + " does not match header (" + expectedSize + " bytes expected)");
+        }
+
+        long position = BinaryWorkflowFormat.HEADER_SIZE;
+        ByteBuffer nameBuffer = map(position, nameBytes);
+        byte[] nameArray = new byte[nameBytes];
+        nameBuffer.get(nameArray);
+        this.name = new String(nameArray, StandardCharsets.UTF_8);
+        position += BinaryWorkflowFormat.padded(nameBytes);
+
+        this.executionTimes = mapInts(position, nodeCount);
+        position += 4L * nodeCount;
+        this.outOffsets = mapInts(position, nodeCount + 1);
+        position += 4L * (nodeCount + 1);
+        this.edgeTargets = mapInts(position, edgeCount);
+        position += 4L * edgeCount;
+        this.edgeDataAmounts = mapInts(position, edgeCount);
+        position += 4L * edgeCount;
+        this.inOffsets = mapInts(position, nodeCount + 1);
+        position += 4L * (nodeCount + 1);
+        this.inEdges = mapInts(position, edgeCount);
+        position += 4L * edgeCount;
+        this.idOffsets = mapInts(position, nodeCount + 1);
+        position += 4L * (nodeCount + 1);
+        this.idBytes = map(position, idByteCount);
+    }
+
+    /**
+     * Opens and maps a binary workflow file
+     *
+     * @param file The binary workflow file
+     * @return The mapped workflow
+     * @throws IOException If the file cannot be read or is not a valid binary workflow
+     */
+    public static MappedWorkflow open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new MappedWorkflow(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer map(long position, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private IntBuffer mapInts(long position, int count) throws IOException {
+        return map(position, 4L * count).asIntBuffer();
+    }
+
+    /**
+     * Gets the ID of a node
+     *
+     * @param node The node ordinal
+     * @return The node ID, decoded from the string table
+     */
+    public String getNodeId(int node) {
+        int from = idOffsets.get(node);
+        int to = idOffsets.get(node + 1);
+        byte[] bytes = new byte[to - from];
+        idBytes.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Copies the graph into a CompactGraph for analysis
+     * The int sections are bulk-copied; only the node IDs are decoded one by one.
+     *
+     * @param transferRate The transfer rate for calculating transfer times
+     * @return The compact graph
+     */
+    public CompactGraph toCompactGraph(double transferRate) {
+        return new CompactGraph(name, decodeNodeIds(), copy(executionTimes), copy(outOffsets),
+            copy(edgeTargets), copy(edgeDataAmounts), transferRate);
+    }
+
+    /**
+     * Materializes the workflow as a WorkflowJson
+     *
+     * @return The workflow, with nodes in file order and links grouped by source
+     */
+    public WorkflowJson toWorkflowJson() {
+        NodeInfo[] nodes = new NodeInfo[nodeCount];
+        String[] nodeIds = decodeNodeIds();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes[i] = new NodeInfo(nodeIds[i], executionTimes.get(i));
+        }
+        LinkInfo[] links = new LinkInfo[edgeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            for (int e = outOffsets.get(i); e < outOffsets.get(i + 1); e++) {
+                links[e] = new LinkInfo(nodeIds[i], nodeIds[edgeTargets.get(e)], edgeDataAmounts.get(e));
+            }
+        }
+        return new WorkflowJson(true, new GraphInfo(name), nodes, links);
+    }
+
+    /**
+     * Decodes all node IDs from a single copy of the string table
+     */
+    private String[] decodeNodeIds() {
+        byte[] bytes = new byte[idBytes.capacity()];
+        idBytes.get(0, bytes);
+        int[] offsets = copy(idOffsets);
+        String[] nodeIds = new String[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            nodeIds[i] = new String(bytes, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+        }
+        return nodeIds;
+    }
+
+    private static int[] copy(IntBuffer section) {
+        int[] values = new int[section.capacity()];
+        section.get(0, values);
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Mappings stay valid until they are garbage collected
+        channel.close();
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public int getExecutionTime(int node) {
+        return executionTimes.get(node);
+    }
+
+    public int getOutOffset(int node) {
+        return outOffsets.get(node);
+    }
+
+    public int getEdgeTarget(int edge) {
+        return edgeTargets.get(edge);
+    }
+
+    public int getEdgeDataAmount(int edge) {
+        return edgeDataAmounts.get(edge);
+    }
+
+    public int getInOffset(int node) {
+        return inOffsets.get(node);
+    }
+
+    public int getInEdge(int k) {
+        return inEdges.get(k);
+    }
+}
@@ -0,0 +1,272 @@
+// File: workflow_scheduling/utils/PartitionedArgoYamlConverter.java
+package workflow_scheduling.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import workflow_scheduling.algoritms.WorkflowPartition;
+import workflow_scheduling.metrics.PipelineStage;
+import workflow_scheduling.metrics.StageTimer;
+import workflow_scheduling.model.CompactGraph;
+
+/**
+ * Converts a partitioned workflow to Argo YAML made of WorkflowTemplates
+ *
+ * A flat Argo Workflow holds one container template per task in a single object, which
+ * runs into the controller and etcd object size limits for large workflows. This converter
+ * writes a multi-document manifest instead:
+ *   - WorkflowTemplate "<name>-tasks" with the one parameterized container template that all
+ *     tasks share (plus a variant with a nodeSelector when tasks are pinned to hosts)
+ *   - One WorkflowTemplate "<name>-part-<i>" per partition, a DAG of the tasks of that
+ *     partition with their dependencies inside the partition
+ *   - The Workflow "<name>", a DAG of the partitions with their dependencies between each other
+ *
+ * Every object grows with the size of one partition, not with the whole workflow. A
+ * partition starts once all partitions it depends on have finished, so dependencies that
+ * cross partitions are kept, coarsened to the partition level.
+ */
+public class PartitionedArgoYamlConverter {
+    private static final String TASK_TEMPLATE = "run-task";
+    private static final String PINNED_TASK_TEMPLATE = "run-task-pinned";
+
+    /**
+     * Converts a partitioned workflow to multi-document Argo YAML
+     *
+     * @param partition The partition of the workflow graph
+     * @param nodeHostnames Map of node ID to the hostname it must run on, or null; nodes
+     *                      without an entry are left to Kubernetes
+     * @return Argo YAML representation as a string
+     */
+    public static String partitionToArgoYaml(WorkflowPartition partition, Map<String, String> nodeHostnames) {
+        StringWriter yaml = new StringWriter();
+        try {
+            writeArgoYaml(partition, yaml, nodeHostnames);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringWriter does not throw
+        }
+        return yaml.toString();
+    }
+
+    /**
+     * Writes a partitioned workflow as multi-document Argo YAML
+     * The writer is neither buffered nor closed by this method.
+     *
+     * @param partition The partition of the workflow graph
+     * @param out The writer to write the YAML to
+     * @param nodeHostnames Map of node ID to the hostname it must run on, or null; nodes
+     *                      without an entry are left to Kubernetes
+     * @throws IOException If writing fails
+     */
+    public static void writeArgoYaml(WorkflowPartition partition, Writer out, Map<String, String> nodeHostnames)
+            throws IOException {
+        StageTimer timer = StageTimer.start(PipelineStage.EXPORT);
+        CompactGraph graph = partition.getGraph();
+        String workflowName = ArgoYamlConverter.sanitizeKubernetesName(graph.getName()).toLowerCase();
+        String tasksTemplateName = workflowName + "-tasks";
+        boolean pinned = nodeHostnames != null && !nodeHostnames.isEmpty();
+
+        writeTaskTemplates(out, tasksTemplateName, pinned);
+        for (int p = 0; p < partition.getPartitionCount(); p++) {
+            out.write("---\n");
+            writePartitionTemplate(partition, p, out, workflowName, tasksTemplateName, pinned ? nodeHostnames : null);
+        }
+        out.write("---\n");
+        writeParentWorkflow(partition, out, workflowName);
+        timer.stop(graph.getName(), graph.getNodeCount(), graph.getEdgeCount());
+    }
+
+    /**
+     * Writes the WorkflowTemplate with the shared container templates
+     */
+    private static void writeTaskTemplates(Writer out, String name, boolean pinned) throws IOException {
+        out.write("apiVersion: argoproj.io/v1alpha1\n");
+        out.write("kind: WorkflowTemplate\n");
+        out.write("metadata:\n");
+        out.write("  name: " + name + "\n");
+        out.write("spec:\n");
+        out.write("  templates:\n");
+        writeContainerTemplate(out, TASK_TEMPLATE, false);
+        if (pinned) {
+            out.write("\n");
+            writeContainerTemplate(out, PINNED_TASK_TEMPLATE, true);
+        }
+    }
+
+    private static void writeContainerTemplate(Writer out, String name, boolean pinned) throws IOException {
+        out.write("    - name: " + name + "\n");
+        out.write("      inputs:\n");
+        out.write("        parameters:\n");
+        out.write("        - name: task-id\n");
+        out.write("        - name: duration\n");
+        if (pinned) {
+            out.write("        - name: hostname\n");
+            out.write("      nodeSelector:\n");
+            out.write("        kubernetes.io/hostname: \"{{inputs.parameters.hostname}}\"\n");
+        }
+        out.write("      container:\n");
+        out.write("        image: ubuntu:22.04\n");
+        out.write("        command: [\"/bin/bash\", \"-c\"]\n");
+        out.write("        args: [\"echo 'Executing {{inputs.parameters.task-id}} task'; sleep {{inputs.parameters.duration}}\"]\n");
+        // The volume is declared by the parent Workflow
+        out.write("        volumeMounts:\n");
+        out.write("        - name: workflow-data\n");
+        out.write("          mountPath: /data\n");
+    }
+
+    /**
+     * Writes the WorkflowTemplate with the DAG of one partition
+     */
+    private static void writePartitionTemplate(
+            WorkflowPartition partition,
+            int p,
+            Writer out,
+            String workflowName,
+            String tasksTemplateName,
+            Map<String, String> nodeHostnames) throws IOException {
+        CompactGraph graph = partition.getGraph();
+        int[] partitionOffsets = partition.getPartitionOffsets();
+        int[] partitionNodes = partition.getPartitionNodes();
+        int[] edgeSources = graph.getEdgeSources();
+        int[] inOffsets = graph.getInOffsets();
+        int[] inEdges = graph.getInEdges();
+
+        out.write("apiVersion: argoproj.io/v1alpha1\n");
+        out.write("kind: WorkflowTemplate\n");
+        out.write("metadata:\n");
+        out.write("  name: " + workflowName + "-part-" + p + "\n");
+        out.write("spec:\n");
+        out.write("  templates:\n");
+        out.write("    - name: dag\n");
+        out.write("      dag:\n");
+        out.write("        tasks:\n");
+
+        for (int i = partitionOffsets[p]; i < partitionOffsets[p + 1]; i++) {
+            int node = partitionNodes[i];
+            String nodeId = graph.getNodeId(node);
+
+            out.write("        - name: ");
+            out.write(taskName(nodeId));
+            out.write("\n");
+
+            // Dependencies inside the partition; the others are covered by the parent DAG
+            boolean first = true;
+            for (int k = inOffsets[node]; k < inOffsets[node + 1]; k++) {
+                int source = edgeSources[inEdges[k]];
+                if (partition.getPartition(source) != p) {
+                    continue;
+                }
+                out.write(first ? "          dependencies: [" : ", ");
+                out.write(taskName(graph.getNodeId(source)));
+                first = false;
+            }
+            if (!first) {
+                out.write("]\n");
+            }
+
+            String hostname = nodeHostnames != null ? nodeHostnames.get(nodeId) : null;
+            out.write("          templateRef:\n");
+            out.write("            name: " + tasksTemplateName + "\n");
+            out.write("            template: " + (hostname != null ? PINNED_TASK_TEMPLATE : TASK_TEMPLATE) + "\n");
+            out.write("          arguments:\n");
+            out.write("            parameters:\n");
+            writeParameter(out, "task-id", nodeId);
+            writeParameter(out, "duration", Double.toString(graph.getExecutionTime(node) / 1000.0));
+            if (hostname != null) {
+                writeParameter(out, "hostname", hostname);
+            }
+        }
+    }
+
+    /**
+     * Writes the Workflow that runs the partitions in dependency order
+     */
+    private static void writeParentWorkflow(WorkflowPartition partition, Writer out, String workflowName)
+            throws IOException {
+        int[] dependencyOffsets = partition.getDependencyOffsets();
+        int[] dependencyParts = partition.getDependencyParts();
+
+        out.write("apiVersion: argoproj.io/v1alpha1\n");
+        out.write("kind: Workflow\n");
+        out.write("metadata:\n");
+        out.write("  name: " + workflowName + "\n");
+        out.write("spec:\n");
+        out.write("  entrypoint: workflow-dag\n");
+
+        out.write("  volumes:\n");
+        out.write("  - name: workflow-data\n");
+        out.write("    emptyDir: {}\n");
+
+        out.write("  templates:\n");
+        out.write("    - name: workflow-dag\n");
+        out.write("      dag:\n");
+        out.write("        tasks:\n");
+        for (int p = 0; p < partition.getPartitionCount(); p++) {
+            out.write("        - name: part-" + p + "\n");
+            if (dependencyOffsets[p] < dependencyOffsets[p + 1]) {
+                out.write("          dependencies: [");
+                for (int k = dependencyOffsets[p]; k < dependencyOffsets[p + 1]; k++) {
+                    if (k > dependencyOffsets[p]) {
+                        out.write(", ");
+                    }
+                    out.write("part-" + dependencyParts[k]);
+                }
+                out.write("]\n");
+            }
+            out.write("          templateRef:\n");
+            out.write("            name: " + workflowName + "-part-" + p + "\n");
+            out.write("            template: dag\n");
+        }
+    }
+
+    private static void writeParameter(Writer out, String name, String value) throws IOException {
+        out.write("            - name: ");
+        out.write(name);
+        out.write("\n");
+        out.write("              value: \"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+            }
+            out.write(c);
+        }
+        out.write("\"\n");
+    }
+
+    private static String taskName(String nodeId) {
+        return ArgoYamlConverter.sanitizeKubernetesName(nodeId).toLowerCase();
+    }
+
+    /**
+     * Saves a partitioned workflow to a multi-document Argo YAML file
+     * If only a filename is provided (no path separators), it saves to the default directory
+     *
+     * @param partition The partition of the workflow graph
+     * @param filePath Path or filename where the YAML file should be saved
+     * @param nodeHostnames Map of node ID to the hostname it must run on, or null
+     * @return The full path where the file was saved
+     * @throws IOException If the file cannot be written
+     */
+    public static String saveToArgoYamlFile(
+            WorkflowPartition partition,
+            String filePath,
+            Map<String, String> nodeHostnames) throws IOException {
+
+        String fullPath = WorkflowLoader.resolveFilePath(filePath, WorkflowLoader.getDefaultYamlDir(), ".yaml");
+        File parent = new File(fullPath).getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (Writer out = Files.newBufferedWriter(Paths.get(fullPath))) {
+            writeArgoYaml(partition, out, nodeHostnames);
+        }
+
+        return fullPath;
+    }
+}
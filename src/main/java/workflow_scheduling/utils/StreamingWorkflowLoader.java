@@ -0,0 +1,237 @@
+// File: workflow_scheduling/utils/StreamingWorkflowLoader.java
+package workflow_scheduling.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import workflow_scheduling.metrics.PipelineStage;
+import workflow_scheduling.metrics.StageTimer;
+import workflow_scheduling.model.DurationDistribution;
+import workflow_scheduling.model.Edge;
+import workflow_scheduling.model.Node;
+import workflow_scheduling.model.WorkflowGraph;
+
+/**
+ * Loads a workflow JSON file straight into a WorkflowGraph
+ *
+ * The file is read token by token, so no intermediate WorkflowJson, NodeInfo or LinkInfo
+ * objects are created. Links take their node IDs from the already created nodes, which
+ * leaves one String per ID on the heap. The top-level fields may appear in any order:
+ * nodes read before the graph name and links read before their nodes are held back and
+ * attached at the end, keeping the link order of the file. Unknown fields are skipped.
+ *
+ * The result is the same graph that WorkflowLoader.createGraph builds from the file.
+ */
+public final class StreamingWorkflowLoader {
+
+    private StreamingWorkflowLoader() {
+    }
+
+    /**
+     * Loads a workflow graph from a JSON file
+     *
+     * @param file The JSON workflow file
+     * @param transferRate The transfer rate for calculating edge weights
+     * @return The workflow graph
+     * @throws IOException If the file cannot be read, is malformed or a link refers to an unknown node
+     */
+    public static WorkflowGraph load(Path file, double transferRate) throws IOException {
+        try (JsonParser parser = WorkflowLoader.MAPPER.createParser(file.toFile())) {
+            return read(parser, transferRate);
+        }
+    }
+
+    /**
+     * Loads a workflow graph from a JSON stream
+     * The stream is not closed.
+     *
+     * @param in The JSON input
+     * @param transferRate The transfer rate for calculating edge weights
+     * @return The workflow graph
+     * @throws IOException If the input cannot be read, is malformed or a link refers to an unknown node
+     */
+    public static WorkflowGraph load(InputStream in, double transferRate) throws IOException {
+        try (JsonParser parser = WorkflowLoader.MAPPER.createParser(in)) {
+            return read(parser, transferRate);
+        }
+    }
+
+    private static WorkflowGraph read(JsonParser parser, double transferRate) throws IOException {
+        StageTimer timer = StageTimer.start(PipelineStage.PARSE);
+        WorkflowGraph graph = readGraph(parser, transferRate);
+        timer.stop(graph.getName(), graph.getNodes().size(), graph.getEdges().size());
+        return graph;
+    }
+
+    private static WorkflowGraph readGraph(JsonParser parser, double transferRate) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Workflow JSON must be an object " + parser.getCurrentLocation());
+        }
+
+        GraphBuilder builder = new GraphBuilder(transferRate);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("graph".equals(field) && value == JsonToken.START_OBJECT) {
+                readGraphInfo(parser, builder);
+            } else if ("nodes".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readNode(parser, builder);
+                }
+            } else if ("links".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readLink(parser, builder);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return builder.finish();
+    }
+
+    private static void readGraphInfo(JsonParser parser, GraphBuilder builder) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                builder.setName(parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readNode(JsonParser parser, GraphBuilder builder) throws IOException {
+        String id = null;
+        int executionTime = 0;
+        DurationDistribution distribution = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsString();
+                case "execution_time" -> executionTime = parser.getValueAsInt();
+                case "execution_time_distribution" -> distribution = readDistribution(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        Node node = new Node(id, executionTime);
+        node.setExecutionTimeDistribution(distribution);
+        builder.addNode(node);
+    }
+
+    private static void readLink(JsonParser parser, GraphBuilder builder) throws IOException {
+        String source = null;
+        String target = null;
+        int dataAmount = 0;
+        DurationDistribution distribution = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "source" -> source = parser.getValueAsString();
+                case "target" -> target = parser.getValueAsString();
+                case "data_amount" -> dataAmount = parser.getValueAsInt();
+                case "data_amount_distribution" -> distribution = readDistribution(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        builder.addLink(source, target, dataAmount, distribution);
+    }
+
+    private static DurationDistribution readDistribution(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return parser.readValueAs(DurationDistribution.class);
+    }
+
+    /**
+     * Link that could not be attached yet because the graph or one of its nodes did not exist
+     */
+    private record PendingLink(String source, String target, int dataAmount, DurationDistribution distribution) {
+    }
+
+    /**
+     * Attaches nodes and links to the graph as soon as the file order allows it
+     */
+    private static final class GraphBuilder {
+        private final double transferRate;
+        private String name;
+        private WorkflowGraph graph;
+        private final List<Node> pendingNodes = new ArrayList<>();
+        private final List<PendingLink> pendingLinks = new ArrayList<>();
+
+        GraphBuilder(double transferRate) {
+            this.transferRate = transferRate;
+        }
+
+        void setName(String name) {
+            this.name = name;
+            if (graph == null) {
+                createGraph();
+            }
+        }
+
+        void addNode(Node node) {
+            if (graph != null) {
+                graph.addNode(node);
+            } else {
+                pendingNodes.add(node);
+            }
+        }
+
+        void addLink(String source, String target, int dataAmount, DurationDistribution distribution) {
+            // Once a link is held back, all later links are too, so the link order is kept
+            if (graph != null && pendingLinks.isEmpty()) {
+                Node sourceNode = graph.getNode(source);
+                Node targetNode = graph.getNode(target);
+                if (sourceNode != null && targetNode != null) {
+                    graph.addEdge(createEdge(sourceNode.getId(), targetNode.getId(), dataAmount, distribution));
+                    return;
+                }
+            }
+            pendingLinks.add(new PendingLink(source, target, dataAmount, distribution));
+        }
+
+        WorkflowGraph finish() throws IOException {
+            if (graph == null) {
+                createGraph();
+            }
+            for (PendingLink link : pendingLinks) {
+                graph.addEdge(createEdge(requireNode(link.source()), requireNode(link.target()),
+                    link.dataAmount(), link.distribution()));
+            }
+            pendingLinks.clear();
+            return graph;
+        }
+
+        private void createGraph() {
+            graph = new WorkflowGraph(name);
+            for (Node node : pendingNodes) {
+                graph.addNode(node);
+            }
+            pendingNodes.clear();
+        }
+
+        private Edge createEdge(String source, String target, int dataAmount, DurationDistribution distribution) {
+            Edge edge = new Edge(source, target, dataAmount, transferRate);
+            edge.setDataAmountDistribution(distribution);
+            return edge;
+        }
+
+        private String requireNode(String nodeId) throws IOException {
+            Node node = graph.getNode(nodeId);
+            if (node == null) {
+                throw new IOException("Link refers to unknown node: " + nodeId);
+            }
+            return node.getId();
+        }
+    }
+}
@@ -3,9 +3,12 @@ package workflow_scheduling.utils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import workflow_scheduling.metrics.PipelineStage;
+import workflow_scheduling.metrics.StageTimer;
 import workflow_scheduling.model.Edge;
 import workflow_scheduling.model.LinkInfo;
 import workflow_scheduling.model.Node;
@@ -22,6 +25,9 @@ public class WorkflowLoader {
     private static final String DEFAULT_JSON_DIR = "src/main/java/workflow_scheduling/exampleWorkflows";
     private static final String DEFAULT_YAML_DIR = "src/main/java/workflow_scheduling/exampleYamlFiles";
     
+    // Shared mapper; ObjectMapper is thread-safe once configured and expensive to create
+    static final ObjectMapper MAPPER = new ObjectMapper();
+    
     /**
      * Loads a workflow from a JSON file
      * 
@@ -30,8 +36,24 @@ public class WorkflowLoader {
      * @throws IOException If the file cannot be read or parsed
      */
     public static WorkflowJson loadFromFile(String filePath) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(new File(filePath), WorkflowJson.class);
+        StageTimer timer = StageTimer.start(PipelineStage.PARSE);
+        WorkflowJson workflow = MAPPER.readValue(new File(filePath), WorkflowJson.class);
+        stopParse(timer, workflow);
+        return workflow;
+    }
+    
+    /**
+     * Loads a workflow JSON file directly into a graph
+     * Streams the file instead of materializing a WorkflowJson, so prefer this over
+     * loadFromFile followed by createGraph when only the graph is needed.
+     * 
+     * @param filePath Path to the JSON file
+     * @param transferRate The transfer rate for calculating edge weights
+     * @return The workflow graph
+     * @throws IOException If the file cannot be read or parsed
+     */
+    public static WorkflowGraph loadGraph(String filePath, double transferRate) throws IOException {
+        return StreamingWorkflowLoader.load(Path.of(filePath), transferRate);
     }
     
     /**
@@ -42,8 +64,16 @@ public class WorkflowLoader {
      * @throws IOException If the JSON cannot be parsed
      */
     public static WorkflowJson loadFromString(String jsonContent) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.readValue(jsonContent, WorkflowJson.class);
+        StageTimer timer = StageTimer.start(PipelineStage.PARSE);
+        WorkflowJson workflow = MAPPER.readValue(jsonContent, WorkflowJson.class);
+        stopParse(timer, workflow);
+        return workflow;
+    }
+    
+    private static void stopParse(StageTimer timer, WorkflowJson workflow) {
+        timer.stop(workflow.getGraph() != null ? workflow.getGraph().getName() : null,
+            workflow.getNodes() != null ? workflow.getNodes().length : 0,
+            workflow.getLinks() != null ? workflow.getLinks().length : 0);
     }
     
     /**
@@ -71,8 +101,7 @@ public class WorkflowLoader {
             fullPath += ".json";
         }
         
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writerWithDefaultPrettyPrinter().writeValue(new File(fullPath), workflow);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(new File(fullPath), workflow);
         return fullPath;
     }
     
@@ -84,11 +113,13 @@ public class WorkflowLoader {
      * @return A WorkflowGraph object
      */
     public static WorkflowGraph createGraph(WorkflowJson workflow, double transferRate) {
+        StageTimer timer = StageTimer.start(PipelineStage.GRAPH_BUILD);
         WorkflowGraph graph = new WorkflowGraph(workflow.getGraph().getName());
         
         // Add nodes
         for (NodeInfo nodeInfo : workflow.getNodes()) {
             Node node = new Node(nodeInfo.getId(), nodeInfo.getExecutionTime());
+            node.setExecutionTimeDistribution(nodeInfo.getExecutionTimeDistribution());
             graph.addNode(node);
         }
         
@@ -100,9 +131,11 @@ public class WorkflowLoader {
                 linkInfo.getDataAmount(),
                 transferRate
             );
+            edge.setDataAmountDistribution(linkInfo.getDataAmountDistribution());
             graph.addEdge(edge);
         }
         
+        timer.stop(graph.getName(), workflow.getNodes().length, workflow.getLinks().length);
         return graph;
     }
     
@@ -5,6 +5,7 @@ import java.io.File;
 import java.io.IOException;
 
 import workflow_scheduling.algoritms.CpmAnalyzer;
+import workflow_scheduling.algoritms.CpmResult;
 import workflow_scheduling.model.WorkflowGraph;
 import workflow_scheduling.model.WorkflowJson;
 import workflow_scheduling.utils.WorkflowLoader;
@@ -42,7 +43,7 @@ public class workflowMain {
             // Step 4: Run CPM analysis
             System.out.println("\nRunning Critical Path Method (CPM) analysis...");
             CpmAnalyzer cpmAnalyzer = new CpmAnalyzer(graph);
-            cpmAnalyzer.calculateCriticalPath();
+            CpmResult cpmResult = cpmAnalyzer.calculateCriticalPath();
             //cpmAnalyzer.printAnalysisResults();
 
 /*             System.out.println("\nRunning Critical Path Method (CPM) analysis with transfer time...");
@@ -51,6 +52,9 @@ public class workflowMain {
             cpm.printAnalysisResults(); */
             cpmAnalyzer.printDetailedAnalysisResults();
             
+            // Copy the results onto the graph so the visualizer can highlight the critical path
+            cpmResult.applyTo(graph);
+            
             // Step 5: Visualize the workflow
             System.out.println("\nDisplaying workflow visualization...");
             System.out.println("(Close the visualization window to exit the program)");